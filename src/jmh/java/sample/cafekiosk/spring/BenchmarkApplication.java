@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트를 띄운다.
+ * SQL 로그와 data.sql 초기화는 측정에 방해가 되기 때문에 끈다.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(CafekioskApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.sql.init.mode=never",
+                "logging.level.root=warn"
+            )
+            .properties(properties)
+            .run();
+    }
+}
@@ -0,0 +1,88 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import sample.cafekiosk.spring.BenchmarkApplication;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+/**
+ * 64개 스레드가 동시에 주문을 요청할 때 group commit 배치 크기별 처리량과 지연 시간을 측정한다.
+ * <p>
+ * 기준값은 group commit 없이 요청 스레드에서 바로 {@link OrderService#createOrder} 를 호출하는 createOrderDirectly 이다.
+ * max-batch-size=1 은 기준값이 아니다. 요청마다 트랜잭션을 열지만 모든 요청이 큐와 전용 스레드 하나를 거치므로 커밋이 직렬화된다.
+ * (createOrderDirectly 는 배치 파라미터와 관계없으므로 파라미터 조합 하나만 보면 된다.)
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=OrderGroupCommitBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class OrderGroupCommitBenchmark {
+
+    @Param({"1", "8", "32", "128"})
+    private int maxBatchSize;
+
+    @Param({"200", "1000"})
+    private int maxWaitMicros;
+
+    private ConfigurableApplicationContext context;
+    private OrderGroupCommitter orderGroupCommitter;
+    private OrderService orderService;
+    private OrderCreateServiceRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+            "cafekiosk.order.group-commit.enabled=true",
+            "cafekiosk.order.group-commit.max-batch-size=" + maxBatchSize,
+            "cafekiosk.order.group-commit.max-wait-micros=" + maxWaitMicros,
+            "spring.datasource.hikari.maximum-pool-size=4"
+        );
+
+        context.getBean(ProductRepository.class).saveAll(List.of(
+            createProduct("001", HANDMADE),
+            createProduct("002", HANDMADE)
+        ));
+
+        orderGroupCommitter = context.getBean(OrderGroupCommitter.class);
+        orderService = context.getBean(OrderService.class);
+        request = new OrderCreateServiceRequest(List.of("001", "002"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderGroupCommitter.createOrder(request);
+    }
+
+    @Benchmark
+    public OrderResponse createOrderDirectly() {
+        return orderService.createOrder(request, LocalDateTime.now());
+    }
+
+    private static Product createProduct(String productNumber, ProductType type) {
+        return Product.builder()
+            .productNumber(productNumber)
+            .type(type)
+            .sellingStatus(SELLING)
+            .name("메뉴 이름")
+            .price(1000)
+            .build();
+    }
+}
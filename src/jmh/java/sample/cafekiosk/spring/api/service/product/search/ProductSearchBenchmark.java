@@ -0,0 +1,90 @@
+package sample.cafekiosk.spring.api.service.product.search;
+
+import org.openjdk.jmh.annotations.*;
+import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 10만 개의 이름에서 자동완성 검색을 할 때
+ * 메모리 n-gram 색인(index)과 이름을 하나씩 비교하는 방식(scan, LIKE '%..%' 와 같은 전체 탐색)의 응답 시간을 비교한다.
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=ProductSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class ProductSearchBenchmark {
+
+    private static final int PRODUCT_COUNT = 100_000;
+    private static final int LIMIT = 10;
+    private static final String[] PREFIXES = {"아이스", "따뜻한", "디카페인", "시즌", "수제", "유기농", "미니", "그란데"};
+    private static final String[] MENUS = {
+        "아메리카노", "카페라떼", "바닐라라떼", "카라멜마끼아또", "콜드브루", "녹차라떼", "유자차", "자몽에이드",
+        "레몬에이드", "초코라떼", "딸기스무디", "망고스무디", "크루아상", "베이글", "치즈케이크", "생수"
+    };
+    private static final String[] SUFFIXES = {"", "세트", "라지", "스페셜", "리필"};
+
+    @Param({"아메리", "아멜", "ㅋㄹㅁ", "스무디", "생수세트"})
+    private String query;
+
+    private ProductNameIndex index;
+    private List<ProductResponse> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ProductType[] types = ProductType.values();
+        ProductSellingStatus[] sellingStatuses = ProductSellingStatus.values();
+
+        products = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            String name = PREFIXES[random.nextInt(PREFIXES.length)] + " "
+                + MENUS[random.nextInt(MENUS.length)]
+                + SUFFIXES[random.nextInt(SUFFIXES.length)] + " " + i;
+            products.add(new ProductResponse(
+                (long) i,
+                String.format("%06d", i),
+                types[random.nextInt(types.length)],
+                sellingStatuses[random.nextInt(sellingStatuses.length)],
+                name,
+                1000 + random.nextInt(10) * 500
+            ));
+        }
+
+        index = new ProductNameIndex();
+        index.replaceAll(products);
+    }
+
+    @Benchmark
+    public List<ProductResponse> index() {
+        return index.search(query, null, ProductSellingStatus.SELLING, LIMIT);
+    }
+
+    @Benchmark
+    public List<ProductResponse> scan() {
+        boolean choseongQuery = HangulJamo.isChoseongQuery(query);
+        String key = choseongQuery ? HangulJamo.choseong(query) : HangulJamo.decompose(query);
+
+        List<ProductResponse> results = new ArrayList<>(LIMIT);
+        for (ProductResponse product : products) {
+            if (product.sellingStatus() != ProductSellingStatus.SELLING) {
+                continue;
+            }
+            String name = choseongQuery ? HangulJamo.choseong(product.name()) : HangulJamo.decompose(product.name());
+            if (name.contains(key)) {
+                results.add(product);
+                if (results.size() == LIMIT) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,81 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import sample.cafekiosk.spring.BenchmarkApplication;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+
+/**
+ * 재고 상품(BOTTLE/BAKERY)만 담긴 주문을 여러 스레드에서 동시에 생성하면서
+ * 기존 조회-수정-저장 방식(jpa)과 메모리 재고 원장(ledger)의 처리량을 비교한다.
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=StockDeductionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class StockDeductionBenchmark {
+
+    @Param({"jpa", "ledger"})
+    private String deduction;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderCreateServiceRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("cafekiosk.stock.deduction=" + deduction);
+
+        context.getBean(ProductRepository.class).saveAll(List.of(
+            createProduct("001", BOTTLE),
+            createProduct("002", BAKERY)
+        ));
+        context.getBean(StockRepository.class).saveAll(List.of(
+            Stock.create("001", Integer.MAX_VALUE),
+            Stock.create("002", Integer.MAX_VALUE)
+        ));
+        if ("ledger".equals(deduction)) {
+            context.getBean(StockLedger.class).recover();
+        }
+
+        orderService = context.getBean(OrderService.class);
+        request = new OrderCreateServiceRequest(List.of("001", "002"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.createOrder(request, LocalDateTime.now());
+    }
+
+    private static Product createProduct(String productNumber, ProductType type) {
+        return Product.builder()
+            .productNumber(productNumber)
+            .type(type)
+            .sellingStatus(SELLING)
+            .name("메뉴 이름")
+            .price(1000)
+            .build();
+    }
+}
@@ -0,0 +1,90 @@
+package sample.cafekiosk.spring.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import sample.cafekiosk.spring.BenchmarkApplication;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+/**
+ * 동시 요청 2,000건을 처리하는 시간을 요청 처리 스레드 모델별로 비교한다.
+ * <p>
+ * - platform : Tomcat 기본값과 같은 200개 플랫폼 스레드 풀
+ * - virtual  : 요청마다 가상 스레드 (virtual-threads 프로필, 커넥션 허가 세마포어 포함)
+ * <p>
+ * 각 요청은 주문을 생성한 뒤 외부 메일 서버 호출을 흉내 내는 20ms 대기를 포함한다.
+ * ./gradlew jmh -Pjmh.includes=VirtualThreadLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final long MAIL_LATENCY_MILLIS = 20;
+
+    @Param({"platform", "virtual"})
+    private String threadModel;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService executor;
+    private OrderService orderService;
+    private OrderCreateServiceRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(threadModel)) {
+            context = BenchmarkApplication.start("spring.profiles.active=local,virtual-threads");
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            context = BenchmarkApplication.start("spring.datasource.hikari.maximum-pool-size=20");
+            executor = Executors.newFixedThreadPool(200);
+        }
+
+        context.getBean(ProductRepository.class).save(Product.builder()
+            .productNumber("001")
+            .type(HANDMADE)
+            .sellingStatus(SELLING)
+            .name("메뉴 이름")
+            .price(1000)
+            .build());
+
+        orderService = context.getBean(OrderService.class);
+        request = new OrderCreateServiceRequest(List.of("001"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public int handleConcurrentRequests() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                orderService.createOrder(request, LocalDateTime.now());
+                Thread.sleep(MAIL_LATENCY_MILLIS);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+}
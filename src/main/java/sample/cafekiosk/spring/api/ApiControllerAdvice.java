@@ -6,6 +6,7 @@ import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import sample.cafekiosk.spring.api.service.order.journal.OrderAcceptanceRejectedException;
 
 @RestControllerAdvice
 public class ApiControllerAdvice {
@@ -20,4 +21,24 @@ public class ApiControllerAdvice {
             null
         );
     }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ApiResponse<Object> illegalArgumentException(IllegalArgumentException e) {
+        return ApiResponse.of(
+            HttpStatus.BAD_REQUEST,
+            e.getMessage(),
+            null
+        );
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(OrderAcceptanceRejectedException.class)
+    public ApiResponse<Object> orderAcceptanceRejectedException(OrderAcceptanceRejectedException e) {
+        return ApiResponse.of(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            e.getMessage(),
+            null
+        );
+    }
 }
@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.api.controller.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.mail.MailOutboxDispatcher;
+import sample.cafekiosk.spring.api.service.mail.response.MailOutboxMetricsResponse;
+
+@RequiredArgsConstructor
+@RestController
+public class MailOutboxController {
+
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+
+    @GetMapping("/api/v1/mail/outbox/metrics")
+    public ApiResponse<MailOutboxMetricsResponse> getMetrics() {
+        return ApiResponse.ok(mailOutboxDispatcher.getMetrics());
+    }
+}
@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.journal.OrderAcceptanceService;
+import sample.cafekiosk.spring.api.service.order.response.OrderAcceptanceResponse;
+
+import java.time.LocalDateTime;
+
+@ConditionalOnProperty(name = "cafekiosk.order.journal.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@RestController
+public class OrderAcceptanceController {
+
+    private final OrderAcceptanceService orderAcceptanceService;
+
+    @PostMapping("/api/v1/orders/accept")
+    public ResponseEntity<ApiResponse<OrderAcceptanceResponse>> acceptOrder(@Valid @RequestBody OrderCreateRequest request) {
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        OrderAcceptanceResponse response = orderAcceptanceService.accept(request.toServiceRequest(), registeredDateTime);
+        return ResponseEntity.accepted()
+            .body(ApiResponse.of(HttpStatus.ACCEPTED, response));
+    }
+
+    @GetMapping("/api/v1/orders/accept/{token}")
+    public ApiResponse<OrderAcceptanceResponse> getAcceptance(@PathVariable String token) {
+        return ApiResponse.ok(orderAcceptanceService.getAcceptance(token));
+    }
+}
@@ -2,25 +2,70 @@ package sample.cafekiosk.spring.api.controller.order;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.request.OrderSearchCond;
+import sample.cafekiosk.spring.api.service.order.OrderGroupCommitter;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.response.OrderBulkResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderCursorResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+
 @RequiredArgsConstructor
 @RestController
 public class OrderController {
 
     private final OrderService orderService;
+    private final ObjectProvider<OrderGroupCommitter> orderGroupCommitter;
 
     @PostMapping("/api/v1/orders/new")
     public ApiResponse<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request) {
+        OrderGroupCommitter groupCommitter = orderGroupCommitter.getIfAvailable();
+        if (groupCommitter != null) {
+            return ApiResponse.ok(groupCommitter.createOrder(request.toServiceRequest()));
+        }
+
         LocalDateTime registeredDateTime = LocalDateTime.now();
         return ApiResponse.ok(orderService.createOrder(request.toServiceRequest(), registeredDateTime));
     }
+
+    @GetMapping("/api/v1/orders")
+    public ApiResponse<OrderCursorResponse> getOrders(
+        @RequestParam(required = false) OrderStatus orderStatus,
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate registeredDate,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        OrderSearchCond condition = new OrderSearchCond(
+            orderStatus,
+            registeredDate == null ? null : registeredDate.atStartOfDay()
+        );
+        return ApiResponse.ok(orderService.getOrders(condition, cursor, size));
+    }
+
+    @GetMapping("/api/v1/orders/{orderId}")
+    public ApiResponse<OrderResponse> getOrder(@PathVariable Long orderId) {
+        return ApiResponse.ok(orderService.getOrder(orderId));
+    }
+
+    @PostMapping("/api/v1/orders/bulk")
+    public ApiResponse<OrderBulkResponse> createOrders(@Valid @RequestBody OrderBulkCreateRequest request) {
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        return ApiResponse.ok(orderService.createBulkOrders(request.toServiceRequests(), registeredDateTime));
+    }
 }
@@ -0,0 +1,51 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import sample.cafekiosk.spring.api.service.order.OrderExportFormat;
+import sample.cafekiosk.spring.api.service.order.OrderExportService;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+
+@RequiredArgsConstructor
+@RestController
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    /**
+     * 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 커서를 읽으며 바로 쓴다.
+     */
+    @GetMapping("/api/v1/orders/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+        @RequestParam(defaultValue = "NDJSON") OrderExportFormat format,
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate to,
+        @RequestParam(required = false) OrderStatus orderStatus
+    ) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        StreamingResponseBody body = outputStream -> orderExportService.export(format, from, to, orderStatus, outputStream);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("orders." + format.getExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+}
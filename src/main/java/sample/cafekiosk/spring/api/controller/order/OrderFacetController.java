@@ -0,0 +1,43 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderFacetSearchCond;
+import sample.cafekiosk.spring.api.service.order.facet.OrderFacetService;
+import sample.cafekiosk.spring.api.service.order.response.OrderFacetResponse;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+
+@RequiredArgsConstructor
+@RestController
+public class OrderFacetController {
+
+    private final OrderFacetService orderFacetService;
+
+    @GetMapping("/api/v1/orders/facets")
+    public ApiResponse<OrderFacetResponse> searchOrders(
+        @RequestParam(required = false) Set<OrderStatus> orderStatuses,
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate to,
+        @RequestParam(required = false) Set<ProductType> productTypes,
+        @RequestParam(required = false) Set<String> productNumbers,
+        @RequestParam(required = false) Integer minTotalPrice,
+        @RequestParam(required = false) Integer maxTotalPrice,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        OrderFacetSearchCond condition = new OrderFacetSearchCond(
+            orderStatuses, from, to, productTypes, productNumbers, minTotalPrice, maxTotalPrice
+        );
+        return ApiResponse.ok(orderFacetService.searchOrders(condition, page, size));
+    }
+}
@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.order.leaderboard.OrderLeaderboard;
+import sample.cafekiosk.spring.api.service.order.response.OrderRankResponse;
+import sample.cafekiosk.spring.api.service.order.response.ProductSalesResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+
+@RequiredArgsConstructor
+@RestController
+public class OrderLeaderboardController {
+
+    private final OrderLeaderboard orderLeaderboard;
+
+    @GetMapping("/api/v1/orders/leaderboard/orders")
+    public ApiResponse<List<OrderRankResponse>> getTopOrders(
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate date,
+        @RequestParam(defaultValue = "10") int k
+    ) {
+        return ApiResponse.ok(orderLeaderboard.getTopOrders(date, k));
+    }
+
+    @GetMapping("/api/v1/orders/leaderboard/products")
+    public ApiResponse<List<ProductSalesResponse>> getTopProducts(
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate date,
+        @RequestParam(defaultValue = "10") int k
+    ) {
+        return ApiResponse.ok(orderLeaderboard.getTopProducts(date, k));
+    }
+}
@@ -0,0 +1,27 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.order.metrics.OrderSalesWindow;
+import sample.cafekiosk.spring.api.service.order.response.OrderSalesWindowResponse;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class OrderMetricsController {
+
+    private final OrderSalesWindow orderSalesWindow;
+
+    @GetMapping("/api/v1/orders/metrics/sales")
+    public ApiResponse<List<OrderSalesWindowResponse>> getSales(
+        @RequestParam(defaultValue = "1,5,60") List<Integer> minutes
+    ) {
+        return ApiResponse.ok(minutes.stream()
+            .map(orderSalesWindow::getSales)
+            .toList());
+    }
+}
@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderStatisticsMailRequest;
+import sample.cafekiosk.spring.api.service.order.OrderStatisticsService;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsMailResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsResponse;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+
+@RequiredArgsConstructor
+@RestController
+public class OrderStatisticsController {
+
+    private final OrderStatisticsService orderStatisticsService;
+
+    @GetMapping("/api/v1/orders/statistics")
+    public ApiResponse<OrderStatisticsResponse> getOrderStatistics(
+        @RequestParam @DateTimeFormat(iso = DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DATE) LocalDate to,
+        @RequestParam(defaultValue = "PAYMENT_COMPLETED") OrderStatus orderStatus
+    ) {
+        return ApiResponse.ok(orderStatisticsService.getOrderStatistics(from, to, orderStatus));
+    }
+
+    @PostMapping("/api/v1/orders/statistics/rebuild")
+    public ApiResponse<Integer> rebuildDailySales(
+        @RequestParam @DateTimeFormat(iso = DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DATE) LocalDate to
+    ) {
+        return ApiResponse.ok(orderStatisticsService.rebuildDailySales(from, to));
+    }
+
+    @PostMapping("/api/v1/orders/statistics/mail")
+    public ApiResponse<OrderStatisticsMailResponse> sendOrderStatisticsMails(@Valid @RequestBody OrderStatisticsMailRequest request) {
+        return ApiResponse.ok(orderStatisticsService.sendOrderStatisticsMails(request.toServiceRequest()));
+    }
+}
@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderStatusTransitionRequest;
+import sample.cafekiosk.spring.api.service.order.OrderStatusTransitionService;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatusTransitionResponse;
+
+@RequiredArgsConstructor
+@RestController
+public class OrderStatusTransitionController {
+
+    private final OrderStatusTransitionService orderStatusTransitionService;
+
+    @PostMapping("/api/v1/orders/status-transitions")
+    public ResponseEntity<ApiResponse<OrderStatusTransitionResponse>> startTransition(@Valid @RequestBody OrderStatusTransitionRequest request) {
+        OrderStatusTransitionResponse response = orderStatusTransitionService.start(request.orderStatus(), request.start(), request.end());
+        return ResponseEntity.accepted()
+            .body(ApiResponse.of(HttpStatus.ACCEPTED, response));
+    }
+
+    @GetMapping("/api/v1/orders/status-transitions/{id}")
+    public ApiResponse<OrderStatusTransitionResponse> getTransition(@PathVariable Long id) {
+        return ApiResponse.ok(orderStatusTransitionService.getTransition(id));
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+
+import java.util.List;
+
+public record OrderBulkCreateRequest(
+    @NotEmpty(message = "주문이 누락되어선 안됩니다.")
+    @Size(max = OrderService.MAX_BULK_ORDER_COUNT, message = "주문은 한 번에 " + OrderService.MAX_BULK_ORDER_COUNT + "건까지 요청할 수 있습니다.")
+    List<@Valid OrderCreateRequest> orders
+) {
+    public List<OrderCreateServiceRequest> toServiceRequests() {
+        return orders.stream()
+            .map(OrderCreateRequest::toServiceRequest)
+            .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 같은 조건 안의 값은 OR, 조건끼리는 AND 로 묶는다. 비어 있는 조건은 거르지 않는다.
+ *
+ * @param from 비어 있으면 facet 색인이 유지하는 가장 이른 날짜
+ * @param to   비어 있으면 오늘 (포함)
+ */
+public record OrderFacetSearchCond(
+    Set<OrderStatus> orderStatuses,
+    LocalDate from,
+    LocalDate to,
+    Set<ProductType> productTypes,
+    Set<String> productNumbers,
+    Integer minTotalPrice,
+    Integer maxTotalPrice
+) {
+}
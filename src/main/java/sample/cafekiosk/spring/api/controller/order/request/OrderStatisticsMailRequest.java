@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import sample.cafekiosk.spring.api.service.order.request.OrderStatisticsMailServiceRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OrderStatisticsMailRequest(
+    @NotNull(message = "조회 시작일은 필수입니다.")
+    LocalDate from,
+
+    @NotNull(message = "조회 종료일은 필수입니다.")
+    LocalDate to,
+
+    @NotEmpty(message = "수신자 이메일이 누락되어선 안됩니다.")
+    List<String> emails
+) {
+    public OrderStatisticsMailServiceRequest toServiceRequest() {
+        return new OrderStatisticsMailServiceRequest(from, to, emails);
+    }
+}
@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import jakarta.validation.constraints.NotNull;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public record OrderStatusTransitionRequest(
+    @NotNull(message = "변경할 주문 상태는 필수입니다.")
+    OrderStatus orderStatus,
+
+    @NotNull(message = "변경 시작 시각은 필수입니다.")
+    LocalDateTime start,
+
+    @NotNull(message = "변경 종료 시각은 필수입니다.")
+    LocalDateTime end
+) {
+}
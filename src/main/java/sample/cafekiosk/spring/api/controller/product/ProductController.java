@@ -2,17 +2,27 @@ package sample.cafekiosk.spring.api.controller.product;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductSellingStatusChangeRequest;
 import sample.cafekiosk.spring.api.service.product.ProductService;
+import sample.cafekiosk.spring.api.service.product.SellingMenu;
 import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
 
 import java.util.List;
 
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
 @RequiredArgsConstructor
 @RestController
 public class ProductController {
@@ -24,8 +34,45 @@ public class ProductController {
         return ApiResponse.ok(productService.createProduct(request.toServiceRequest()));
     }
 
+    @PostMapping("/api/v1/product/bulk")
+    public ApiResponse<List<ProductResponse>> createProducts(@Valid @RequestBody ProductBulkCreateRequest request) {
+        return ApiResponse.ok(productService.createProducts(request.toServiceRequests()));
+    }
+
+    @PostMapping("/api/v1/product/{productNumber}/selling-status")
+    public ApiResponse<ProductResponse> changeSellingStatus(
+        @PathVariable String productNumber,
+        @Valid @RequestBody ProductSellingStatusChangeRequest request
+    ) {
+        return ApiResponse.ok(productService.changeSellingStatus(productNumber, request.sellingStatus()));
+    }
+
+    /**
+     * 미리 직렬화해 둔 스냅샷을 그대로 내려준다.
+     * 클라이언트가 가진 ETag 와 같다면 본문 없이 304 로 응답한다.
+     */
     @GetMapping("/api/v1/product/selling")
-    public ApiResponse<List<ProductResponse>> getSellingProducts() {
-        return ApiResponse.ok(productService.getSellingProducts());
+    public ResponseEntity<byte[]> getSellingProducts(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        SellingMenu menu = productService.getSellingMenu();
+        if (menu.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(menu.etag())
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(menu.etag())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .contentType(APPLICATION_JSON);
+
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(menu.gzipped());
+        }
+        return response.body(menu.json());
     }
 }
@@ -0,0 +1,30 @@
+package sample.cafekiosk.spring.api.controller.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.search.ProductSearchService;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class ProductSearchController {
+
+    private final ProductSearchService productSearchService;
+
+    @GetMapping("/api/v1/product/search")
+    public ApiResponse<List<ProductResponse>> searchProducts(
+        @RequestParam String q,
+        @RequestParam(required = false) ProductType type,
+        @RequestParam(required = false) ProductSellingStatus sellingStatus,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.ok(productSearchService.searchProducts(q, type, sellingStatus, limit));
+    }
+}
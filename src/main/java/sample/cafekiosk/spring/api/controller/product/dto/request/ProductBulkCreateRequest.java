@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.api.controller.product.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import sample.cafekiosk.spring.api.service.product.dto.request.ProductCreateServiceRequest;
+
+import java.util.List;
+
+public record ProductBulkCreateRequest(
+    @NotEmpty(message = "상품이 누락되어선 안됩니다.")
+    List<@Valid ProductCreateRequest> products
+) {
+    public List<ProductCreateServiceRequest> toServiceRequests() {
+        return products.stream()
+            .map(ProductCreateRequest::toServiceRequest)
+            .toList();
+    }
+}
@@ -0,0 +1,10 @@
+package sample.cafekiosk.spring.api.controller.product.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+
+public record ProductSellingStatusChangeRequest(
+    @NotNull(message = "상품 판매 상태는 필수입니다.")
+    ProductSellingStatus sellingStatus
+) {
+}
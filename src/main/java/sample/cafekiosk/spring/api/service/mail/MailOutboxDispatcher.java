@@ -0,0 +1,261 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.api.service.mail.response.MailOutboxMetricsResponse;
+import sample.cafekiosk.spring.client.mail.MailSendClient;
+import sample.cafekiosk.spring.domain.history.MailSendHistory;
+import sample.cafekiosk.spring.domain.history.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxJdbcRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxJdbcRepository.Depth;
+import sample.cafekiosk.spring.domain.mail.MailOutboxJdbcRepository.Failure;
+import sample.cafekiosk.spring.domain.mail.MailOutboxJdbcRepository.Retry;
+import sample.cafekiosk.spring.domain.mail.MailOutboxMessage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * mail_outbox 의 메일을 batch-size 개씩 가져가 concurrency 개의 스레드로 나눠 보내고, 결과를 한 트랜잭션에서 기록한다.
+ * <p>
+ * - 성공한 메일은 이력을 한 번에 저장하고 outbox 에서 지운다. 이력은 pooled 시퀀스와 hibernate.jdbc.batch_size 로
+ * JDBC batch insert 되고, outbox 삭제와 같은 트랜잭션이라 이력 없이 지워지거나 두 번 남는 메일이 없다.
+ * - 실패한 메일은 backoff-ms 부터 시도마다 두 배씩 (최대 max-backoff-ms) 기다렸다가 다시 보내고, max-attempts 번 실패하면 FAILED 로 남긴다.
+ * - 결과를 기록하기 전에 프로세스가 종료되면 lease-ms 가 지난 뒤 다시 보낸다. (최소 한 번 전송)
+ * - lease-ms 안에 결과를 기록하지 못해 다른 dispatcher 가 다시 가져간 메일은 그 dispatcher 의 결과만 기록한다.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final MailSendClient mailSendClient;
+    private final MailOutboxJdbcRepository mailOutboxJdbcRepository;
+    private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final ExecutorService senders;
+
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder sendCount = new LongAdder();
+    private final LongAdder totalSendNanos = new LongAdder();
+    private final AtomicLong maxSendNanos = new AtomicLong();
+
+    public MailOutboxDispatcher(
+        MailSendClient mailSendClient,
+        MailOutboxJdbcRepository mailOutboxJdbcRepository,
+        MailSendHistoryRepository mailSendHistoryRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${cafekiosk.mail.outbox.batch-size:100}") int batchSize,
+        @Value("${cafekiosk.mail.outbox.concurrency:8}") int concurrency,
+        @Value("${cafekiosk.mail.outbox.max-attempts:5}") int maxAttempts,
+        @Value("${cafekiosk.mail.outbox.backoff-ms:1000}") long backoffMillis,
+        @Value("${cafekiosk.mail.outbox.max-backoff-ms:60000}") long maxBackoffMillis,
+        @Value("${cafekiosk.mail.outbox.lease-ms:60000}") long leaseMillis
+    ) {
+        if (batchSize < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("cafekiosk.mail.outbox 의 batch-size 와 concurrency 는 1 이상이어야 합니다.");
+        }
+        this.mailSendClient = mailSendClient;
+        this.mailOutboxJdbcRepository = mailOutboxJdbcRepository;
+        this.mailSendHistoryRepository = mailSendHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = Duration.ofMillis(backoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가져온 batch 가 가득 차 있었다면 outbox 가 빌 때까지 이어서 처리한다.
+     *
+     * @return 전송을 시도한 메일 수
+     */
+    public int dispatch() {
+        int dispatched = 0;
+        int claimed;
+        do {
+            claimed = dispatchBatch(LocalDateTime.now());
+            dispatched += claimed;
+        } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+        return dispatched;
+    }
+
+    /**
+     * now 기준으로 보낼 수 있는 메일을 한 batch 가져가 보내고 결과를 기록한다.
+     *
+     * @return 가져간 메일 수
+     */
+    int dispatchBatch(LocalDateTime now) {
+        List<MailOutboxMessage> messages = transactionTemplate.execute(status ->
+            mailOutboxJdbcRepository.claim(now, now.plus(lease), batchSize)
+        );
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<Attempt>> futures = messages.stream()
+            .map(message -> senders.submit(() -> send(message)))
+            .toList();
+
+        List<Attempt> attempts = new ArrayList<>(futures.size());
+        try {
+            for (Future<Attempt> future : futures) {
+                attempts.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("메일 전송 결과를 기록하지 못하고 중단합니다. lease 가 지나면 다시 보냅니다.");
+            return messages.size();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("메일 전송 결과를 가져오지 못했습니다.", e.getCause());
+        }
+
+        record(attempts, now);
+        return messages.size();
+    }
+
+    public MailOutboxMetricsResponse getMetrics() {
+        Depth depth = mailOutboxJdbcRepository.findDepth();
+        long oldestAgeMillis = depth.oldestEnqueuedDateTime() == null
+            ? 0
+            : Math.max(0, Duration.between(depth.oldestEnqueuedDateTime(), LocalDateTime.now()).toMillis());
+        long sends = sendCount.sum();
+
+        return new MailOutboxMetricsResponse(
+            depth.count(),
+            oldestAgeMillis,
+            sentCount.sum(),
+            retriedCount.sum(),
+            failedCount.sum(),
+            sends == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalSendNanos.sum() / sends),
+            TimeUnit.NANOSECONDS.toMillis(maxSendNanos.get())
+        );
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        senders.shutdownNow();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private Attempt send(MailOutboxMessage message) {
+        long startedAt = System.nanoTime();
+        boolean sent;
+        String error = null;
+        try {
+            sent = mailSendClient.sendEmail(message.fromEmail(), message.toEmail(), message.subject(), message.content());
+            if (!sent) {
+                error = "메일 서버가 전송을 거부했습니다.";
+            }
+        } catch (RuntimeException e) {
+            sent = false;
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        sendCount.increment();
+        totalSendNanos.add(elapsed);
+        maxSendNanos.accumulateAndGet(elapsed, Math::max);
+        return new Attempt(message, sent, error);
+    }
+
+    /**
+     * lease 가 지나 다른 dispatcher 가 다시 가져간 메일의 결과는 기록하지 않는다. (이력도 남기지 않는다.)
+     */
+    private void record(List<Attempt> attempts, LocalDateTime now) {
+        List<MailOutboxMessage> sentMessages = new ArrayList<>();
+        List<Retry> retries = new ArrayList<>();
+        List<Failure> failures = new ArrayList<>();
+
+        for (Attempt attempt : attempts) {
+            MailOutboxMessage message = attempt.message();
+            if (attempt.sent()) {
+                sentMessages.add(message);
+            } else if (message.attempt() < maxAttempts) {
+                retries.add(new Retry(message.id(), message.attempt(), now.plus(backoffOf(message.attempt())), truncate(attempt.error())));
+            } else {
+                failures.add(new Failure(message.id(), message.attempt(), truncate(attempt.error())));
+                log.warn("메일 전송에 {}번 실패했습니다. - id: {}, to: {}, {}", message.attempt(), message.id(), message.toEmail(), attempt.error());
+            }
+        }
+
+        Recorded recorded = transactionTemplate.execute(status -> {
+            List<MailOutboxMessage> deleted = sentMessages.isEmpty() ? List.of() : mailOutboxJdbcRepository.delete(sentMessages);
+            if (!deleted.isEmpty()) {
+                mailSendHistoryRepository.saveAll(deleted.stream().map(MailOutboxDispatcher::toHistory).toList());
+            }
+            int rescheduled = retries.isEmpty() ? 0 : mailOutboxJdbcRepository.reschedule(retries);
+            int failed = failures.isEmpty() ? 0 : mailOutboxJdbcRepository.fail(failures);
+            return new Recorded(deleted.size(), rescheduled, failed);
+        });
+
+        sentCount.add(recorded.sent());
+        retriedCount.add(recorded.retried());
+        failedCount.add(recorded.failed());
+
+        int stale = attempts.size() - recorded.sent() - recorded.retried() - recorded.failed();
+        if (stale > 0) {
+            log.info("lease 가 지나 다른 dispatcher 가 가져간 메일 {}건의 결과를 기록하지 않았습니다.", stale);
+        }
+    }
+
+    private static MailSendHistory toHistory(MailOutboxMessage message) {
+        return MailSendHistory.builder()
+            .fromEmail(message.fromEmail())
+            .toEmail(message.toEmail())
+            .subject(message.subject())
+            .content(message.content())
+            .build();
+    }
+
+    /**
+     * attempt 번째 시도가 실패한 뒤 다음 시도까지 기다리는 시간
+     */
+    private Duration backoffOf(int attempt) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempt - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record Attempt(MailOutboxMessage message, boolean sent, String error) {
+    }
+
+    private record Recorded(int sent, int retried, int failed) {
+    }
+}
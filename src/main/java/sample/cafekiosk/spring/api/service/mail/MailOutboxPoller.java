@@ -0,0 +1,22 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * poll-interval-ms 마다 outbox 에 쌓인 메일을 보낸다.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cafekiosk.mail.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class MailOutboxPoller {
+
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Scheduled(fixedDelayString = "${cafekiosk.mail.outbox.poll-interval-ms:500}")
+    public void poll() {
+        mailOutboxDispatcher.dispatch();
+    }
+}
@@ -5,6 +5,10 @@ import org.springframework.stereotype.Service;
 import sample.cafekiosk.spring.client.mail.MailSendClient;
 import sample.cafekiosk.spring.domain.history.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutbox;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
+
+import java.time.LocalDateTime;
 
 @RequiredArgsConstructor
 @Service
@@ -12,6 +16,7 @@ public class MailService {
 
     private final MailSendClient mailSendClient;
     private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final MailOutboxRepository mailOutboxRepository;
 
     public boolean sendMail(String fromEmail, String toEmail, String subject, String content) {
         boolean sendResult = mailSendClient.sendEmail(fromEmail, toEmail, subject, content);
@@ -27,4 +32,15 @@ public class MailService {
         }
         return false;
     }
+
+    /**
+     * 메일을 바로 보내지 않고 outbox 에 저장한다. 호출한 쪽의 트랜잭션에서 저장되므로 그 트랜잭션과 함께 커밋되거나 롤백된다.
+     * 전송과 이력 저장은 {@link MailOutboxDispatcher} 가 한다.
+     *
+     * @return outbox id
+     */
+    public Long enqueueMail(String fromEmail, String toEmail, String subject, String content) {
+        MailOutbox mailOutbox = MailOutbox.create(fromEmail, toEmail, subject, content, LocalDateTime.now());
+        return mailOutboxRepository.save(mailOutbox).getId();
+    }
 }
@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.api.service.mail.response;
+
+/**
+ * @param queueDepth        아직 보내지 못한(PENDING / SENDING) 메일 수
+ * @param oldestAgeMillis   그중 가장 오래 기다린 메일이 들어온 뒤 지난 시간
+ * @param averageSendMillis 메일 서버 호출 한 번에 걸린 평균 시간
+ */
+public record MailOutboxMetricsResponse(
+    long queueDepth,
+    long oldestAgeMillis,
+    long sentCount,
+    long retriedCount,
+    long failedCount,
+    long averageSendMillis,
+    long maxSendMillis
+) {
+}
@@ -0,0 +1,105 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.statistics.DailySales;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryJdbcRepository;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryJdbcRepository.AggregatedSales;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 주문 생성 / 상태 변경을 daily_sales_summary 에 반영한다.
+ * <p>
+ * 변화량은 트랜잭션 동안 (날짜, 주문 상태)별로 모아두었다가 커밋 직전에 집계 행마다 한 번씩 MERGE 한다.
+ * - 주문과 집계가 같은 트랜잭션에서 커밋되거나 함께 롤백된다.
+ * - 하루에 한 행인 집계 행의 락은 커밋 직전부터만 잡히고, 항상 같은 순서로 갱신하므로 트랜잭션끼리 교착되지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class DailySalesSummaryRecorder {
+
+    private static final Comparator<SalesKey> KEY_ORDER = Comparator
+        .comparing(SalesKey::salesDate)
+        .thenComparing(SalesKey::orderStatus);
+
+    private final DailySalesSummaryJdbcRepository dailySalesSummaryJdbcRepository;
+
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        record(
+            event.registeredDateTime().toLocalDate(),
+            event.orderStatus(),
+            DailySales.ofOrder(event.totalPrice(), event.totalPriceByType())
+        );
+    }
+
+    /**
+     * 주어진 주문의 상태를 orderStatus 로 바꾸기 전에 호출해, 기존 상태의 집계를 새 상태로 옮긴다.
+     * 집계와 상태 변경 사이에 다른 트랜잭션이 상태를 바꾸지 못하도록 주문에 락을 건 뒤 호출한다.
+     *
+     * @return 새 상태로 옮겨진 주문의 합계
+     */
+    public DailySales recordStatusChange(OrderStatus orderStatus, List<Long> orderIds) {
+        return move(orderStatus, dailySalesSummaryJdbcRepository.aggregateOrders(orderIds, orderStatus));
+    }
+
+    private DailySales move(OrderStatus orderStatus, List<AggregatedSales> aggregatedSales) {
+        DailySales moved = DailySales.ZERO;
+        for (AggregatedSales aggregated : aggregatedSales) {
+            record(aggregated.salesDate(), aggregated.orderStatus(), aggregated.sales().negate());
+            record(aggregated.salesDate(), orderStatus, aggregated.sales());
+            moved = moved.plus(aggregated.sales());
+        }
+        return moved;
+    }
+
+    private void record(LocalDate salesDate, OrderStatus orderStatus, DailySales sales) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dailySalesSummaryJdbcRepository.merge(salesDate, orderStatus, sales);
+            return;
+        }
+
+        pendingSales().merge(new SalesKey(salesDate, orderStatus), sales, DailySales::plus);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<SalesKey, DailySales> pendingSales() {
+        Map<SalesKey, DailySales> pending = (Map<SalesKey, DailySales>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Map<SalesKey, DailySales> created = new TreeMap<>(KEY_ORDER);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                created.forEach((key, sales) ->
+                    dailySalesSummaryJdbcRepository.merge(key.salesDate(), key.orderStatus(), sales)
+                );
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DailySalesSummaryRecorder.this);
+            }
+        });
+        return created;
+    }
+
+    private record SalesKey(
+        LocalDate salesDate,
+        OrderStatus orderStatus
+    ) {
+    }
+}
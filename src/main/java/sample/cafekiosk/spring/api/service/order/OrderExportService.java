@@ -0,0 +1,184 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import sample.cafekiosk.spring.api.service.order.response.OrderExportLine;
+import sample.cafekiosk.spring.domain.order.OrderExportRepository;
+import sample.cafekiosk.spring.domain.order.OrderExportRow;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 주문 이력을 CSV / NDJSON 으로 내보낸다.
+ * <p>
+ * 커서에서 읽은 행을 바로 응답 스트림에 쓰므로 한 번에 메모리에 올라가는 것은 주문 1건 분량뿐이다.
+ * (@Transactional 을 사용하지 않는다. 커서는 {@link OrderExportRepository} 가 별도의 세션으로 관리한다.)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OrderExportService {
+
+    private static final String CSV_HEADER = "order_id,order_status,registered_date_time,total_price,product_number,product_name,product_type,price";
+
+    private final OrderExportRepository orderExportRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * from ~ to (포함) 날짜에 등록된 주문을 내보낸다. 조건이 null 이면 해당 조건은 무시한다.
+     *
+     * @return 내보낸 주문 수
+     */
+    public long export(OrderExportFormat format, LocalDate from, LocalDate to, OrderStatus orderStatus, OutputStream outputStream) throws IOException {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        LocalDateTime start = from == null ? null : from.atStartOfDay();
+        LocalDateTime end = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ExportWriter exportWriter = format == OrderExportFormat.CSV ? new CsvWriter(writer) : new NdjsonWriter(writer);
+        try {
+            exportWriter.begin();
+            orderExportRepository.export(start, end, orderStatus, exportWriter::write);
+            exportWriter.end();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("주문 내보내기 완료 - {} {}건", format, exportWriter.orderCount());
+        return exportWriter.orderCount();
+    }
+
+    private abstract static class ExportWriter {
+
+        protected final Writer writer;
+        private Long lastOrderId;
+        private long orderCount;
+
+        protected ExportWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        void begin() throws IOException {
+        }
+
+        void end() throws IOException {
+        }
+
+        final void write(OrderExportRow row) {
+            if (!Objects.equals(lastOrderId, row.orderId())) {
+                lastOrderId = row.orderId();
+                orderCount++;
+            }
+            try {
+                writeRow(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        abstract void writeRow(OrderExportRow row) throws IOException;
+
+        long orderCount() {
+            return orderCount;
+        }
+    }
+
+    /**
+     * 주문 상품 1건을 1줄로 쓴다. 주문 정보는 상품마다 반복되고, 주문 상품이 없는 주문은 상품 칸을 비운 1줄로 쓴다.
+     */
+    private static class CsvWriter extends ExportWriter {
+
+        private CsvWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void begin() throws IOException {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 을 붙인다.
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        void writeRow(OrderExportRow row) throws IOException {
+            writer.write(String.valueOf(row.orderId()));
+            writer.write(',');
+            writer.write(row.orderStatus().name());
+            writer.write(',');
+            writer.write(String.valueOf(row.registeredDateTime()));
+            writer.write(',');
+            writer.write(String.valueOf(row.totalPrice()));
+            writer.write(',');
+            writer.write(escape(row.productNumber()));
+            writer.write(',');
+            writer.write(escape(row.productName()));
+            writer.write(',');
+            writer.write(row.hasProduct() ? row.productType().name() : "");
+            writer.write(',');
+            writer.write(row.hasProduct() ? String.valueOf(row.price()) : "");
+            writer.write('\n');
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * 주문 1건을 상품 목록과 함께 1줄의 JSON 으로 쓴다.
+     * 행은 주문 id 순으로 들어오므로 주문 id 가 바뀔 때 이전 주문을 쓴다.
+     */
+    private class NdjsonWriter extends ExportWriter {
+
+        private OrderExportLine current;
+
+        private NdjsonWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void writeRow(OrderExportRow row) throws IOException {
+            if (current != null && !current.id().equals(row.orderId())) {
+                writeCurrent();
+            }
+            if (current == null) {
+                current = OrderExportLine.from(row);
+            }
+            current.add(row);
+        }
+
+        @Override
+        void end() throws IOException {
+            if (current != null) {
+                writeCurrent();
+            }
+        }
+
+        private void writeCurrent() throws IOException {
+            writer.write(objectMapper.writeValueAsString(current));
+            writer.write('\n');
+            current = null;
+        }
+    }
+}
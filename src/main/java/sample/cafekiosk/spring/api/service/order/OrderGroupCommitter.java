@@ -0,0 +1,179 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시에 들어온 주문 요청을 모아 하나의 트랜잭션으로 저장한다. (group commit)
+ * <p>
+ * 요청은 큐에 쌓이고, 전용 스레드가 max-batch-size 개가 모이거나 max-wait-micros 가 지나면
+ * {@link OrderService#createOrders} 로 한 번에 처리한 뒤 요청마다 자신의 결과를 돌려준다.
+ * 한 배치의 주문은 배치를 처리하기 시작한 시각을 주문 등록 시각으로 사용한다.
+ * <p>
+ * 요청한 스레드는 timeout-ms 까지만 결과를 기다린다. 그때까지 배치에 들어가지 못한 요청은 큐에서 빼 주문하지 않는다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "cafekiosk.order.group-commit.enabled", havingValue = "true")
+@Component
+public class OrderGroupCommitter {
+
+    private final OrderService orderService;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long timeoutMillis;
+    private final BlockingQueue<PendingOrder> queue = new LinkedBlockingQueue<>();
+    private final Thread worker = new Thread(this::run, "order-group-commit");
+
+    private volatile boolean stopped;
+
+    public OrderGroupCommitter(
+        OrderService orderService,
+        @Value("${cafekiosk.order.group-commit.max-batch-size:32}") int maxBatchSize,
+        @Value("${cafekiosk.order.group-commit.max-wait-micros:500}") long maxWaitMicros,
+        @Value("${cafekiosk.order.group-commit.timeout-ms:3000}") long timeoutMillis
+    ) {
+        this.orderService = orderService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.timeoutMillis = timeoutMillis;
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().completeExceptionally(
+            new IllegalStateException("주문 처리기가 종료되었습니다.")
+        ));
+    }
+
+    public OrderResponse createOrder(OrderCreateServiceRequest request) {
+        PendingOrder pending = enqueue(request);
+        try {
+            return pending.future().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                throw new IllegalStateException("주문 처리 대기 시간이 초과되었습니다. 다시 주문해 주세요.", e);
+            }
+            // 이미 배치에 들어간 요청은 주문이 저장되었을 수 있다.
+            throw new IllegalStateException("주문 처리 대기 시간이 초과되었습니다. 주문 내역을 확인해 주세요.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 처리 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    public CompletableFuture<OrderResponse> submit(OrderCreateServiceRequest request) {
+        return enqueue(request).future();
+    }
+
+    private PendingOrder enqueue(OrderCreateServiceRequest request) {
+        if (stopped) {
+            throw new IllegalStateException("주문 처리기가 종료되었습니다.");
+        }
+        PendingOrder pending = new PendingOrder(request, new CompletableFuture<>());
+        queue.add(pending);
+        return pending;
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (!stopped) {
+            try {
+                collect(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.future().completeExceptionally(
+                    new IllegalStateException("주문 처리기가 종료되었습니다.")
+                ));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingOrder> batch) throws InterruptedException {
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + maxWaitNanos;
+
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        List<OrderCreateServiceRequest> requests = batch.stream()
+            .map(PendingOrder::request)
+            .toList();
+
+        List<OrderCreateResult> results;
+        try {
+            results = orderService.createOrders(requests, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("주문 배치 저장에 실패했습니다. - {}건", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            OrderCreateResult result = results.get(i);
+            CompletableFuture<OrderResponse> future = batch.get(i).future();
+            if (result.success()) {
+                future.complete(result.order());
+            } else {
+                future.completeExceptionally(new IllegalArgumentException(result.errorMessage()));
+            }
+        }
+    }
+
+    private record PendingOrder(
+        OrderCreateServiceRequest request,
+        CompletableFuture<OrderResponse> future
+    ) {
+    }
+}
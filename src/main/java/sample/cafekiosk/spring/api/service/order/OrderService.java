@@ -1,31 +1,48 @@
 package sample.cafekiosk.spring.api.service.order;
 
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.controller.order.request.OrderSearchCond;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderBulkResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderCursorResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductCatalog;
+import sample.cafekiosk.spring.api.service.stock.StockDeductor;
+import sample.cafekiosk.spring.domain.order.AcceptedOrderToken;
+import sample.cafekiosk.spring.domain.order.AcceptedOrderTokenRepository;
 import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderCursor;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
 import sample.cafekiosk.spring.domain.product.Product;
-import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductType;
-import sample.cafekiosk.spring.domain.stock.Stock;
-import sample.cafekiosk.spring.domain.stock.StockRepository;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class OrderService {
 
-    private final ProductRepository productRepository;
+    private static final int PERSIST_CHUNK_SIZE = 50; // hibernate.jdbc.batch_size 와 맞춘다.
+    private static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BULK_ORDER_COUNT = 1000;
+
+    private final EntityManager entityManager;
+    private final ProductCatalog productCatalog;
     private final OrderRepository orderRepository;
-    private final StockRepository stockRepository;
+    private final OrderViewRepository orderViewRepository;
+    private final StockDeductor stockDeductor;
+    private final AcceptedOrderTokenRepository acceptedOrderTokenRepository;
 
     /**
      * 재고 감소 -> 동시성 고민이 필수적이다.
@@ -34,7 +51,7 @@ public class OrderService {
     @Transactional
     public OrderResponse createOrder(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
         List<String> productNumbers = request.productNumbers();
-        List<Product> products = findProductsBy(productNumbers);
+        List<Product> products = productCatalog.getProducts(productNumbers);
 
         deductStockQuantities(products);
 
@@ -44,27 +61,118 @@ public class OrderService {
         return OrderResponse.of(savedOrder);
     }
 
-    private void deductStockQuantities(List<Product> products) {
-        List<String> stockProductNumbers = extractStockProductNumbers(products);
-        Map<String, Stock> stockMap = createStockMapBy(stockProductNumbers);
-        Map<String, Long> productCountingMap = createCountingMapBy(stockProductNumbers);
+    /**
+     * 비동기로 접수된 주문을 생성한다.
+     * 이미 같은 토큰으로 생성된 주문이 있다면 새로 만들지 않고 기존 주문을 반환한다. (재처리 시 멱등성 보장)
+     */
+    @Transactional
+    public OrderResponse createAcceptedOrder(String token, OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        Optional<AcceptedOrderToken> acceptedOrderToken = acceptedOrderTokenRepository.findById(token);
+        if (acceptedOrderToken.isPresent()) {
+            Order order = orderRepository.findById(acceptedOrderToken.get().getOrderId())
+                .orElseThrow(() -> new IllegalStateException("접수된 주문을 찾을 수 없습니다."));
+            return OrderResponse.of(order);
+        }
+
+        OrderResponse response = createOrder(request, registeredDateTime);
+        acceptedOrderTokenRepository.save(new AcceptedOrderToken(token, response.id()));
+        return response;
+    }
+
+    /**
+     * 여러 주문을 하나의 트랜잭션에서 생성한다.
+     * 상품과 재고는 요청 전체에 대해 한 번씩만 조회하고, 실패한 주문은 건너뛰고 주문별 결과를 반환한다.
+     */
+    @Transactional
+    public List<OrderCreateResult> createOrders(List<OrderCreateServiceRequest> requests, LocalDateTime registeredDateTime) {
+        Map<String, Product> productMap = productCatalog.findProducts(requests.stream()
+            .flatMap(request -> request.productNumbers().stream())
+            .toList());
+
+        List<OrderCreateResult> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<List<Product>> pendingProducts = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> productNumbers = requests.get(i).productNumbers();
+            if (!productMap.keySet().containsAll(productNumbers)) {
+                results.set(i, OrderCreateResult.failure("존재하지 않는 상품 번호가 포함되어 있습니다."));
+                continue;
+            }
+            pendingIndexes.add(i);
+            pendingProducts.add(productNumbers.stream().map(productMap::get).toList());
+        }
 
-        for (String stockProductNumber : new HashSet<>(stockProductNumbers)) {
-            Stock stock = stockMap.get(stockProductNumber);
-            int quantity = productCountingMap.get(stockProductNumber).intValue();
+        List<Boolean> deducted = stockDeductor.deductEach(pendingProducts.stream()
+            .map(products -> createCountingMapBy(extractStockProductNumbers(products)))
+            .toList());
+
+        List<Integer> orderedIndexes = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < pendingIndexes.size(); i++) {
+            if (!deducted.get(i)) {
+                results.set(pendingIndexes.get(i), OrderCreateResult.failure("재고가 부족합니다."));
+                continue;
+            }
+            orderedIndexes.add(pendingIndexes.get(i));
+            orders.add(Order.create(pendingProducts.get(i), registeredDateTime));
+        }
 
-            stock.deductQuantity(quantity);
+        List<Order> savedOrders = saveInChunks(orders);
+        for (int i = 0; i < savedOrders.size(); i++) {
+            results.set(orderedIndexes.get(i), OrderCreateResult.success(OrderResponse.of(savedOrders.get(i))));
         }
+        return results;
     }
 
-    private List<Product> findProductsBy(List<String> productNumbers) {
-        List<Product> products = productRepository.findAllByProductNumberIn(productNumbers);
-        Map<String, Product> productMap = products.stream()
-            .collect(Collectors.toMap(Product::getProductNumber, p -> p));
+    /**
+     * 요청 전체를 한 트랜잭션에서 처리하므로 한 번에 MAX_BULK_ORDER_COUNT 건까지만 받는다.
+     */
+    @Transactional
+    public OrderBulkResponse createBulkOrders(List<OrderCreateServiceRequest> requests, LocalDateTime registeredDateTime) {
+        if (requests.size() > MAX_BULK_ORDER_COUNT) {
+            throw new IllegalArgumentException("주문은 한 번에 " + MAX_BULK_ORDER_COUNT + "건까지 요청할 수 있습니다.");
+        }
+        return OrderBulkResponse.of(createOrders(requests, registeredDateTime));
+    }
 
-        return productNumbers.stream()
-            .map(productMap::get)
-            .toList();
+    /**
+     * 주문 조회 모델에서 한 번의 조회로 주문과 주문 상품을 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public OrderResponse getOrder(Long orderId) {
+        return orderViewRepository.findById(orderId)
+            .map(OrderResponse::of)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
+    }
+
+    /**
+     * 최근 주문부터 cursor 다음 주문을 size 개 조회한다. cursor 가 없으면 첫 페이지를 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public OrderCursorResponse getOrders(OrderSearchCond condition, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return OrderCursorResponse.of(orderRepository.findOrdersAfter(condition, OrderCursor.decode(cursor), size));
+    }
+
+    /**
+     * 영속성 컨텍스트가 주문 수만큼 커지지 않도록 JDBC 배치 크기 단위로 저장하고 비운다.
+     */
+    private List<Order> saveInChunks(List<Order> orders) {
+        List<Order> savedOrders = new ArrayList<>(orders.size());
+        for (int from = 0; from < orders.size(); from += PERSIST_CHUNK_SIZE) {
+            List<Order> chunk = orders.subList(from, Math.min(from + PERSIST_CHUNK_SIZE, orders.size()));
+            savedOrders.addAll(orderRepository.saveAll(chunk));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return savedOrders;
+    }
+
+    private void deductStockQuantities(List<Product> products) {
+        List<String> stockProductNumbers = extractStockProductNumbers(products);
+        stockDeductor.deduct(createCountingMapBy(stockProductNumbers));
     }
 
     private List<String> extractStockProductNumbers(List<Product> products) {
@@ -74,14 +182,8 @@ public class OrderService {
             .toList();
     }
 
-    private Map<String, Stock> createStockMapBy(List<String> stockProductNumbers) {
-        List<Stock> stocks = stockRepository.findAllByProductNumberIn(stockProductNumbers);
-        return stocks.stream()
-            .collect(Collectors.toMap(Stock::getProductNumber, stock -> stock));
-    }
-
-    private Map<String, Long> createCountingMapBy(List<String> stockProductNumbers) {
+    private Map<String, Integer> createCountingMapBy(List<String> stockProductNumbers) {
         return stockProductNumbers.stream()
-            .collect(Collectors.groupingBy(p -> p, Collectors.counting()));
+            .collect(Collectors.groupingBy(p -> p, Collectors.summingInt(p -> 1)));
     }
 }
@@ -1,47 +1,147 @@
 package sample.cafekiosk.spring.api.service.order;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.service.mail.MailService;
-import sample.cafekiosk.spring.domain.order.Order;
-import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.api.service.order.request.OrderStatisticsMailServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.DailySalesResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsMailResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsMailResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsResponse;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummary;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryId;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryJdbcRepository;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryRepository;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.regex.Pattern;
 
-@RequiredArgsConstructor
+/**
+ * 매출 통계는 주문을 직접 합산하지 않고 날짜 x 주문 상태별 집계(daily_sales_summary)를 읽는다.
+ * 매출 통계 메일은 outbox 에 저장만 하고, 전송과 재시도는 {@link sample.cafekiosk.spring.api.service.mail.MailOutboxDispatcher} 가 한다.
+ */
 @Service
 public class OrderStatisticsService {
 
-    private final OrderRepository orderRepository;
+    private static final long MAX_PERIOD_DAYS = 366;
+    private static final String STATISTICS_MAIL_FROM = "no-reply@cafekiosk.com";
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final DailySalesSummaryRepository dailySalesSummaryRepository;
+    private final DailySalesSummaryJdbcRepository dailySalesSummaryJdbcRepository;
     private final MailService mailService;
+    private final int maxMailRecipients;
+
+    public OrderStatisticsService(
+        DailySalesSummaryRepository dailySalesSummaryRepository,
+        DailySalesSummaryJdbcRepository dailySalesSummaryJdbcRepository,
+        MailService mailService,
+        @Value("${cafekiosk.order.statistics.mail.max-recipients:1000}") int maxMailRecipients
+    ) {
+        if (maxMailRecipients < 1) {
+            throw new IllegalArgumentException("cafekiosk.order.statistics.mail.max-recipients 는 1 이상이어야 합니다.");
+        }
+        this.dailySalesSummaryRepository = dailySalesSummaryRepository;
+        this.dailySalesSummaryJdbcRepository = dailySalesSummaryJdbcRepository;
+        this.mailService = mailService;
+        this.maxMailRecipients = maxMailRecipients;
+    }
 
     /**
      * 메일 전송이 포함된 (네트워크를 긴 시간 타는 로직)에는 @Transactional을 사용하지 않는 것이 좋다.
+     * 메일 서버는 outbox 를 비우는 쪽에서 호출하므로, 여기서는 outbox 에 저장하는 트랜잭션만 연다.
+     *
+     * @return outbox 에 저장되면 true
      */
+    @Transactional
     public boolean sendOrderStatisticsMail(LocalDate orderDate, String email) {
-        List<Order> orders = orderRepository.findOrdersBy(
-            orderDate.atStartOfDay(),
-            orderDate.plusDays(1).atStartOfDay(),
-            OrderStatus.PAYMENT_COMPLETED
-        );
-
-        int totalAmount = orders.stream()
-            .mapToInt(Order::getTotalPrice)
-            .sum();
+        long totalAmount = dailySalesSummaryRepository.findById(new DailySalesSummaryId(orderDate, OrderStatus.PAYMENT_COMPLETED))
+            .map(DailySalesSummary::getTotalPrice)
+            .orElse(0L);
 
-        boolean mailSendResult = mailService.sendMail(
-            "no-reply@cafekiosk.com",
+        mailService.enqueueMail(
+            STATISTICS_MAIL_FROM,
             email,
             String.format("[매출 통계] %s", orderDate),
             String.format("총 매출 합계는 %s원 입니다.", totalAmount)
         );
+        return true;
+    }
+
+    /**
+     * 기간 내 매출 합계를 한 번만 계산해 여러 수신자의 메일을 한 트랜잭션에서 outbox 에 저장한다.
+     * <p>
+     * 여러 수신자에게 동시에 보내는 일과 실패한 메일의 재시도는 outbox 를 비우는 쪽(concurrency)이 맡는다.
+     * 중복된 주소는 한 번만 저장하고, 잘못된 주소는 해당 수신자의 결과로만 남긴다.
+     */
+    @Transactional
+    public OrderStatisticsMailResponse sendOrderStatisticsMails(OrderStatisticsMailServiceRequest request) {
+        LocalDate from = request.from();
+        LocalDate to = request.to();
+        validatePeriod(from, to);
 
-        if (!mailSendResult) {
-            throw new IllegalArgumentException("매출 통계 메일 전송에 실패했습니다.");
+        List<String> recipients = List.copyOf(new LinkedHashSet<>(request.emails()));
+        if (recipients.isEmpty() || recipients.size() > maxMailRecipients) {
+            throw new IllegalArgumentException("수신자는 1명 이상 " + maxMailRecipients + "명 이하여야 합니다.");
         }
 
-        return true;
+        long totalAmount = dailySalesSummaryRepository
+            .findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(from, to, OrderStatus.PAYMENT_COMPLETED).stream()
+            .mapToLong(DailySalesSummary::getTotalPrice)
+            .sum();
+        String subject = from.equals(to)
+            ? String.format("[매출 통계] %s", from)
+            : String.format("[매출 통계] %s ~ %s", from, to);
+        String content = String.format("총 매출 합계는 %s원 입니다.", totalAmount);
+
+        List<OrderStatisticsMailResult> results = recipients.stream()
+            .map(email -> enqueueStatisticsMail(email, subject, content))
+            .toList();
+        return OrderStatisticsMailResponse.of(from, to, totalAmount, results);
+    }
+
+    @Transactional(readOnly = true)
+    public OrderStatisticsResponse getOrderStatistics(LocalDate from, LocalDate to, OrderStatus orderStatus) {
+        validatePeriod(from, to);
+
+        List<DailySalesResponse> days = dailySalesSummaryRepository
+            .findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(from, to, orderStatus).stream()
+            .map(DailySalesResponse::of)
+            .toList();
+
+        return OrderStatisticsResponse.of(from, to, orderStatus, days);
+    }
+
+    /**
+     * 주문 이력으로부터 기간 내 집계를 다시 만든다. (최초 도입 / 집계 불일치 복구용)
+     * 다시 만드는 동안 같은 기간에 생성된 주문이 누락되지 않도록 주문이 적은 시간에 실행한다.
+     */
+    @Transactional
+    public int rebuildDailySales(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return dailySalesSummaryJdbcRepository.rebuild(from, to);
+    }
+
+    private OrderStatisticsMailResult enqueueStatisticsMail(String email, String subject, String content) {
+        if (email == null || !EMAIL_PATTERN.matcher(email).matches()) {
+            return OrderStatisticsMailResult.failure(email, "올바르지 않은 이메일 주소입니다.");
+        }
+
+        mailService.enqueueMail(STATISTICS_MAIL_FROM, email, subject, content);
+        return OrderStatisticsMailResult.success(email);
+    }
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 366일입니다.");
+        }
     }
 }
@@ -0,0 +1,186 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatusTransitionResponse;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransition;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransitionRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransitionStatus;
+import sample.cafekiosk.spring.domain.statistics.DailySales;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기간 내 주문의 상태를 id 순으로 chunk-size 개씩 나눠 변경한다.
+ * <p>
+ * - chunk 마다 트랜잭션을 커밋하므로 주문 행의 락은 chunk 하나를 처리하는 동안만 잡힌다.
+ * - chunk 사이에는 pause-ms 만큼 쉬어 주문 생성 트랜잭션이 먼저 처리될 수 있게 한다.
+ * - 진행 상황(마지막 주문 id)은 chunk 와 같은 트랜잭션에서 기록되므로, 프로세스가 종료되어도 시작 시 이어서 처리한다.
+ * - 매출 집계(daily_sales_summary)는 chunk 와 같은 트랜잭션에서 옮기고, 실시간 지표는 커밋 후 이벤트로 갱신한다.
+ * <p>
+ * 작업은 전용 스레드 하나에서 순서대로 실행된다.
+ * 여러 인스턴스가 같은 작업을 이어서 처리하더라도 chunk 마다 작업 행과 대상 주문 행에 쓰기 락을 먼저 잡으므로,
+ * 한 chunk 는 한 인스턴스만 처리하고 다음 인스턴스는 커밋된 진행 상황 다음부터 처리한다. (매출 집계가 두 번 옮겨지지 않는다.)
+ */
+@Slf4j
+@Service
+public class OrderStatusTransitionService {
+
+    private final OrderStatusTransitionRepository orderStatusTransitionRepository;
+    private final OrderRepository orderRepository;
+    private final DailySalesSummaryRecorder dailySalesSummaryRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-status-transition");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OrderStatusTransitionService(
+        OrderStatusTransitionRepository orderStatusTransitionRepository,
+        OrderRepository orderRepository,
+        DailySalesSummaryRecorder dailySalesSummaryRecorder,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        @Value("${cafekiosk.order.status-transition.chunk-size:500}") int chunkSize,
+        @Value("${cafekiosk.order.status-transition.pause-ms:100}") long pauseMillis
+    ) {
+        this.orderStatusTransitionRepository = orderStatusTransitionRepository;
+        this.orderRepository = orderRepository;
+        this.dailySalesSummaryRecorder = dailySalesSummaryRecorder;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    public OrderStatusTransitionResponse start(OrderStatus orderStatus, LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("변경 시작 시각은 종료 시각보다 빨라야 합니다.");
+        }
+
+        OrderStatusTransition transition = orderStatusTransitionRepository.save(OrderStatusTransition.builder()
+            .orderStatus(orderStatus)
+            .startDateTime(start)
+            .endDateTime(end)
+            .chunkSize(chunkSize)
+            .build());
+
+        executor.execute(() -> run(transition.getId()));
+        return OrderStatusTransitionResponse.of(transition);
+    }
+
+    public OrderStatusTransitionResponse getTransition(Long id) {
+        return orderStatusTransitionRepository.findById(id)
+            .map(OrderStatusTransitionResponse::of)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상태 변경 작업입니다."));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        List<OrderStatusTransition> running = orderStatusTransitionRepository.findAllByStatus(OrderStatusTransitionStatus.RUNNING);
+        running.forEach(transition -> {
+            log.info("주문 상태 변경 작업을 이어서 처리합니다. - id: {}, 마지막 주문 id: {}", transition.getId(), transition.getLastOrderId());
+            executor.execute(() -> run(transition.getId()));
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void run(Long id) {
+        AtomicLong lastLockHoldMillis = new AtomicLong(-1);
+        try {
+            while (!Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(id, lastLockHoldMillis)))) {
+                TimeUnit.MILLISECONDS.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("주문 상태 변경 작업을 중단합니다. 다음 시작 시 이어서 처리합니다. - id: {}", id);
+        } catch (RuntimeException e) {
+            log.warn("주문 상태 변경 작업에 실패했습니다. - id: {}", id, e);
+            fail(id, e);
+        }
+    }
+
+    /**
+     * 실패 기록마저 실패하면 작업은 RUNNING 으로 남아 다음 시작 시 이어서 처리된다.
+     */
+    private void fail(Long id, RuntimeException cause) {
+        String failureMessage = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                orderStatusTransitionRepository.findById(id).ifPresent(transition -> transition.fail(failureMessage))
+            );
+        } catch (RuntimeException e) {
+            log.error("주문 상태 변경 작업의 실패를 기록하지 못했습니다. - id: {}", id, e);
+        }
+    }
+
+    /**
+     * chunk 하나를 처리한다.
+     *
+     * @return 더 처리할 주문이 없으면 true
+     */
+    private boolean processChunk(Long id, AtomicLong lastLockHoldMillis) {
+        OrderStatusTransition transition = orderStatusTransitionRepository.findForUpdate(id).orElseThrow();
+        if (!transition.isRunning()) {
+            return true;
+        }
+        // 앞 chunk 의 락 유지 시간은 커밋이 끝나야 알 수 있으므로 다음 chunk 에서 기록한다.
+        if (lastLockHoldMillis.get() >= 0) {
+            transition.recordLockHold(lastLockHoldMillis.get());
+        }
+
+        OrderStatus orderStatus = transition.getOrderStatus();
+        List<Long> orderIds = orderRepository.findOrderIdsToChangeStatus(
+            orderStatus, transition.getStartDateTime(), transition.getEndDateTime(), transition.getLastOrderId(), transition.getChunkSize()
+        );
+        if (orderIds.isEmpty()) {
+            transition.complete();
+            log.info("주문 상태 변경 작업 완료 - id: {}, {}건, 최대 락 유지 {}ms",
+                id, transition.getProcessedCount(), transition.getMaxLockHoldMillis());
+            return true;
+        }
+
+        DailySales moved = dailySalesSummaryRecorder.recordStatusChange(orderStatus, orderIds);
+
+        long lockedAt = System.nanoTime();
+        long updated = orderRepository.updateOrderStatusByIds(orderStatus, orderIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lastLockHoldMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lockedAt));
+            }
+        });
+
+        transition.advance(orderIds.get(orderIds.size() - 1), updated);
+        if (moved.orderCount() > 0) {
+            eventPublisher.publishEvent(OrderStatusChangedEvent.ofOrders(orderStatus, moved.orderCount(), moved.totalPrice(), orderIds));
+        }
+        return false;
+    }
+}
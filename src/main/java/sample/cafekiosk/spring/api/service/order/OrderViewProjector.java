@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+import sample.cafekiosk.spring.domain.order.OrderView;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
+
+/**
+ * 주문 생성 / 상태 변경을 주문 조회 모델(order_view)에 반영한다.
+ * <p>
+ * 이벤트를 발행한 트랜잭션 안에서 바로 반영하므로 주문과 조회 모델이 함께 커밋되거나 함께 롤백된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OrderViewProjector {
+
+    private final OrderViewRepository orderViewRepository;
+
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        orderViewRepository.save(OrderView.of(event));
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        orderViewRepository.updateOrderStatusByIds(event.orderStatus(), event.orderIds());
+    }
+}
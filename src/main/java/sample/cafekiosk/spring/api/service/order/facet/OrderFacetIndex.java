@@ -0,0 +1,378 @@
+package sample.cafekiosk.spring.api.service.order.facet;
+
+import sample.cafekiosk.spring.api.controller.order.request.OrderFacetSearchCond;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최근 주문을 주문 상태 / 등록일 / 상품 타입 / 상품 번호 / 가격대별 비트맵으로 색인한다.
+ * <p>
+ * - 주문은 색인된 순서대로 슬롯 번호를 받고, 비트맵의 i 번째 비트는 i 번 슬롯의 주문을 뜻한다.
+ * - 조건은 같은 조건 안에서는 비트맵의 OR, 조건끼리는 AND 로 계산하고, facet 별 개수는 교집합의 비트 수로 센다.
+ * - 기간이 지난 날짜의 주문은 모든 비트맵에서 지우고, 지운 슬롯이 남은 슬롯보다 많아지면 슬롯 번호를 다시 매긴다.
+ * <p>
+ * 조회는 읽기 락, 변경은 쓰기 락으로 보호한다.
+ */
+class OrderFacetIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_EVICTED_TO_COMPACT = 1024;
+
+    private final int priceBandWidth;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] orderIds = new long[INITIAL_CAPACITY];
+    private LocalDateTime[] registeredDateTimes = new LocalDateTime[INITIAL_CAPACITY]; // 지워진 슬롯은 null
+    private OrderStatus[] orderStatuses = new OrderStatus[INITIAL_CAPACITY];
+    private int[] totalPrices = new int[INITIAL_CAPACITY];
+    private int size;
+    private int evictedCount;
+
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final Map<OrderStatus, BitSet> byStatus = new EnumMap<>(OrderStatus.class);
+    private final NavigableMap<LocalDate, BitSet> byDate = new TreeMap<>();
+    private final Map<ProductType, BitSet> byProductType = new EnumMap<>(ProductType.class);
+    private final Map<String, BitSet> byProductNumber = new HashMap<>();
+    private final NavigableMap<Integer, BitSet> byPriceBand = new TreeMap<>();
+
+    OrderFacetIndex(int priceBandWidth) {
+        this.priceBandWidth = priceBandWidth;
+    }
+
+    /**
+     * 이미 색인된 주문이면 무시한다.
+     */
+    void add(
+        Long orderId,
+        LocalDateTime registeredDateTime,
+        OrderStatus orderStatus,
+        int totalPrice,
+        Collection<ProductType> productTypes,
+        Collection<String> productNumbers
+    ) {
+        lock.writeLock().lock();
+        try {
+            if (slots.containsKey(orderId)) {
+                return;
+            }
+            ensureCapacity();
+
+            int slot = size++;
+            orderIds[slot] = orderId;
+            registeredDateTimes[slot] = registeredDateTime;
+            orderStatuses[slot] = orderStatus;
+            totalPrices[slot] = totalPrice;
+            slots.put(orderId, slot);
+
+            bitmap(byStatus, orderStatus).set(slot);
+            bitmap(byDate, registeredDateTime.toLocalDate()).set(slot);
+            productTypes.forEach(productType -> bitmap(byProductType, productType).set(slot));
+            productNumbers.forEach(productNumber -> bitmap(byProductNumber, productNumber).set(slot));
+            bitmap(byPriceBand, priceBandOf(totalPrice)).set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void changeStatus(Collection<Long> changedOrderIds, OrderStatus orderStatus) {
+        lock.writeLock().lock();
+        try {
+            for (Long orderId : changedOrderIds) {
+                Integer slot = slots.get(orderId);
+                if (slot != null) {
+                    moveStatus(slot, orderStatus);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * date 이전에 등록된 주문을 색인에서 지운다.
+     */
+    void evictBefore(LocalDate date) {
+        lock.writeLock().lock();
+        try {
+            NavigableMap<LocalDate, BitSet> expired = byDate.headMap(date, false);
+            if (expired.isEmpty()) {
+                return;
+            }
+
+            BitSet evicted = new BitSet();
+            expired.values().forEach(evicted::or);
+            expired.clear();
+            removeFrom(byStatus, evicted);
+            removeFrom(byProductType, evicted);
+            removeFrom(byProductNumber, evicted);
+            removeFrom(byPriceBand, evicted);
+
+            for (int slot = evicted.nextSetBit(0); slot >= 0; slot = evicted.nextSetBit(slot + 1)) {
+                slots.remove(orderIds[slot]);
+                registeredDateTimes[slot] = null;
+            }
+            evictedCount += evicted.cardinality();
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 주문 수와 facet 별 주문 수, 최근에 색인된 주문부터 offset 다음의 주문 id 를 limit 개 찾는다.
+     * 등록일 조건은 from ~ to (포함) 를 사용한다.
+     */
+    OrderFacets search(OrderFacetSearchCond condition, LocalDate from, LocalDate to, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet dates = union(byDate.subMap(from, true, to, true).values());
+            BitSet statuses = unionOf(byStatus, condition.orderStatuses());
+            BitSet productTypes = unionOf(byProductType, condition.productTypes());
+            BitSet productNumbers = unionOf(byProductNumber, condition.productNumbers());
+            BitSet prices = priceRange(condition.minTotalPrice(), condition.maxTotalPrice());
+
+            BitSet matched = intersect(dates, statuses, productTypes, productNumbers, prices);
+            return new OrderFacets(
+                matched.cardinality(),
+                page(matched, offset, limit),
+                countBy(byStatus, OrderStatus.values(), intersect(dates, productTypes, productNumbers, prices)),
+                countBy(byProductType, ProductType.values(), intersect(dates, statuses, productNumbers, prices)),
+                dailyCounts(from, to, intersect(statuses, productTypes, productNumbers, prices)),
+                priceBandCounts(intersect(dates, statuses, productTypes, productNumbers))
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> page(BitSet matched, int offset, int limit) {
+        List<Long> page = new ArrayList<>(limit);
+        int skipped = 0;
+        for (int slot = matched.length() - 1; slot >= 0 && page.size() < limit; slot = matched.previousSetBit(slot - 1)) {
+            if (skipped++ < offset) {
+                continue;
+            }
+            page.add(orderIds[slot]);
+        }
+        return page;
+    }
+
+    private <K> Map<K, Long> countBy(Map<K, BitSet> bitmaps, K[] keys, BitSet base) {
+        Map<K, Long> counts = new LinkedHashMap<>();
+        for (K key : keys) {
+            counts.put(key, count(bitmaps.get(key), base));
+        }
+        return counts;
+    }
+
+    private Map<LocalDate, Long> dailyCounts(LocalDate from, LocalDate to, BitSet base) {
+        Map<LocalDate, Long> counts = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            counts.put(date, count(byDate.get(date), base));
+        }
+        return counts;
+    }
+
+    private Map<Integer, Long> priceBandCounts(BitSet base) {
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        byPriceBand.forEach((band, bitmap) -> {
+            long count = count(bitmap, base);
+            if (count > 0) {
+                counts.put(band * priceBandWidth, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * 가격대 비트맵을 합친 뒤, 범위에 일부만 걸치는 양 끝 가격대의 주문은 금액을 직접 비교한다.
+     */
+    private BitSet priceRange(Integer minTotalPrice, Integer maxTotalPrice) {
+        if (minTotalPrice == null && maxTotalPrice == null) {
+            return null;
+        }
+
+        int low = minTotalPrice == null ? 0 : Math.max(0, minTotalPrice);
+        int high = maxTotalPrice == null ? Integer.MAX_VALUE : maxTotalPrice;
+        BitSet range = new BitSet();
+        if (low > high) {
+            return range;
+        }
+
+        NavigableMap<Integer, BitSet> bands = byPriceBand.subMap(priceBandOf(low), true, priceBandOf(high), true);
+        if (bands.isEmpty()) {
+            return range;
+        }
+        bands.values().forEach(range::or);
+        excludeOutOfRange(range, bands.firstEntry().getValue(), low, high);
+        excludeOutOfRange(range, bands.lastEntry().getValue(), low, high);
+        return range;
+    }
+
+    private void excludeOutOfRange(BitSet range, BitSet band, int low, int high) {
+        for (int slot = band.nextSetBit(0); slot >= 0; slot = band.nextSetBit(slot + 1)) {
+            if (totalPrices[slot] < low || totalPrices[slot] > high) {
+                range.clear(slot);
+            }
+        }
+    }
+
+    private void moveStatus(int slot, OrderStatus orderStatus) {
+        OrderStatus current = orderStatuses[slot];
+        if (current == orderStatus) {
+            return;
+        }
+        byStatus.get(current).clear(slot);
+        bitmap(byStatus, orderStatus).set(slot);
+        orderStatuses[slot] = orderStatus;
+    }
+
+    private int priceBandOf(int totalPrice) {
+        return Math.max(0, totalPrice) / priceBandWidth;
+    }
+
+    private void ensureCapacity() {
+        if (size < orderIds.length) {
+            return;
+        }
+        int capacity = orderIds.length * 2;
+        orderIds = Arrays.copyOf(orderIds, capacity);
+        registeredDateTimes = Arrays.copyOf(registeredDateTimes, capacity);
+        orderStatuses = Arrays.copyOf(orderStatuses, capacity);
+        totalPrices = Arrays.copyOf(totalPrices, capacity);
+    }
+
+    /**
+     * 지워진 슬롯을 빼고 남은 주문에 순서대로 새 슬롯 번호를 매긴 뒤 모든 비트맵을 옮긴다.
+     */
+    private void compactIfNeeded() {
+        if (evictedCount < MIN_EVICTED_TO_COMPACT || evictedCount < slots.size()) {
+            return;
+        }
+
+        int[] newSlots = new int[size];
+        int next = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (registeredDateTimes[slot] == null) {
+                newSlots[slot] = -1;
+                continue;
+            }
+            newSlots[slot] = next;
+            orderIds[next] = orderIds[slot];
+            registeredDateTimes[next] = registeredDateTimes[slot];
+            orderStatuses[next] = orderStatuses[slot];
+            totalPrices[next] = totalPrices[slot];
+            slots.put(orderIds[next], next);
+            next++;
+        }
+        Arrays.fill(registeredDateTimes, next, size, null);
+        Arrays.fill(orderStatuses, next, size, null);
+        size = next;
+        evictedCount = 0;
+
+        byStatus.replaceAll((key, bitmap) -> remap(bitmap, newSlots));
+        byDate.replaceAll((key, bitmap) -> remap(bitmap, newSlots));
+        byProductType.replaceAll((key, bitmap) -> remap(bitmap, newSlots));
+        byProductNumber.replaceAll((key, bitmap) -> remap(bitmap, newSlots));
+        byPriceBand.replaceAll((key, bitmap) -> remap(bitmap, newSlots));
+    }
+
+    private static BitSet remap(BitSet bitmap, int[] newSlots) {
+        BitSet remapped = new BitSet();
+        for (int slot = bitmap.nextSetBit(0); slot >= 0; slot = bitmap.nextSetBit(slot + 1)) {
+            if (newSlots[slot] >= 0) {
+                remapped.set(newSlots[slot]);
+            }
+        }
+        return remapped;
+    }
+
+    private static <K> BitSet bitmap(Map<K, BitSet> bitmaps, K key) {
+        return bitmaps.computeIfAbsent(key, ignored -> new BitSet());
+    }
+
+    private static <K> void removeFrom(Map<K, BitSet> bitmaps, BitSet evicted) {
+        bitmaps.values().removeIf(bitmap -> {
+            bitmap.andNot(evicted);
+            return bitmap.isEmpty();
+        });
+    }
+
+    private static BitSet union(Collection<BitSet> bitmaps) {
+        BitSet union = new BitSet();
+        bitmaps.forEach(union::or);
+        return union;
+    }
+
+    /**
+     * @return 조건이 없으면 null (거르지 않는다.)
+     */
+    private static <K> BitSet unionOf(Map<K, BitSet> bitmaps, Collection<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (K key : keys) {
+            BitSet bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * null 인 비트맵은 조건이 없는 것으로 보고 건너뛴다. 모두 null 이면 null 을 돌려준다.
+     */
+    private static BitSet intersect(BitSet... bitmaps) {
+        BitSet intersection = null;
+        for (BitSet bitmap : bitmaps) {
+            if (bitmap == null) {
+                continue;
+            }
+            if (intersection == null) {
+                intersection = (BitSet) bitmap.clone();
+            } else {
+                intersection.and(bitmap);
+            }
+        }
+        return intersection;
+    }
+
+    private static long count(BitSet bitmap, BitSet base) {
+        if (bitmap == null) {
+            return 0;
+        }
+        if (base == null) {
+            return bitmap.cardinality();
+        }
+        BitSet intersection = (BitSet) bitmap.clone();
+        intersection.and(base);
+        return intersection.cardinality();
+    }
+}
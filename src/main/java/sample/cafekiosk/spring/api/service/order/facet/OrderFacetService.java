@@ -0,0 +1,152 @@
+package sample.cafekiosk.spring.api.service.order.facet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.controller.order.request.OrderFacetSearchCond;
+import sample.cafekiosk.spring.api.service.order.response.OrderFacetResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
+import sample.cafekiosk.spring.domain.order.OrderFacetRepository;
+import sample.cafekiosk.spring.domain.order.OrderFacetRow;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 백오피스의 주문 다중 조건 검색과 facet 별 주문 수.
+ * <p>
+ * - 최근 retention-days 일의 주문을 메모리 비트맵 색인({@link OrderFacetIndex})으로 걸러내고 센다.
+ * DB 는 마지막에 페이지에 해당하는 주문을 읽을 때만 사용한다.
+ * - 주문이 생성되거나 상태가 바뀌어 커밋되면 색인을 바로 갱신하고, 시작 시 DB 로부터 다시 만든다.
+ * 다시 만드는 동안 생성된 주문은 반영되지 않을 수 있다.
+ */
+@Slf4j
+@Service
+public class OrderFacetService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderFacetRepository orderFacetRepository;
+    private final OrderRepository orderRepository;
+    private final int retentionDays;
+    private final int priceBandWidth;
+
+    private volatile OrderFacetIndex index;
+
+    public OrderFacetService(
+        OrderFacetRepository orderFacetRepository,
+        OrderRepository orderRepository,
+        @Value("${cafekiosk.order.facet.retention-days:90}") int retentionDays,
+        @Value("${cafekiosk.order.facet.price-band-width:5000}") int priceBandWidth
+    ) {
+        this.orderFacetRepository = orderFacetRepository;
+        this.orderRepository = orderRepository;
+        this.retentionDays = retentionDays;
+        this.priceBandWidth = priceBandWidth;
+        this.index = new OrderFacetIndex(priceBandWidth);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        OrderFacetIndex rebuilt = new OrderFacetIndex(priceBandWidth);
+        List<OrderFacetRow> rows = orderFacetRepository.findOrderFacetRows(windowStart().atStartOfDay());
+
+        int from = 0;
+        while (from < rows.size()) {
+            int to = from;
+            while (to < rows.size() && rows.get(to).orderId().equals(rows.get(from).orderId())) {
+                to++;
+            }
+            add(rebuilt, rows.subList(from, to));
+            from = to;
+        }
+
+        this.index = rebuilt;
+        log.info("주문 facet 색인 복구 완료 - 최근 {}일, {}건", retentionDays, rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        LocalDate windowStart = windowStart();
+        if (event.registeredDateTime().toLocalDate().isBefore(windowStart)) {
+            return;
+        }
+
+        OrderFacetIndex current = index;
+        current.evictBefore(windowStart);
+        current.add(
+            event.orderId(),
+            event.registeredDateTime(),
+            event.orderStatus(),
+            event.totalPrice(),
+            event.totalPriceByType().keySet(),
+            event.productNumbers()
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        index.changeStatus(event.orderIds(), event.orderStatus());
+    }
+
+    /**
+     * 조건에 맞는 주문 수와 facet 별 주문 수, 최근 주문부터 page 번째 페이지의 주문을 조회한다.
+     * 오늘 이후의 주문은 없으므로 종료일은 오늘로 맞춘다. (일별 주문 수는 최대 retention-days 일)
+     */
+    @Transactional(readOnly = true)
+    public OrderFacetResponse searchOrders(OrderFacetSearchCond condition, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지는 0 이상, 조회 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate windowStart = windowStart();
+        LocalDate from = condition.from() == null ? windowStart : condition.from();
+        LocalDate to = condition.to() == null || condition.to().isAfter(today) ? today : condition.to();
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (from.isBefore(windowStart)) {
+            throw new IllegalArgumentException("최근 " + retentionDays + "일 이내의 주문만 조회할 수 있습니다.");
+        }
+
+        OrderFacets facets = index.search(condition, from, to, Math.multiplyExact(page, size), size);
+        List<OrderResponse> orders = orderRepository.findOrderResponsesByIds(facets.orderIds());
+        return OrderFacetResponse.of(facets, orders);
+    }
+
+    private LocalDate windowStart() {
+        return LocalDate.now().minusDays(retentionDays - 1L);
+    }
+
+    private static void add(OrderFacetIndex index, List<OrderFacetRow> rows) {
+        OrderFacetRow order = rows.get(0);
+        Set<ProductType> productTypes = EnumSet.noneOf(ProductType.class);
+        List<String> productNumbers = new ArrayList<>(rows.size());
+        for (OrderFacetRow row : rows) {
+            if (row.productNumber() != null) {
+                productTypes.add(row.productType());
+                productNumbers.add(row.productNumber());
+            }
+        }
+        index.add(
+            order.orderId(),
+            order.registeredDateTime(),
+            order.orderStatus(),
+            order.totalPrice(),
+            productTypes,
+            productNumbers
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package sample.cafekiosk.spring.api.service.order.facet;
+
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * facet 색인의 조회 결과.
+ * <p>
+ * facet 별 개수는 해당 facet 의 조건만 빼고 나머지 조건을 모두 적용해 센다.
+ * (주문 상태를 여러 개 고르더라도 고르지 않은 상태의 개수를 함께 보여줄 수 있다.)
+ *
+ * @param orderIds        요청한 페이지에 해당하는 주문 id (최근 주문부터)
+ * @param priceBandCounts 가격대 시작 금액별 주문 수
+ */
+public record OrderFacets(
+    long totalCount,
+    List<Long> orderIds,
+    Map<OrderStatus, Long> statusCounts,
+    Map<ProductType, Long> productTypeCounts,
+    Map<LocalDate, Long> dailyCounts,
+    Map<Integer, Long> priceBandCounts
+) {
+}
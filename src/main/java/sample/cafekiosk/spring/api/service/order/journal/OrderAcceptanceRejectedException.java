@@ -0,0 +1,11 @@
+package sample.cafekiosk.spring.api.service.order.journal;
+
+/**
+ * 처리를 기다리는 주문 요청이 너무 많아 접수를 거절했다. 요청 자체에는 문제가 없으므로 잠시 후 다시 시도할 수 있다.
+ */
+public class OrderAcceptanceRejectedException extends RuntimeException {
+
+    public OrderAcceptanceRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,332 @@
+package sample.cafekiosk.spring.api.service.order.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderAcceptanceResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 요청을 저널에 기록하는 것까지만 동기로 처리하고, 주문 생성은 백그라운드에서 처리한다. (accept-fast)
+ * <p>
+ * - 접수된 요청은 저널에 fsync 된 뒤 토큰과 함께 응답한다.
+ * - 전용 스레드가 저널에 기록된 순서대로 {@link OrderService#createAcceptedOrder} 를 호출해 주문을 생성하고,
+ *   처리 결과(APPLIED / FAILED)를 다시 저널에 기록한다.
+ * - 재시작 시 처리 결과가 기록되지 않은 요청을 다시 적용한다. 주문과 토큰이 같은 트랜잭션에서 저장되므로
+ *   결과 기록 직전에 종료되었더라도 주문이 중복 생성되지 않는다.
+ * <p>
+ * 재고 부족 등 요청 자체의 문제(IllegalArgumentException)만 실패(FAILED)로 기록한다.
+ * <p>
+ * - DB 장애처럼 일시적인 오류는 순서를 지키기 위해 같은 요청을 retry-backoff-ms 부터 두 배씩 (최대 max-backoff-ms) 기다리며
+ *   성공할 때까지 다시 시도한다. 그 사이에 종료되면 요청은 처리되지 않은 채 저널에 남아 재시작 시 다시 적용된다.
+ * - 그 외의 오류로 max-attempts 번 실패한 요청은 보류(DEAD_LETTER)로 기록하고 다음 요청을 처리한다.
+ *   보류한 요청은 압축해도 저널에 남고 결과 조회에서도 밀려나지 않으며, 재시작 시 다시 적용한다.
+ * <p>
+ * - 처리를 기다리는 요청이 max-pending 개를 넘거나, 저널을 사용할 수 없거나, append-timeout-ms 안에 저널에 기록되지 않으면 접수를 거절한다. (503)
+ * - 처리가 끝난 결과(APPLIED / FAILED)는 최근 max-finished 개만 조회할 수 있다.
+ * - 저널은 compact-threshold 줄마다 처리를 기다리는 요청과 조회할 수 있는 결과만 남기도록 압축한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "cafekiosk.order.journal.enabled", havingValue = "true")
+@Service
+public class OrderAcceptanceService {
+
+    private static final String DEAD_LETTERED = "주문 처리가 보류되었습니다. 확인 후 다시 처리합니다.";
+
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final Path journalPath;
+    private final int maxBatchSize;
+    private final long appendTimeoutMillis;
+    private final long retryBackoffMillis;
+    private final long maxBackoffMillis;
+    private final int maxAttempts;
+    private final int maxPending;
+    private final int maxFinished;
+    private final int compactThreshold;
+    private final Map<String, OrderAcceptanceResponse> acceptances = new ConcurrentHashMap<>();
+    private final BlockingQueue<OrderJournalEntry> pending = new LinkedBlockingQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Queue<String> finishedTokens = new ArrayDeque<>();
+    private final Thread consumer = new Thread(this::run, "order-journal-consumer");
+
+    /**
+     * 저널에 기록되었지만 처리 결과는 아직 기록되지 않은 요청. 압축할 때 남길 항목이다. (기록 순서 유지)
+     */
+    private final Map<String, OrderJournalEntry> unapplied = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private OrderJournal journal;
+    private volatile boolean stopped;
+
+    public OrderAcceptanceService(
+        OrderService orderService,
+        ObjectMapper objectMapper,
+        @Value("${cafekiosk.order.journal.path:./data/order-journal.log}") String journalPath,
+        @Value("${cafekiosk.order.journal.max-batch-size:256}") int maxBatchSize,
+        @Value("${cafekiosk.order.journal.append-timeout-ms:5000}") long appendTimeoutMillis,
+        @Value("${cafekiosk.order.journal.retry-backoff-ms:1000}") long retryBackoffMillis,
+        @Value("${cafekiosk.order.journal.max-backoff-ms:30000}") long maxBackoffMillis,
+        @Value("${cafekiosk.order.journal.max-attempts:5}") int maxAttempts,
+        @Value("${cafekiosk.order.journal.max-pending:10000}") int maxPending,
+        @Value("${cafekiosk.order.journal.max-finished:10000}") int maxFinished,
+        @Value("${cafekiosk.order.journal.compact-threshold:50000}") int compactThreshold
+    ) {
+        this.orderService = orderService;
+        this.objectMapper = objectMapper;
+        this.journalPath = Path.of(journalPath);
+        this.maxBatchSize = maxBatchSize;
+        this.appendTimeoutMillis = appendTimeoutMillis;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.maxAttempts = maxAttempts;
+        this.maxPending = maxPending;
+        this.maxFinished = maxFinished;
+        this.compactThreshold = compactThreshold;
+        this.consumer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        journal = OrderJournal.open(journalPath, objectMapper, maxBatchSize, this::onDurable, compactThreshold, this::liveEntries);
+        replay(journal.readAll());
+        consumer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        stopped = true;
+        consumer.interrupt();
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+        journal.close();
+    }
+
+    /**
+     * 주문 요청을 저널에 기록하고 토큰을 발급한다. 요청이 디스크에 반영된 뒤에 반환한다.
+     * 처리를 기다리는 요청이 max-pending 개이거나 저널을 사용할 수 없다면 기록하지 않고 거절한다.
+     * <p>
+     * append-timeout-ms 안에 기록되지 않으면 아직 기록 스레드가 가져가지 않은 요청은 취소하고 거절한다.
+     * 이미 기록 중인 요청은 취소할 수 없으므로, 토큰을 알려주고 접수 여부를 조회하도록 거절한다.
+     */
+    public OrderAcceptanceResponse accept(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        if (!journal.isUsable()) {
+            throw new OrderAcceptanceRejectedException("주문 저널을 사용할 수 없어 주문을 접수하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            throw new OrderAcceptanceRejectedException("접수 대기 중인 주문이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        String token = UUID.randomUUID().toString();
+        OrderAcceptanceResponse accepted = OrderAcceptanceResponse.accepted(token);
+        acceptances.put(token, accepted);
+
+        CompletableFuture<Void> durable = journal.append(OrderJournalEntry.accepted(token, request, registeredDateTime));
+        durable.whenComplete((ignored, e) -> {
+            if (e != null) {
+                acceptances.remove(token);
+                pendingCount.decrementAndGet();
+            }
+        });
+        await(durable, token);
+        return accepted;
+    }
+
+    public OrderAcceptanceResponse getAcceptance(String token) {
+        OrderAcceptanceResponse acceptance = acceptances.get(token);
+        if (acceptance == null) {
+            throw new IllegalArgumentException("존재하지 않는 주문 토큰입니다.");
+        }
+        return acceptance;
+    }
+
+    /**
+     * @return 처리를 기다리는 요청 수
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private void await(CompletableFuture<Void> durable, String token) {
+        try {
+            durable.get(appendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            log.warn("주문 요청을 저널에 기록하지 못했습니다. - {}", token, e.getCause());
+            throw new OrderAcceptanceRejectedException("주문을 접수하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (journal.cancel(durable)) {
+                throw new OrderAcceptanceRejectedException("주문 저널 기록이 지연되어 주문을 접수하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            throw new OrderAcceptanceRejectedException("주문 접수 결과를 확인하지 못했습니다. 토큰으로 접수 여부를 조회해 주세요. - " + token);
+        }
+    }
+
+    private void onDurable(OrderJournalEntry entry) {
+        switch (entry.type()) {
+            case ACCEPTED -> {
+                unapplied.put(entry.token(), entry);
+                pending.add(entry);
+            }
+            case APPLIED, FAILED -> unapplied.remove(entry.token());
+            case DEAD_LETTER -> {
+            }
+        }
+    }
+
+    /**
+     * 압축한 저널에 남길 항목. 처리 결과가 기록되지 않은 요청을 먼저 두어, 결과가 함께 남더라도 요청 다음에 읽히게 한다.
+     * 저널 기록 스레드에서 호출된다.
+     */
+    private List<OrderJournalEntry> liveEntries() {
+        List<OrderJournalEntry> entries;
+        synchronized (unapplied) {
+            entries = new ArrayList<>(unapplied.values());
+        }
+        acceptances.values().forEach(acceptance -> {
+            switch (acceptance.status()) {
+                case APPLIED -> entries.add(OrderJournalEntry.applied(acceptance.token(), acceptance.orderId()));
+                case FAILED -> entries.add(OrderJournalEntry.failed(acceptance.token(), acceptance.message()));
+                case DEAD_LETTER -> entries.add(OrderJournalEntry.deadLettered(acceptance.token(), acceptance.message()));
+                case ACCEPTED -> {
+                }
+            }
+        });
+        return entries;
+    }
+
+    private void replay(List<OrderJournalEntry> entries) {
+        Map<String, OrderJournalEntry> remaining = new LinkedHashMap<>();
+        for (OrderJournalEntry entry : entries) {
+            switch (entry.type()) {
+                case ACCEPTED -> {
+                    remaining.put(entry.token(), entry);
+                    acceptances.put(entry.token(), OrderAcceptanceResponse.accepted(entry.token()));
+                }
+                case APPLIED -> {
+                    remaining.remove(entry.token());
+                    finish(OrderAcceptanceResponse.applied(entry.token(), entry.orderId()));
+                }
+                case FAILED -> {
+                    remaining.remove(entry.token());
+                    finish(OrderAcceptanceResponse.failed(entry.token(), entry.message()));
+                }
+                case DEAD_LETTER -> acceptances.put(entry.token(), OrderAcceptanceResponse.deadLettered(entry.token(), entry.message()));
+            }
+        }
+
+        unapplied.putAll(remaining);
+        pending.addAll(remaining.values());
+        pendingCount.addAndGet(remaining.size());
+        log.info("주문 저널 복구 완료 - 전체 {}건, 재처리 대상 {}건", entries.size(), remaining.size());
+    }
+
+    private void run() {
+        while (!stopped) {
+            try {
+                apply(pending.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void apply(OrderJournalEntry entry) throws InterruptedException {
+        String token = entry.token();
+        long backoffMillis = retryBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                OrderResponse response = orderService.createAcceptedOrder(token, entry.toServiceRequest(), entry.registeredDateTime());
+                record(OrderJournalEntry.applied(token, response.id()), OrderAcceptanceResponse.applied(token, response.id()));
+                return;
+            } catch (IllegalArgumentException e) {
+                record(OrderJournalEntry.failed(token, e.getMessage()), OrderAcceptanceResponse.failed(token, e.getMessage()));
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e) && attempt >= maxAttempts) {
+                    log.error("접수된 주문을 {}번 시도했지만 생성하지 못해 보류합니다. - {}", attempt, token, e);
+                    deadLetter(token);
+                    return;
+                }
+                log.warn("접수된 주문을 생성하지 못했습니다. {}ms 후 다시 시도합니다. - {}", backoffMillis, token, e);
+                TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+            }
+        }
+    }
+
+    /**
+     * DB 에 연결할 수 없는 경우처럼 기다리면 해결될 수 있는 오류인지 판단한다.
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+            || e instanceof RecoverableDataAccessException
+            || e instanceof DataAccessResourceFailureException
+            || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * 보류한 요청은 처리를 기다리는 요청에서 빼지만, 저널과 결과 조회에는 남긴다.
+     */
+    private void deadLetter(String token) {
+        pendingCount.decrementAndGet();
+        acceptances.put(token, OrderAcceptanceResponse.deadLettered(token, DEAD_LETTERED));
+        journal.append(OrderJournalEntry.deadLettered(token, DEAD_LETTERED));
+    }
+
+    /**
+     * 처리 결과는 기다리지 않고 기록한다. 결과가 유실되더라도 재시작 시 토큰으로 중복 생성을 막는다.
+     */
+    private void record(OrderJournalEntry entry, OrderAcceptanceResponse acceptance) {
+        pendingCount.decrementAndGet();
+        finish(acceptance);
+        journal.append(entry);
+    }
+
+    /**
+     * 처리가 끝난 결과는 최근 max-finished 개만 남긴다. 재시작 전에는 replay 에서, 이후에는 처리 스레드에서만 호출된다.
+     */
+    private void finish(OrderAcceptanceResponse acceptance) {
+        OrderAcceptanceResponse previous = acceptances.put(acceptance.token(), acceptance);
+        if (previous == null
+            || previous.status() == OrderAcceptanceStatus.ACCEPTED
+            || previous.status() == OrderAcceptanceStatus.DEAD_LETTER) {
+            finishedTokens.add(acceptance.token());
+        }
+        while (finishedTokens.size() > maxFinished) {
+            acceptances.remove(finishedTokens.poll());
+        }
+    }
+}
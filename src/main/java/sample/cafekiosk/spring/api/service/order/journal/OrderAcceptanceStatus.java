@@ -0,0 +1,16 @@
+package sample.cafekiosk.spring.api.service.order.journal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderAcceptanceStatus {
+
+    ACCEPTED("접수완료"),
+    APPLIED("주문생성"),
+    FAILED("주문실패"),
+    DEAD_LETTER("처리보류");
+
+    private final String text;
+}
@@ -0,0 +1,330 @@
+package sample.cafekiosk.spring.api.service.order.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * 주문 요청을 한 줄에 하나씩(JSON lines) 기록하는 추가 전용(append-only) 로컬 저널.
+ * <p>
+ * 기록 요청은 큐에 쌓이고, 전용 스레드가 쌓인 요청을 한 번에 쓴 뒤 fsync 를 한 번만 호출한다. (fsync 배치)
+ * {@link #append} 가 반환한 future 는 해당 줄이 디스크에 반영된 뒤에 완료되며,
+ * 반영된 항목은 파일에 기록된 순서대로 onDurable 콜백으로 전달된다.
+ * <p>
+ * compactThreshold 줄을 기록할 때마다 liveEntries 가 돌려준 항목만으로 저널을 다시 써서 교체한다. (압축)
+ * 압축은 기록 스레드에서 batch 사이에 실행되므로, 그때까지 기록된 항목은 모두 onDurable 로 전달된 뒤다.
+ * <p>
+ * 기록 스레드가 예상하지 못한 오류로 멈추면 저널을 사용할 수 없는 상태로 표시하고, 기다리던 기록 요청과
+ * 이후의 기록 요청을 모두 실패시킨다. (future 가 완료되지 않은 채 남지 않는다.)
+ */
+@Slf4j
+public class OrderJournal implements AutoCloseable {
+
+    private static final PendingAppend CLOSE = new PendingAppend(null, null, null);
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
+    private final Consumer<OrderJournalEntry> onDurable;
+    private final int compactThreshold;
+    private final Supplier<List<OrderJournalEntry>> liveEntries;
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Thread writer = new Thread(this::run, "order-journal-writer");
+
+    private FileChannel channel;
+    private int appendedSinceCompaction;
+    private volatile boolean closed;
+    private volatile boolean broken;
+
+    private OrderJournal(
+        Path path,
+        ObjectMapper objectMapper,
+        int maxBatchSize,
+        Consumer<OrderJournalEntry> onDurable,
+        int compactThreshold,
+        Supplier<List<OrderJournalEntry>> liveEntries
+    ) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.onDurable = onDurable;
+        this.compactThreshold = compactThreshold;
+        this.liveEntries = liveEntries;
+        this.channel = FileChannel.open(path, CREATE, WRITE, APPEND);
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * 저널 파일을 연다.
+     * 비정상 종료로 마지막 줄이 끝까지 기록되지 못했다면 해당 줄은 잘라낸다. (해당 요청은 접수 응답을 받지 못한 요청이다.)
+     */
+    public static OrderJournal open(Path path, ObjectMapper objectMapper, int maxBatchSize, Consumer<OrderJournalEntry> onDurable) throws IOException {
+        return open(path, objectMapper, maxBatchSize, onDurable, 0, List::of);
+    }
+
+    /**
+     * 압축하는 저널 파일을 연다. compactThreshold 가 0 이하이면 압축하지 않는다.
+     */
+    public static OrderJournal open(
+        Path path,
+        ObjectMapper objectMapper,
+        int maxBatchSize,
+        Consumer<OrderJournalEntry> onDurable,
+        int compactThreshold,
+        Supplier<List<OrderJournalEntry>> liveEntries
+    ) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        truncateTornTail(path);
+
+        OrderJournal journal = new OrderJournal(path, objectMapper, maxBatchSize, onDurable, compactThreshold, liveEntries);
+        journal.writer.start();
+        return journal;
+    }
+
+    public List<OrderJournalEntry> readAll() throws IOException {
+        List<OrderJournalEntry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(path, UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            entries.add(objectMapper.readValue(line, OrderJournalEntry.class));
+        }
+        return entries;
+    }
+
+    public CompletableFuture<Void> append(OrderJournalEntry entry) {
+        if (closed) {
+            throw new IllegalStateException("주문 저널이 닫혔습니다.");
+        }
+
+        if (broken) {
+            return CompletableFuture.failedFuture(unusable());
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        queue.add(new PendingAppend(entry, serialize(entry), future));
+        if (broken) {
+            failQueued();
+        }
+        return future;
+    }
+
+    /**
+     * 아직 기록 스레드가 가져가지 않은 기록 요청을 취소한다.
+     *
+     * @return 취소했으면 true, 이미 기록 중이거나 끝난 요청이면 false
+     */
+    public boolean cancel(CompletableFuture<Void> future) {
+        if (!queue.removeIf(pending -> pending.future() == future)) {
+            return false;
+        }
+        future.cancel(false);
+        return true;
+    }
+
+    /**
+     * @return 기록 스레드가 멈추지 않아 기록을 요청할 수 있으면 true
+     */
+    public boolean isUsable() {
+        return !closed && !broken;
+    }
+
+    /**
+     * 이미 요청된 기록을 모두 반영한 뒤 저널을 닫는다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.add(CLOSE);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void run() {
+        List<PendingAppend> batch = new ArrayList<>(maxBatchSize);
+        try {
+            writeBatches(batch);
+        } catch (RuntimeException | Error e) {
+            log.error("주문 저널 기록 스레드가 멈췄습니다. 이후의 기록 요청은 모두 실패합니다.", e);
+            broken = true;
+            queue.drainTo(batch);
+            fail(batch);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private void writeBatches(List<PendingAppend> batch) {
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+
+            boolean closeRequested = batch.remove(CLOSE);
+            if (!batch.isEmpty() && write(batch)) {
+                appendedSinceCompaction += batch.size();
+                if (compactThreshold > 0 && appendedSinceCompaction >= compactThreshold) {
+                    compact();
+                    appendedSinceCompaction = 0;
+                }
+            }
+            batch.clear();
+
+            if (closeRequested) {
+                return;
+            }
+        }
+    }
+
+    private void failQueued() {
+        List<PendingAppend> queued = new ArrayList<>();
+        queue.drainTo(queued);
+        fail(queued);
+    }
+
+    private static void fail(List<PendingAppend> pendings) {
+        pendings.stream()
+            .filter(pending -> pending != CLOSE)
+            .forEach(pending -> pending.future().completeExceptionally(unusable()));
+    }
+
+    private static IllegalStateException unusable() {
+        return new IllegalStateException("주문 저널을 사용할 수 없습니다.");
+    }
+
+    private boolean write(List<PendingAppend> batch) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        batch.forEach(pending -> out.writeBytes(pending.line()));
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            log.error("주문 저널 기록에 실패했습니다. - {}건", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return false;
+        }
+
+        for (PendingAppend pending : batch) {
+            onDurable.accept(pending.entry());
+            pending.future().complete(null);
+        }
+        return true;
+    }
+
+    /**
+     * 살아 있는 항목만 임시 파일에 쓰고 fsync 한 뒤 저널과 바꾼다.
+     * 교체 전에 종료되면 기존 저널이 그대로 남으므로, 압축에 실패해도 기존 저널을 계속 사용한다.
+     */
+    private void compact() {
+        List<OrderJournalEntry> entries = liveEntries.get();
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            entries.forEach(entry -> out.writeBytes(serialize(entry)));
+            try (FileChannel file = FileChannel.open(compacted, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+                while (buffer.hasRemaining()) {
+                    file.write(buffer);
+                }
+                file.force(true);
+            }
+
+            channel.close();
+            Files.move(compacted, path, ATOMIC_MOVE, REPLACE_EXISTING);
+            log.info("주문 저널 압축 완료 - {}건", entries.size());
+        } catch (IOException e) {
+            log.error("주문 저널 압축에 실패했습니다. 기존 저널을 계속 사용합니다.", e);
+        } finally {
+            reopen();
+        }
+    }
+
+    private void reopen() {
+        if (channel.isOpen()) {
+            return;
+        }
+        try {
+            channel = FileChannel.open(path, CREATE, WRITE, APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 저널을 다시 열지 못했습니다.", e);
+        }
+    }
+
+    private byte[] serialize(OrderJournalEntry entry) {
+        try {
+            return (objectMapper.writeValueAsString(entry) + "\n").getBytes(UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 저널 항목을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private static void truncateTornTail(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(path, READ, WRITE)) {
+            long position = file.size();
+            ByteBuffer one = ByteBuffer.allocate(1);
+            while (position > 0) {
+                one.clear();
+                file.read(one, position - 1);
+                if (one.get(0) == '\n') {
+                    break;
+                }
+                position--;
+            }
+
+            if (position < file.size()) {
+                log.warn("주문 저널의 마지막 줄이 온전하지 않아 잘라냅니다. - {} bytes", file.size() - position);
+                file.truncate(position);
+                file.force(true);
+            }
+        }
+    }
+
+    private record PendingAppend(
+        OrderJournalEntry entry,
+        byte[] line,
+        CompletableFuture<Void> future
+    ) {
+    }
+}
@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.api.service.order.journal;
+
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 저널의 한 줄.
+ * ACCEPTED 는 접수된 주문 요청을, APPLIED / FAILED 는 해당 토큰의 처리 결과를 기록한다.
+ * DEAD_LETTER 는 다시 시도해도 처리하지 못해 보류한 요청으로, 처리 결과가 아니므로 요청은 저널에 그대로 남는다.
+ */
+public record OrderJournalEntry(
+    Type type,
+    String token,
+    List<String> productNumbers,
+    LocalDateTime registeredDateTime,
+    Long orderId,
+    String message
+) {
+    public enum Type {
+        ACCEPTED, APPLIED, FAILED, DEAD_LETTER
+    }
+
+    public static OrderJournalEntry accepted(String token, OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        return new OrderJournalEntry(Type.ACCEPTED, token, request.productNumbers(), registeredDateTime, null, null);
+    }
+
+    public static OrderJournalEntry applied(String token, Long orderId) {
+        return new OrderJournalEntry(Type.APPLIED, token, null, null, orderId, null);
+    }
+
+    public static OrderJournalEntry failed(String token, String message) {
+        return new OrderJournalEntry(Type.FAILED, token, null, null, null, message);
+    }
+
+    public static OrderJournalEntry deadLettered(String token, String message) {
+        return new OrderJournalEntry(Type.DEAD_LETTER, token, null, null, null, message);
+    }
+
+    public OrderCreateServiceRequest toServiceRequest() {
+        return new OrderCreateServiceRequest(productNumbers);
+    }
+}
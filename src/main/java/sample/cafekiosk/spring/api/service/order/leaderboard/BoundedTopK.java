@@ -0,0 +1,46 @@
+package sample.cafekiosk.spring.api.service.order.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 순위가 높은 capacity 개만 남기는 최소 힙. 추가만 되는 값(주문)의 순위표에 사용한다.
+ * 힙의 맨 위는 남아 있는 값 중 순위가 가장 낮은 값이므로 새 값은 그 값과 한 번만 비교하면 된다.
+ */
+final class BoundedTopK<T> {
+
+    private final int capacity;
+    private final Comparator<T> rank;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param rank 순위가 높을수록 큰 값이 되는 비교자
+     */
+    BoundedTopK(int capacity, Comparator<T> rank) {
+        this.capacity = capacity;
+        this.rank = rank;
+        this.heap = new PriorityQueue<>(capacity, rank);
+    }
+
+    synchronized void offer(T item) {
+        if (heap.size() < capacity) {
+            heap.add(item);
+            return;
+        }
+        if (rank.compare(item, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(item);
+        }
+    }
+
+    /**
+     * 순위가 높은 순으로 최대 k 개를 돌려준다.
+     */
+    synchronized List<T> top(int k) {
+        List<T> items = new ArrayList<>(heap);
+        items.sort(rank.reversed());
+        return List.copyOf(items.subList(0, Math.min(k, items.size())));
+    }
+}
@@ -0,0 +1,143 @@
+package sample.cafekiosk.spring.api.service.order.leaderboard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.order.response.OrderRankResponse;
+import sample.cafekiosk.spring.api.service.order.response.ProductSalesResponse;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
+import sample.cafekiosk.spring.domain.order.OrderRankingRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 총 금액 상위 주문 / 판매 수량 상위 상품 순위표. (전체 기간, 일별)
+ * <p>
+ * - 주문이 커밋되면 순위표를 바로 갱신하고, 조회는 메모리에서만 처리한다.
+ * - 순위표마다 max-k 개만 유지하므로 주문 수와 관계없이 크기가 일정하다.
+ * - 일별 순위표는 가장 최근 retention-days 일치만 유지한다.
+ * - 시작 시 DB 로부터 다시 만든다. 다시 만드는 동안 생성된 주문은 반영되지 않을 수 있다.
+ */
+@Slf4j
+@Component
+public class OrderLeaderboard {
+
+    private static final Comparator<OrderRankResponse> ORDER_RANK = Comparator
+        .comparingInt(OrderRankResponse::totalPrice)
+        .thenComparing(OrderRankResponse::orderId, Comparator.reverseOrder());
+
+    private final OrderRankingRepository orderRankingRepository;
+    private final int maxK;
+    private final int retentionDays;
+
+    private volatile Board allTime;
+    private volatile NavigableMap<LocalDate, Board> daily = new ConcurrentSkipListMap<>();
+
+    public OrderLeaderboard(
+        OrderRankingRepository orderRankingRepository,
+        @Value("${cafekiosk.order.leaderboard.max-k:100}") int maxK,
+        @Value("${cafekiosk.order.leaderboard.retention-days:7}") int retentionDays
+    ) {
+        this.orderRankingRepository = orderRankingRepository;
+        this.maxK = maxK;
+        this.retentionDays = retentionDays;
+        this.allTime = new Board(maxK);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Board rebuiltAllTime = load(null, null);
+
+        NavigableMap<LocalDate, Board> rebuiltDaily = new ConcurrentSkipListMap<>();
+        LocalDate today = LocalDate.now();
+        for (LocalDate date = today.minusDays(retentionDays - 1L); !date.isAfter(today); date = date.plusDays(1)) {
+            rebuiltDaily.put(date, load(date.atStartOfDay(), date.plusDays(1).atStartOfDay()));
+        }
+
+        this.allTime = rebuiltAllTime;
+        this.daily = rebuiltDaily;
+        log.info("주문 순위표 복구 완료 - 일별 {}일", rebuiltDaily.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        OrderRankResponse order = new OrderRankResponse(event.orderId(), event.totalPrice(), event.registeredDateTime());
+        Map<String, Long> quantities = event.productNumbers().stream()
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        allTime.record(order, quantities);
+        dailyBoard(event.registeredDateTime().toLocalDate()).record(order, quantities);
+    }
+
+    /**
+     * @param date null 이면 전체 기간
+     */
+    public List<OrderRankResponse> getTopOrders(LocalDate date, int k) {
+        validateK(k);
+        Board board = boardOf(date);
+        return board == null ? List.of() : board.orders.top(k);
+    }
+
+    /**
+     * @param date null 이면 전체 기간
+     */
+    public List<ProductSalesResponse> getTopProducts(LocalDate date, int k) {
+        validateK(k);
+        Board board = boardOf(date);
+        return board == null ? List.of() : board.products.top(k);
+    }
+
+    private Board boardOf(LocalDate date) {
+        return date == null ? allTime : daily.get(date);
+    }
+
+    private Board dailyBoard(LocalDate date) {
+        NavigableMap<LocalDate, Board> boards = daily;
+        Board board = boards.computeIfAbsent(date, ignored -> new Board(maxK));
+        while (boards.size() > retentionDays) {
+            boards.pollFirstEntry();
+        }
+        return board;
+    }
+
+    private Board load(LocalDateTime start, LocalDateTime end) {
+        Board board = new Board(maxK);
+        orderRankingRepository.findTopOrders(start, end, maxK).forEach(board.orders::offer);
+        orderRankingRepository.countProductSales(start, end)
+            .forEach(sales -> board.products.add(sales.productNumber(), sales.quantity()));
+        return board;
+    }
+
+    private void validateK(int k) {
+        if (k < 1 || k > maxK) {
+            throw new IllegalArgumentException("조회할 순위 수는 1 이상 " + maxK + " 이하여야 합니다.");
+        }
+    }
+
+    private static final class Board {
+
+        private final BoundedTopK<OrderRankResponse> orders;
+        private final ProductSalesTopK products;
+
+        private Board(int capacity) {
+            this.orders = new BoundedTopK<>(capacity, ORDER_RANK);
+            this.products = new ProductSalesTopK(capacity);
+        }
+
+        private void record(OrderRankResponse order, Map<String, Long> quantities) {
+            orders.offer(order);
+            quantities.forEach(products::add);
+        }
+    }
+}
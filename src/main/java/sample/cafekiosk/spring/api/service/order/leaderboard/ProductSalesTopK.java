@@ -0,0 +1,72 @@
+package sample.cafekiosk.spring.api.service.order.leaderboard;
+
+import sample.cafekiosk.spring.api.service.order.response.ProductSalesResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 판매 수량 상위 capacity 개 상품을 유지한다.
+ * <p>
+ * 판매 수량은 늘어나기만 하므로 바뀐 상품 하나만 힙과 비교하면 된다.
+ * - 이미 힙에 있는 상품이면 수량을 갱신한다.
+ * - 힙 밖의 상품이면 힙의 최솟값보다 커졌을 때만 자리를 바꾼다.
+ * 상품별 누적 수량은 상품 수만큼만 유지된다.
+ */
+final class ProductSalesTopK {
+
+    /**
+     * 수량이 많을수록, 수량이 같으면 상품 번호가 작을수록 순위가 높다.
+     */
+    static final Comparator<ProductSalesResponse> RANK = Comparator
+        .comparingLong(ProductSalesResponse::quantity)
+        .thenComparing(ProductSalesResponse::productNumber, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final Map<String, Long> quantities = new HashMap<>();
+    private final Map<String, ProductSalesResponse> ranked = new HashMap<>();
+    private final PriorityQueue<ProductSalesResponse> heap;
+
+    ProductSalesTopK(int capacity) {
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(capacity, RANK);
+    }
+
+    synchronized void add(String productNumber, long quantity) {
+        long total = quantities.merge(productNumber, quantity, Long::sum);
+        ProductSalesResponse entry = new ProductSalesResponse(productNumber, total);
+
+        ProductSalesResponse previous = ranked.get(productNumber);
+        if (previous != null) {
+            heap.remove(previous);
+            push(entry);
+            return;
+        }
+        if (heap.size() < capacity) {
+            push(entry);
+            return;
+        }
+        if (RANK.compare(entry, heap.peek()) > 0) {
+            ranked.remove(heap.poll().productNumber());
+            push(entry);
+        }
+    }
+
+    /**
+     * 순위가 높은 순으로 최대 k 개를 돌려준다.
+     */
+    synchronized List<ProductSalesResponse> top(int k) {
+        List<ProductSalesResponse> items = new ArrayList<>(heap);
+        items.sort(RANK.reversed());
+        return List.copyOf(items.subList(0, Math.min(k, items.size())));
+    }
+
+    private void push(ProductSalesResponse entry) {
+        heap.add(entry);
+        ranked.put(entry.productNumber(), entry);
+    }
+}
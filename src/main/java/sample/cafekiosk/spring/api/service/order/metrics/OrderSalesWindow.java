@@ -0,0 +1,128 @@
+package sample.cafekiosk.spring.api.service.order.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.order.response.OrderSalesMetricResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderSalesWindowResponse;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 N분 동안 주문 상태별로 들어온 주문 수 / 금액. (대시보드용)
+ * <p>
+ * 상태마다 초 단위 버킷을 max-window-minutes 분 만큼 원형으로 두고, 버킷은 LongAdder 로 더한다.
+ * - 주문 생성 / 상태 변경이 커밋되면 현재 초의 버킷에 더한다.
+ * - 조회는 버킷만 더하므로 DB 를 사용하지 않으며, 비용은 버킷 수에 비례한다.
+ * <p>
+ * 한 바퀴를 돌아 버킷을 비우는 순간 같은 버킷에 동시에 더해진 값은 유실될 수 있다. (대시보드용 근사치)
+ */
+@Component
+public class OrderSalesWindow {
+
+    private final Clock clock;
+    private final int maxWindowMinutes;
+    private final Map<OrderStatus, Bucket[]> rings = new EnumMap<>(OrderStatus.class);
+
+    @Autowired
+    public OrderSalesWindow(@Value("${cafekiosk.order.metrics.max-window-minutes:60}") int maxWindowMinutes) {
+        this(Clock.systemDefaultZone(), maxWindowMinutes);
+    }
+
+    OrderSalesWindow(Clock clock, int maxWindowMinutes) {
+        this.clock = clock;
+        this.maxWindowMinutes = maxWindowMinutes;
+
+        int size = maxWindowMinutes * 60;
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            Bucket[] ring = new Bucket[size];
+            Arrays.setAll(ring, i -> new Bucket());
+            rings.put(orderStatus, ring);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        record(event.orderStatus(), 1, event.totalPrice());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        record(event.orderStatus(), event.orderCount(), event.totalPrice());
+    }
+
+    public void record(OrderStatus orderStatus, long orderCount, long totalPrice) {
+        long now = currentSecond();
+        Bucket[] ring = rings.get(orderStatus);
+        Bucket bucket = ring[(int) (now % ring.length)];
+        bucket.rollTo(now);
+        bucket.orderCount.add(orderCount);
+        bucket.totalPrice.add(totalPrice);
+    }
+
+    public OrderSalesWindowResponse getSales(int minutes) {
+        if (minutes < 1 || minutes > maxWindowMinutes) {
+            throw new IllegalArgumentException("조회 기간은 1분 이상 " + maxWindowMinutes + "분 이하여야 합니다.");
+        }
+
+        long now = currentSecond();
+        long from = now - minutes * 60L;
+
+        List<OrderSalesMetricResponse> sales = rings.entrySet().stream()
+            .map(entry -> sum(entry.getKey(), entry.getValue(), from, now))
+            .toList();
+        return new OrderSalesWindowResponse(minutes, sales);
+    }
+
+    /**
+     * (from, to] 초의 버킷을 더한다.
+     */
+    private OrderSalesMetricResponse sum(OrderStatus orderStatus, Bucket[] ring, long from, long to) {
+        long orderCount = 0;
+        long totalPrice = 0;
+        for (Bucket bucket : ring) {
+            long second = bucket.second;
+            if (second > from && second <= to) {
+                orderCount += bucket.orderCount.sum();
+                totalPrice += bucket.totalPrice.sum();
+            }
+        }
+        return new OrderSalesMetricResponse(orderStatus, orderCount, totalPrice);
+    }
+
+    private long currentSecond() {
+        return clock.millis() / 1000;
+    }
+
+    private static final class Bucket {
+
+        private volatile long second = -1;
+        private final LongAdder orderCount = new LongAdder();
+        private final LongAdder totalPrice = new LongAdder();
+
+        /**
+         * 버킷이 이전 바퀴의 초를 담고 있으면 비우고 현재 초의 버킷으로 바꾼다. (초마다 한 번만 락을 잡는다.)
+         */
+        private void rollTo(long now) {
+            if (second == now) {
+                return;
+            }
+            synchronized (this) {
+                if (second != now) {
+                    orderCount.reset();
+                    totalPrice.reset();
+                    second = now;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OrderStatisticsMailServiceRequest(
+    LocalDate from,
+    LocalDate to,
+    List<String> emails
+) {
+}
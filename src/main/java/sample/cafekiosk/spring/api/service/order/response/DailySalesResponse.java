@@ -0,0 +1,25 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummary;
+
+import java.time.LocalDate;
+
+public record DailySalesResponse(
+    LocalDate salesDate,
+    long orderCount,
+    long totalPrice,
+    long handmadeTotal,
+    long bottleTotal,
+    long bakeryTotal
+) {
+    public static DailySalesResponse of(DailySalesSummary summary) {
+        return new DailySalesResponse(
+            summary.getSalesDate(),
+            summary.getOrderCount(),
+            summary.getTotalPrice(),
+            summary.getHandmadeTotal(),
+            summary.getBottleTotal(),
+            summary.getBakeryTotal()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import sample.cafekiosk.spring.api.service.order.journal.OrderAcceptanceStatus;
+
+public record OrderAcceptanceResponse(
+    String token,
+    OrderAcceptanceStatus status,
+    Long orderId,
+    String message
+) {
+    public static OrderAcceptanceResponse accepted(String token) {
+        return new OrderAcceptanceResponse(token, OrderAcceptanceStatus.ACCEPTED, null, null);
+    }
+
+    public static OrderAcceptanceResponse applied(String token, Long orderId) {
+        return new OrderAcceptanceResponse(token, OrderAcceptanceStatus.APPLIED, orderId, null);
+    }
+
+    public static OrderAcceptanceResponse failed(String token, String message) {
+        return new OrderAcceptanceResponse(token, OrderAcceptanceStatus.FAILED, null, message);
+    }
+
+    public static OrderAcceptanceResponse deadLettered(String token, String message) {
+        return new OrderAcceptanceResponse(token, OrderAcceptanceStatus.DEAD_LETTER, null, message);
+    }
+}
@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import java.util.List;
+
+public record OrderBulkResponse(
+    int successCount,
+    int failureCount,
+    List<OrderCreateResult> results
+) {
+    public static OrderBulkResponse of(List<OrderCreateResult> results) {
+        int successCount = (int) results.stream()
+            .filter(OrderCreateResult::success)
+            .count();
+
+        return new OrderBulkResponse(successCount, results.size() - successCount, results);
+    }
+}
@@ -0,0 +1,15 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+public record OrderCreateResult(
+    boolean success,
+    OrderResponse order,
+    String errorMessage
+) {
+    public static OrderCreateResult success(OrderResponse order) {
+        return new OrderCreateResult(true, order, null);
+    }
+
+    public static OrderCreateResult failure(String errorMessage) {
+        return new OrderCreateResult(false, null, errorMessage);
+    }
+}
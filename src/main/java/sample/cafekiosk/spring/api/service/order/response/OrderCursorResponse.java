@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import org.springframework.data.domain.Slice;
+import sample.cafekiosk.spring.domain.order.OrderCursor;
+
+import java.util.List;
+
+public record OrderCursorResponse(
+    List<OrderResponse> orders,
+    String nextCursor,
+    boolean hasNext
+) {
+    public static OrderCursorResponse of(Slice<OrderResponse> slice) {
+        List<OrderResponse> orders = slice.getContent();
+        if (!slice.hasNext() || orders.isEmpty()) {
+            return new OrderCursorResponse(orders, null, false);
+        }
+
+        OrderResponse last = orders.get(orders.size() - 1);
+        String nextCursor = new OrderCursor(last.registeredDateTime(), last.id()).encode();
+        return new OrderCursorResponse(orders, nextCursor, true);
+    }
+}
@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import sample.cafekiosk.spring.domain.order.OrderExportRow;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON 내보내기의 한 줄. (주문 1건)
+ */
+public record OrderExportLine(
+    Long id,
+    OrderStatus orderStatus,
+    LocalDateTime registeredDateTime,
+    int totalPrice,
+    List<Item> products
+) {
+    public static OrderExportLine from(OrderExportRow row) {
+        return new OrderExportLine(row.orderId(), row.orderStatus(), row.registeredDateTime(), row.totalPrice(), new ArrayList<>());
+    }
+
+    public void add(OrderExportRow row) {
+        if (!row.hasProduct()) {
+            return;
+        }
+        products.add(new Item(row.productNumber(), row.productName(), row.productType(), row.price()));
+    }
+
+    public record Item(
+        String productNumber,
+        String name,
+        ProductType type,
+        int price
+    ) {
+    }
+}
@@ -0,0 +1,29 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import sample.cafekiosk.spring.api.service.order.facet.OrderFacets;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record OrderFacetResponse(
+    long totalCount,
+    List<OrderResponse> orders,
+    Map<OrderStatus, Long> statusCounts,
+    Map<ProductType, Long> productTypeCounts,
+    Map<LocalDate, Long> dailyCounts,
+    Map<Integer, Long> priceBandCounts
+) {
+    public static OrderFacetResponse of(OrderFacets facets, List<OrderResponse> orders) {
+        return new OrderFacetResponse(
+            facets.totalCount(),
+            orders,
+            facets.statusCounts(),
+            facets.productTypeCounts(),
+            facets.dailyCounts(),
+            facets.priceBandCounts()
+        );
+    }
+}
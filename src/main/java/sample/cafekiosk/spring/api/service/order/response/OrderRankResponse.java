@@ -0,0 +1,10 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import java.time.LocalDateTime;
+
+public record OrderRankResponse(
+    Long orderId,
+    int totalPrice,
+    LocalDateTime registeredDateTime
+) {
+}
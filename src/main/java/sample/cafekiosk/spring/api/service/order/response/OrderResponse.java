@@ -2,6 +2,8 @@ package sample.cafekiosk.spring.api.service.order.response;
 
 import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
 import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderLine;
+import sample.cafekiosk.spring.domain.order.OrderView;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,12 +14,29 @@ public record OrderResponse(
     LocalDateTime registeredDateTime,
     List<ProductResponse> products
 ) {
+    /**
+     * 주문 조회 모델로 만든 응답과 같도록 주문 상품도 {@link OrderLine} 을 거쳐 만든다.
+     */
     public static OrderResponse of(Order order) {
         return new OrderResponse(
             order.getId(),
             order.getTotalPrice(),
             order.getRegisteredDateTime(),
-            ProductResponse.of(order.getOrderProducts())
+            order.getOrderProducts().stream()
+                .map(orderProduct -> OrderLine.of(orderProduct.getProduct()))
+                .map(ProductResponse::of)
+                .toList()
+        );
+    }
+
+    public static OrderResponse of(OrderView orderView) {
+        return new OrderResponse(
+            orderView.getId(),
+            orderView.getTotalPrice(),
+            orderView.getRegisteredDateTime(),
+            orderView.getOrderLines().stream()
+                .map(ProductResponse::of)
+                .toList()
         );
     }
 }
@@ -0,0 +1,10 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+public record OrderSalesMetricResponse(
+    OrderStatus orderStatus,
+    long orderCount,
+    long totalPrice
+) {
+}
@@ -0,0 +1,9 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import java.util.List;
+
+public record OrderSalesWindowResponse(
+    int minutes,
+    List<OrderSalesMetricResponse> sales
+) {
+}
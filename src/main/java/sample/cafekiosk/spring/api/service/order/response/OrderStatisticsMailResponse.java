@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OrderStatisticsMailResponse(
+    LocalDate from,
+    LocalDate to,
+    long totalAmount,
+    int successCount,
+    int failureCount,
+    List<OrderStatisticsMailResult> results
+) {
+    public static OrderStatisticsMailResponse of(LocalDate from, LocalDate to, long totalAmount, List<OrderStatisticsMailResult> results) {
+        int successCount = (int) results.stream()
+            .filter(OrderStatisticsMailResult::success)
+            .count();
+
+        return new OrderStatisticsMailResponse(from, to, totalAmount, successCount, results.size() - successCount, results);
+    }
+}
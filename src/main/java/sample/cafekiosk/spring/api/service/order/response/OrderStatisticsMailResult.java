@@ -0,0 +1,15 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+public record OrderStatisticsMailResult(
+    String email,
+    boolean success,
+    String errorMessage
+) {
+    public static OrderStatisticsMailResult success(String email) {
+        return new OrderStatisticsMailResult(email, true, null);
+    }
+
+    public static OrderStatisticsMailResult failure(String email, String errorMessage) {
+        return new OrderStatisticsMailResult(email, false, errorMessage);
+    }
+}
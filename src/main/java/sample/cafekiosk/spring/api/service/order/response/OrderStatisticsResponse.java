@@ -0,0 +1,26 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OrderStatisticsResponse(
+    LocalDate from,
+    LocalDate to,
+    OrderStatus orderStatus,
+    long orderCount,
+    long totalPrice,
+    List<DailySalesResponse> days
+) {
+    public static OrderStatisticsResponse of(LocalDate from, LocalDate to, OrderStatus orderStatus, List<DailySalesResponse> days) {
+        return new OrderStatisticsResponse(
+            from,
+            to,
+            orderStatus,
+            days.stream().mapToLong(DailySalesResponse::orderCount).sum(),
+            days.stream().mapToLong(DailySalesResponse::totalPrice).sum(),
+            days
+        );
+    }
+}
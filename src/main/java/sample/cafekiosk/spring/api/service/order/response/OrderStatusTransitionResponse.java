@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransition;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransitionStatus;
+
+import java.time.LocalDateTime;
+
+public record OrderStatusTransitionResponse(
+    Long id,
+    OrderStatus orderStatus,
+    LocalDateTime startDateTime,
+    LocalDateTime endDateTime,
+    OrderStatusTransitionStatus status,
+    long processedCount,
+    int chunkCount,
+    Long lastOrderId,
+    long maxLockHoldMillis,
+    String failureMessage
+) {
+    public static OrderStatusTransitionResponse of(OrderStatusTransition transition) {
+        return new OrderStatusTransitionResponse(
+            transition.getId(),
+            transition.getOrderStatus(),
+            transition.getStartDateTime(),
+            transition.getEndDateTime(),
+            transition.getStatus(),
+            transition.getProcessedCount(),
+            transition.getChunkCount(),
+            transition.getLastOrderId(),
+            transition.getMaxLockHoldMillis(),
+            transition.getFailureMessage()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+public record ProductSalesResponse(
+    String productNumber,
+    long quantity
+) {
+}
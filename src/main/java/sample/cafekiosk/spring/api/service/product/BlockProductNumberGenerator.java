@@ -0,0 +1,116 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 번호를 구간(block) 단위로 예약해 두고 메모리에서 발급한다.
+ * <p>
+ * - 예약한 구간 안에서는 CAS 로 번호를 꺼내므로 락과 쿼리가 없다.
+ * - 구간을 다 쓰면 {@link ProductNumberBlockAllocator} 로 다음 구간을 예약한다. (block-size 개마다 한 번)
+ * - 번호는 최소 min-width 자리로 0 을 채워 발급하고, 그보다 큰 번호는 자릿수를 늘려 발급한다. ("001", ..., "999", "1000")
+ * <p>
+ * 애플리케이션이 종료되면 예약해 두고 쓰지 않은 번호는 버려지므로 번호 사이에 빈 구간이 생길 수 있다.
+ */
+@ConditionalOnProperty(name = "cafekiosk.product.number.generator", havingValue = "block")
+@Component
+public class BlockProductNumberGenerator implements ProductNumberGenerator {
+
+    private final ProductNumberBlockAllocator allocator;
+    private final int blockSize;
+    private final String format;
+
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    private volatile Block block = Block.EMPTY;
+
+    public BlockProductNumberGenerator(
+        ProductNumberBlockAllocator allocator,
+        @Value("${cafekiosk.product.number.block-size:100}") int blockSize,
+        @Value("${cafekiosk.product.number.min-width:3}") int minWidth
+    ) {
+        this.allocator = allocator;
+        this.blockSize = blockSize;
+        this.format = "%0" + minWidth + "d";
+    }
+
+    @Override
+    public String createProductNumber() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return format(value);
+            }
+            refill(current, blockSize);
+        }
+    }
+
+    /**
+     * 남은 구간으로 모자라면 필요한 개수만큼 한 번에 예약한다.
+     */
+    @Override
+    public List<String> createProductNumbers(int count) {
+        List<String> productNumbers = new ArrayList<>(count);
+        while (productNumbers.size() < count) {
+            Block current = block;
+            int remaining = count - productNumbers.size();
+            long start = current.next.getAndAdd(remaining);
+            long end = Math.min(start + remaining, current.end);
+            for (long value = start; value < end; value++) {
+                productNumbers.add(format(value));
+            }
+            if (productNumbers.size() < count) {
+                refill(current, Math.max(blockSize, count - productNumbers.size()));
+            }
+        }
+        return productNumbers;
+    }
+
+    /**
+     * 구간 예약은 DB 를 거치므로 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+     */
+    private void refill(Block exhausted, int size) {
+        refillLock.lock();
+        try {
+            if (block == exhausted) {
+                block = new Block(reserve(size), size);
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private long reserve(int size) {
+        try {
+            return allocator.reserve(size);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 카운터 행을 먼저 만든 경우 한 번 더 시도한다.
+            return allocator.reserve(size);
+        }
+    }
+
+    private String format(long value) {
+        return String.format(format, value);
+    }
+
+    private static final class Block {
+
+        private static final Block EMPTY = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, int size) {
+            this.next = new AtomicLong(start);
+            this.end = start + size;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 번호를 키로 하는 불변 인덱스를 메모리에 두고 조회한다. (copy-on-write)
+ * <p>
+ * - 조회는 volatile 로 공개된 불변 Map 을 읽기만 하므로 락과 쿼리가 없다.
+ * - 상품이 등록되거나 변경되어 커밋되면 해당 상품만 다시 읽어 새 Map 을 만든 뒤 통째로 교체한다.
+ * - 인덱스에 없는 상품 번호만 DB 에서 찾아본다. (애플리케이션을 거치지 않고 추가된 상품은 다음 적재 때 인덱스에 들어온다.)
+ * <p>
+ * 인덱스의 상품은 준영속 상태로 여러 스레드가 함께 읽으므로 변경해서는 안 된다.
+ * <p>
+ * 적재와 갱신은 DB 조회부터 교체까지 한 락 안에서 한다. 락 밖에서 읽으면 먼저 읽은 오래된 상품이
+ * 나중에 읽은 상품을 덮어쓸 수 있다. DB 를 기다리는 동안 가상 스레드가 캐리어 스레드에 고정되지 않도록
+ * synchronized 대신 ReentrantLock 을 사용한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "cafekiosk.product.catalog", havingValue = "memory")
+@Component
+public class InMemoryProductCatalog implements ProductCatalog {
+
+    private final ProductRepository productRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Map<String, Product> index = Map.of();
+
+    public InMemoryProductCatalog(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        writeLock.lock();
+        try {
+            index = productRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Product::getProductNumber, p -> p));
+            log.info("상품 인덱스 적재 완료 - {}개 상품", index.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Product> findProducts(Collection<String> productNumbers) {
+        Map<String, Product> current = index;
+        Map<String, Product> products = new HashMap<>();
+        List<String> missingProductNumbers = new ArrayList<>();
+
+        for (String productNumber : productNumbers) {
+            Product product = current.get(productNumber);
+            if (product != null) {
+                products.put(productNumber, product);
+            } else {
+                missingProductNumbers.add(productNumber);
+            }
+        }
+
+        if (!missingProductNumbers.isEmpty()) {
+            productRepository.findAllByProductNumberIn(missingProductNumbers.stream().distinct().toList())
+                .forEach(product -> products.put(product.getProductNumber(), product));
+        }
+        return products;
+    }
+
+    /**
+     * 변경된 상품을 한 번의 IN 조회로 다시 읽는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void refresh(ProductChangedEvent event) {
+        writeLock.lock();
+        try {
+            put(productRepository.findAllByProductNumberIn(event.productNumbers()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void put(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        Map<String, Product> next = new HashMap<>(index);
+        products.forEach(product -> next.put(product.getProductNumber(), product));
+        index = Map.copyOf(next);
+    }
+}
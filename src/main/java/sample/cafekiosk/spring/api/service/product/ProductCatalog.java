@@ -0,0 +1,33 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import sample.cafekiosk.spring.domain.product.Product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 생성 시 상품 번호로 상품을 찾는다.
+ */
+public interface ProductCatalog {
+
+    /**
+     * 상품 번호 순서대로(중복 포함) 상품을 반환한다.
+     * 존재하지 않는 상품 번호가 포함되어 있다면 예외가 발생한다.
+     */
+    default List<Product> getProducts(List<String> productNumbers) {
+        Map<String, Product> products = findProducts(productNumbers);
+        if (!products.keySet().containsAll(productNumbers)) {
+            throw new IllegalArgumentException("존재하지 않는 상품 번호가 포함되어 있습니다.");
+        }
+
+        return productNumbers.stream()
+            .map(products::get)
+            .toList();
+    }
+
+    /**
+     * 존재하는 상품만 상품 번호를 키로 반환한다.
+     */
+    Map<String, Product> findProducts(Collection<String> productNumbers);
+}
@@ -0,0 +1,43 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.product.ProductNumberCounter;
+import sample.cafekiosk.spring.domain.product.ProductNumberCounterRepository;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+/**
+ * 카운터 행을 잠그고 상품 번호 구간을 예약한다.
+ * <p>
+ * 호출한 쪽의 트랜잭션과 관계없이 별도의 트랜잭션(REQUIRES_NEW)에서 바로 커밋하므로
+ * 카운터 행의 락은 예약하는 동안에만 잡힌다.
+ * 다른 트랜잭션 안에서 호출하면 커넥션을 하나 더 잡으므로, 상품 등록({@link ProductService})은 저장 트랜잭션 밖에서 번호를 발급받는다.
+ * 카운터 행이 없다면 기존 상품 번호 중 가장 큰 숫자 다음 번호부터 시작한다.
+ */
+@ConditionalOnProperty(name = "cafekiosk.product.number.generator", havingValue = "block")
+@RequiredArgsConstructor
+@Component
+public class ProductNumberBlockAllocator {
+
+    private final ProductNumberCounterRepository productNumberCounterRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * size 개의 번호를 예약하고 예약한 구간의 첫 번호를 반환한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(int size) {
+        ProductNumberCounter counter = productNumberCounterRepository.findForUpdate(ProductNumberCounter.PRODUCT_NUMBER)
+            .orElseGet(this::createCounter);
+
+        return counter.reserve(size);
+    }
+
+    private ProductNumberCounter createCounter() {
+        long nextValue = productRepository.findMaxNumericProductNumber() + 1;
+        return productNumberCounterRepository.saveAndFlush(new ProductNumberCounter(ProductNumberCounter.PRODUCT_NUMBER, nextValue));
+    }
+}
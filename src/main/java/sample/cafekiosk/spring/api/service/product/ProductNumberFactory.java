@@ -1,17 +1,27 @@
 package sample.cafekiosk.spring.api.service.product;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 가장 최근에 등록된 상품의 번호에서 1 증가한 번호를 발급한다.
+ * 동시에 호출되면 같은 번호가 발급될 수 있다.
+ */
+@ConditionalOnProperty(name = "cafekiosk.product.number.generator", havingValue = "latest", matchIfMissing = true)
 @RequiredArgsConstructor
 @Component
-public class ProductNumberFactory {
+public class ProductNumberFactory implements ProductNumberGenerator {
 
     public static final String FIRST_PRODUCT_NUMBER = "001";
 
     private final ProductRepository productRepository;
 
+    @Override
     public String createProductNumber() {
         String latestProductNumber = productRepository.findLatestProductNumber();
         if (latestProductNumber == null) {
@@ -21,4 +31,14 @@ public class ProductNumberFactory {
 
         return String.format("%03d", newProductNumberInt);
     }
+
+    @Override
+    public List<String> createProductNumbers(int count) {
+        String latestProductNumber = productRepository.findLatestProductNumber();
+        int latest = latestProductNumber == null ? 0 : Integer.parseInt(latestProductNumber);
+
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(i -> String.format("%03d", latest + i))
+            .toList();
+    }
 }
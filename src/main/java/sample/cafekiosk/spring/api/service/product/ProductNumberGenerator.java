@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 신규 상품의 상품 번호를 발급한다.
+ */
+public interface ProductNumberGenerator {
+
+    String createProductNumber();
+
+    default List<String> createProductNumbers(int count) {
+        List<String> productNumbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            productNumbers.add(createProductNumber());
+        }
+        return productNumbers;
+    }
+}
@@ -1,15 +1,20 @@
 package sample.cafekiosk.spring.api.service.product;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import sample.cafekiosk.spring.api.service.product.dto.request.ProductCreateServiceRequest;
 import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * readOnly = true (읽기 전용)
@@ -19,31 +24,90 @@ import java.util.List;
  * CQRS - Command / Read 의 분리
  */
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 @Service
 public class ProductService {
 
     public static final String FIRST_PRODUCT_NUMBER = "001";
 
     private final ProductRepository productRepository;
-    private final ProductNumberFactory productNumberFactory;
+    private final ProductNumberGenerator productNumberGenerator;
+    private final SellingMenuCache sellingMenuCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    // 동시성 이슈
-    @Transactional
+    public ProductService(
+        ProductRepository productRepository,
+        ProductNumberGenerator productNumberGenerator,
+        SellingMenuCache sellingMenuCache,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.productRepository = productRepository;
+        this.productNumberGenerator = productNumberGenerator;
+        this.sellingMenuCache = sellingMenuCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 동시성 이슈 - 기본 발급기(ProductNumberFactory)는 동시에 같은 번호를 발급할 수 있다.
+     * cafekiosk.product.number.generator=block 이면 구간 단위로 예약한 번호를 발급한다.
+     * <p>
+     * 번호는 저장 트랜잭션을 시작하기 전에 발급받는다. 구간 예약은 자기 트랜잭션에서 커밋하므로,
+     * 저장 트랜잭션 안에서 예약하면 한 요청이 커넥션 두 개를 잡고 커넥션 허가(permit)를 모두 쓴 요청들끼리 서로를 기다리게 된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductResponse createProduct(ProductCreateServiceRequest request) {
-        String newProductNumber = productNumberFactory.createProductNumber();
+        String newProductNumber = productNumberGenerator.createProductNumber();
 
-        Product product = request.toEntity(newProductNumber);
-        Product saved = productRepository.save(product);
+        return transactionTemplate.execute(status -> {
+            Product product = request.toEntity(newProductNumber);
+            Product saved = productRepository.save(product);
+            eventPublisher.publishEvent(new ProductChangedEvent(saved.getProductNumber()));
 
-        return ProductResponse.of(saved);
+            return ProductResponse.of(saved);
+        });
     }
 
-    public List<ProductResponse> getSellingProducts() {
-        List<Product> products = productRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay());
+    /**
+     * 여러 상품을 한 번에 등록한다. 상품 번호는 상품 수와 관계없이 한 번에 발급받는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductResponse> createProducts(List<ProductCreateServiceRequest> requests) {
+        List<String> productNumbers = productNumberGenerator.createProductNumbers(requests.size());
+
+        return transactionTemplate.execute(status -> {
+            List<Product> products = IntStream.range(0, requests.size())
+                .mapToObj(i -> requests.get(i).toEntity(productNumbers.get(i)))
+                .toList();
+            List<Product> savedProducts = productRepository.saveAll(products);
+            eventPublisher.publishEvent(new ProductChangedEvent(savedProducts.stream()
+                .map(Product::getProductNumber)
+                .toList()));
+
+            return savedProducts.stream()
+                .map(ProductResponse::of)
+                .toList();
+        });
+    }
+
+    @Transactional
+    public ProductResponse changeSellingStatus(String productNumber, ProductSellingStatus sellingStatus) {
+        Product product = productRepository.findByProductNumber(productNumber)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품 번호입니다."));
+
+        product.changeSellingStatus(sellingStatus);
+        eventPublisher.publishEvent(new ProductChangedEvent(productNumber));
+
+        return ProductResponse.of(product);
+    }
 
-        return products.stream()
-            .map(ProductResponse::of)
-            .toList();
+    /**
+     * 판매 중인 상품 목록을 미리 직렬화해 둔 스냅샷으로 조회한다.
+     * 스냅샷이 최신이라면 트랜잭션(커넥션)도 사용하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SellingMenu getSellingMenu() {
+        return sellingMenuCache.get();
     }
 }
@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청마다 product 테이블을 조회한다.
+ */
+@ConditionalOnProperty(name = "cafekiosk.product.catalog", havingValue = "repository", matchIfMissing = true)
+@RequiredArgsConstructor
+@Component
+public class RepositoryProductCatalog implements ProductCatalog {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public Map<String, Product> findProducts(Collection<String> productNumbers) {
+        List<String> distinctProductNumbers = productNumbers.stream().distinct().toList();
+
+        return productRepository.findAllByProductNumberIn(distinctProductNumbers).stream()
+            .collect(Collectors.toMap(Product::getProductNumber, p -> p));
+    }
+}
@@ -0,0 +1,51 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 판매 중인 상품 목록 응답을 미리 직렬화해 둔 스냅샷.
+ * 응답 본문(JSON)과 gzip 으로 압축한 본문, 본문으로부터 계산한 ETag 를 함께 가진다.
+ */
+public record SellingMenu(
+    long version,
+    String etag,
+    byte[] json,
+    byte[] gzipped
+) {
+    public static SellingMenu create(long version, byte[] json) {
+        String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        return new SellingMenu(version, etag, json, gzip(json));
+    }
+
+    /**
+     * If-None-Match 헤더 값이 현재 스냅샷의 ETag 와 일치하는지 확인한다.
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,82 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 판매 중인 상품 목록 스냅샷을 보관한다.
+ * <p>
+ * 상품이 변경되어 트랜잭션이 커밋되면 버전을 올리고, 다음 조회 시 한 번만 다시 만든다.
+ * 그 외의 조회는 DB 조회나 직렬화 없이 만들어 둔 스냅샷을 그대로 반환한다.
+ * <p>
+ * 애플리케이션을 거치지 않고 DB 의 상품을 직접 변경한 경우에는 스냅샷에 반영되지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class SellingMenuCache {
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile SellingMenu menu;
+
+    public SellingMenu get() {
+        SellingMenu current = menu;
+        if (current != null && current.version() == version.get()) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(ProductChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 다시 만드는 동안 DB 를 조회하므로 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+     * 락을 기다린 스레드는 먼저 다시 만든 스냅샷을 그대로 사용한다.
+     */
+    private SellingMenu rebuild() {
+        rebuildLock.lock();
+        try {
+            long currentVersion = version.get();
+            SellingMenu current = menu;
+            if (current != null && current.version() == currentVersion) {
+                return current;
+            }
+
+            List<ProductResponse> products = productRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay()).stream()
+                .map(ProductResponse::of)
+                .toList();
+
+            SellingMenu rebuilt = SellingMenu.create(currentVersion, serialize(products));
+            menu = rebuilt;
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private byte[] serialize(List<ProductResponse> products) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.ok(products));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("판매 상품 목록을 직렬화할 수 없습니다.", e);
+        }
+    }
+}
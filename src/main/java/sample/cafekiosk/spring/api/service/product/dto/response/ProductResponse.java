@@ -1,12 +1,10 @@
 package sample.cafekiosk.spring.api.service.product.dto.response;
 
-import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+import sample.cafekiosk.spring.domain.order.OrderLine;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
 
-import java.util.List;
-
 public record ProductResponse(
     Long id,
     String productNumber,
@@ -26,10 +24,17 @@ public record ProductResponse(
         );
     }
 
-    public static List<ProductResponse> of(List<OrderProduct> orderProducts) {
-        return orderProducts.stream()
-            .map(OrderProduct::getProduct)
-            .map(ProductResponse::of)
-            .toList();
+    /**
+     * 주문 상품에는 판매 상태가 없으므로 sellingStatus 는 비워 둔다.
+     */
+    public static ProductResponse of(OrderLine orderLine) {
+        return new ProductResponse(
+            orderLine.productId(),
+            orderLine.productNumber(),
+            orderLine.type(),
+            null,
+            orderLine.name(),
+            orderLine.price()
+        );
     }
 }
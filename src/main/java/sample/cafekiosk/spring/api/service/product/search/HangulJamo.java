@@ -0,0 +1,92 @@
+package sample.cafekiosk.spring.api.service.product.search;
+
+/**
+ * 검색어와 상품 이름을 자판 입력 순서대로의 자모열로 바꾼다.
+ * <p>
+ * - 완성형 음절은 초성/중성/종성으로 나누고, 겹모음(ㅘ)과 겹받침(ㄳ)도 입력하는 순서대로 풀어 쓴다.
+ * 그래서 "아메리" 를 입력하는 도중의 "아멜" 도 "ㅇㅏㅁㅔㄹ" 이 되어 "아메리카노" 의 앞부분과 일치한다.
+ * - 공백은 버리고 영문은 소문자로 바꾼다.
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+        "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+        "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * "카페 라떼" -> "ㅋㅏㅍㅔㄹㅏㄸㅔ"
+     */
+    static String decompose(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (!isSyllable(c)) {
+                jamo.append(Character.toLowerCase(c));
+                continue;
+            }
+            int offset = c - SYLLABLE_BEGIN;
+            jamo.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                .append(JUNGSEONG[offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT])
+                .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * "카페 라떼" -> "ㅋㅍㄹㄸ"
+     */
+    static String choseong(String text) {
+        StringBuilder choseong = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                choseong.append(CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                choseong.append(Character.toLowerCase(c));
+            }
+        }
+        return choseong.toString();
+    }
+
+    /**
+     * "ㅋㅍㄹ" 처럼 자음만 두 개 이상 입력된 검색어는 초성 검색으로 본다.
+     */
+    static boolean isChoseongQuery(String text) {
+        int consonants = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+            consonants++;
+        }
+        return consonants >= 2;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
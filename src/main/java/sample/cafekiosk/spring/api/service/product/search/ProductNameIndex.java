@@ -0,0 +1,286 @@
+package sample.cafekiosk.spring.api.service.product.search;
+
+import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 상품 이름의 자모열(과 초성열)을 n-gram 으로 나눈 역색인.
+ * <p>
+ * - 상품은 들어온 순서대로 슬롯 번호를 받고, gram 마다 그 gram 을 가진 슬롯 번호를 오름차순 배열(postings)로 둔다.
+ * - 1 ~ GRAM_SIZE 글자의 gram 을 모두 색인하므로 짧은 검색어도 postings 하나로 후보를 찾는다.
+ * 긴 검색어는 GRAM_SIZE 글자 gram 들의 postings 교집합을 구한 뒤 이름에 검색어가 실제로 들어 있는지 확인한다.
+ * - 이름의 앞부분 gram 은 ANCHOR 를 붙여 한 번 더 색인해서, 이름이 검색어로 시작하는 상품을 먼저 찾는다.
+ * - 변경된 상품은 새 슬롯에 다시 색인하고 이전 슬롯은 비워둔다. postings 에 남은 빈 슬롯은 조회할 때 건너뛰고,
+ * 빈 슬롯이 살아있는 슬롯보다 많아지면 색인을 다시 만든다.
+ * <p>
+ * 조회는 읽기 락, 변경은 쓰기 락으로 보호한다.
+ */
+class ProductNameIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final char ANCHOR = '\u0001';
+    private static final int MIN_REMOVED_TO_COMPACT = 1024;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Map<String, Postings> jamoGrams = new HashMap<>();
+    private final Map<String, Postings> choseongGrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int removedCount;
+
+    void replaceAll(Collection<ProductResponse> products) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            products.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(ProductResponse product) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(product.productNumber());
+            add(product);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String productNumber) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(productNumber);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름이 검색어로 시작하는 상품을 먼저, 그 다음 이름 중간에 검색어가 들어 있는 상품을 색인된 순서대로 limit 개까지 찾는다.
+     * type, sellingStatus 가 null 이면 해당 조건으로 거르지 않는다.
+     */
+    List<ProductResponse> search(String query, ProductType type, ProductSellingStatus sellingStatus, int limit) {
+        boolean choseongQuery = HangulJamo.isChoseongQuery(query);
+        String key = choseongQuery ? HangulJamo.choseong(query) : HangulJamo.decompose(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Function<Entry, String> field = choseongQuery ? Entry::choseong : Entry::jamo;
+
+        lock.readLock().lock();
+        try {
+            Map<String, Postings> grams = choseongQuery ? choseongGrams : jamoGrams;
+            Postings[] containing = postingsOf(grams, gramsOf(key));
+            if (containing.length == 0) {
+                return List.of();
+            }
+
+            List<ProductResponse> results = new ArrayList<>(limit);
+            Postings[] prefixed = postingsOf(grams, prefixGramsOf(key));
+            collect(prefixed, entry -> field.apply(entry).startsWith(key), type, sellingStatus, results, limit);
+            collect(containing, entry -> {
+                String name = field.apply(entry);
+                return !name.startsWith(key) && name.contains(key);
+            }, type, sellingStatus, results, limit);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(
+        Postings[] postings,
+        Predicate<Entry> matcher,
+        ProductType type,
+        ProductSellingStatus sellingStatus,
+        List<ProductResponse> results,
+        int limit
+    ) {
+        if (postings.length == 0) {
+            return;
+        }
+
+        Postings smallest = postings[0];
+        for (int i = 0; i < smallest.size && results.size() < limit; i++) {
+            int slot = smallest.values[i];
+            if (!containsAll(postings, slot)) {
+                continue;
+            }
+            Entry entry = entries.get(slot);
+            if (entry != null && entry.matches(type, sellingStatus) && matcher.test(entry)) {
+                results.add(entry.product());
+            }
+        }
+    }
+
+    private boolean containsAll(Postings[] postings, int slot) {
+        for (int i = 1; i < postings.length; i++) {
+            if (!postings[i].contains(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * gram 중 하나라도 색인에 없으면 빈 배열을 돌려준다. postings 는 짧은 순으로 정렬한다.
+     */
+    private Postings[] postingsOf(Map<String, Postings> grams, Set<String> keys) {
+        Postings[] postings = new Postings[keys.size()];
+        int i = 0;
+        for (String key : keys) {
+            Postings found = grams.get(key);
+            if (found == null) {
+                return new Postings[0];
+            }
+            postings[i++] = found;
+        }
+        Arrays.sort(postings, Comparator.comparingInt(p -> p.size));
+        return postings;
+    }
+
+    private void add(ProductResponse product) {
+        Entry entry = Entry.of(product);
+        int slot = entries.size();
+        entries.add(entry);
+        slots.put(product.productNumber(), slot);
+        index(jamoGrams, entry.jamo(), slot);
+        index(choseongGrams, entry.choseong(), slot);
+    }
+
+    private void index(Map<String, Postings> grams, String text, int slot) {
+        Set<String> keys = allGramsOf(text);
+        keys.addAll(anchorGramsOf(text));
+        keys.forEach(key -> grams.computeIfAbsent(key, k -> new Postings()).add(slot));
+    }
+
+    private void removeSlot(String productNumber) {
+        Integer slot = slots.remove(productNumber);
+        if (slot != null) {
+            entries.set(slot, null);
+            removedCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (removedCount < MIN_REMOVED_TO_COMPACT || removedCount < slots.size()) {
+            return;
+        }
+
+        List<ProductResponse> products = entries.stream()
+            .filter(Objects::nonNull)
+            .map(Entry::product)
+            .toList();
+        clear();
+        products.forEach(this::add);
+    }
+
+    private void clear() {
+        entries.clear();
+        slots.clear();
+        jamoGrams.clear();
+        choseongGrams.clear();
+        removedCount = 0;
+    }
+
+    /**
+     * 색인할 때는 1 ~ GRAM_SIZE 글자의 gram 을 모두 만든다.
+     */
+    private static Set<String> allGramsOf(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int size = 1; size <= GRAM_SIZE; size++) {
+            for (int i = 0; i + size <= text.length(); i++) {
+                grams.add(text.substring(i, i + size));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> anchorGramsOf(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int size = 1; size < GRAM_SIZE && size <= text.length(); size++) {
+            grams.add(ANCHOR + text.substring(0, size));
+        }
+        return grams;
+    }
+
+    /**
+     * 검색할 때는 검색어가 GRAM_SIZE 보다 짧으면 검색어 자체를, 아니면 GRAM_SIZE 글자의 gram 들을 사용한다.
+     */
+    private static Set<String> gramsOf(String key) {
+        Set<String> grams = new LinkedHashSet<>();
+        int size = Math.min(GRAM_SIZE, key.length());
+        for (int i = 0; i + size <= key.length(); i++) {
+            grams.add(key.substring(i, i + size));
+        }
+        return grams;
+    }
+
+    private static Set<String> prefixGramsOf(String key) {
+        Set<String> grams = gramsOf(key);
+        grams.add(ANCHOR + key.substring(0, Math.min(GRAM_SIZE - 1, key.length())));
+        return grams;
+    }
+
+    private record Entry(
+        ProductResponse product,
+        String jamo,
+        String choseong
+    ) {
+        private static Entry of(ProductResponse product) {
+            return new Entry(product, HangulJamo.decompose(product.name()), HangulJamo.choseong(product.name()));
+        }
+
+        private boolean matches(ProductType type, ProductSellingStatus sellingStatus) {
+            return (type == null || product.type() == type)
+                && (sellingStatus == null || product.sellingStatus() == sellingStatus);
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = slot;
+        }
+
+        private boolean contains(int slot) {
+            return Arrays.binarySearch(values, 0, size, slot) >= 0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package sample.cafekiosk.spring.api.service.product.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 이름 자동완성 검색.
+ * <p>
+ * 키 입력마다 LIKE '%..%' 로 테이블을 읽지 않도록 상품 이름을 메모리의 n-gram 색인({@link ProductNameIndex})으로 찾는다.
+ * - "아메", "아멜"(입력 중), "ㅇㅁㄹ"(초성) 모두 "아메리카노" 를 찾는다.
+ * - 시작 시 전체 상품으로 색인을 만들고, 상품이 등록되거나 변경되어 커밋되면 해당 상품만 다시 색인한다.
+ * (애플리케이션을 거치지 않고 변경된 상품은 다음 적재 때 반영된다.)
+ * <p>
+ * 적재와 갱신은 DB 조회부터 색인 반영까지 한 락 안에서 한다. 먼저 읽은 오래된 상품이 나중에 읽은 상품을 덮어쓰지 않도록 하고,
+ * 색인의 쓰기 락은 반영할 때만 잡아 DB 를 기다리는 동안에도 검색은 막지 않는다.
+ */
+@Slf4j
+@Service
+public class ProductSearchService {
+
+    private final ProductRepository productRepository;
+    private final int maxLimit;
+    private final ProductNameIndex index = new ProductNameIndex();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public ProductSearchService(
+        ProductRepository productRepository,
+        @Value("${cafekiosk.product.search.max-limit:50}") int maxLimit
+    ) {
+        this.productRepository = productRepository;
+        this.maxLimit = maxLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        refreshLock.lock();
+        try {
+            List<ProductResponse> products = productRepository.findAll().stream()
+                .map(ProductResponse::of)
+                .toList();
+            index.replaceAll(products);
+            log.info("상품 검색 색인 적재 완료 - {}개 상품", products.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 변경된 상품을 한 번의 IN 조회로 다시 읽고, 찾지 못한 상품은 색인에서 뺀다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void refresh(ProductChangedEvent event) {
+        refreshLock.lock();
+        try {
+            Set<String> missingProductNumbers = new HashSet<>(event.productNumbers());
+            for (Product product : productRepository.findAllByProductNumberIn(event.productNumbers())) {
+                index.put(ProductResponse.of(product));
+                missingProductNumbers.remove(product.getProductNumber());
+            }
+            missingProductNumbers.forEach(index::remove);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * type, sellingStatus 를 지정하지 않으면 모든 상품에서 찾는다.
+     */
+    public List<ProductResponse> searchProducts(String query, ProductType type, ProductSellingStatus sellingStatus, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("검색 결과 수는 1 이상 " + maxLimit + " 이하여야 합니다.");
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return index.search(query, type, sellingStatus, limit);
+    }
+}
@@ -0,0 +1,121 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 재고 조회 없이 조건부 UPDATE 로 재고를 차감한다.
+ * <p>
+ * update stock set quantity = quantity - ? where product_number = ? and quantity >= ?
+ * <p>
+ * 상품별 UPDATE 를 하나의 JDBC 배치로 보내고, 갱신된 행 수가 1이 아닌 상품이 있으면 예외를 던져 주문 전체를 롤백한다.
+ * 여러 주문을 한 트랜잭션에서 처리하는 경우를 위해 예외를 던지기 전에 같은 배치에서 차감된 재고는 되돌린다.
+ * 재고 확인과 차감이 하나의 문장에서 일어나기 때문에 동시에 들어온 주문이 같은 재고를 중복으로 차감할 수 없다.
+ * 동시에 들어온 주문들이 서로 다른 순서로 행 락을 잡아 데드락이 나지 않도록 UPDATE 는 상품 번호 순으로 보낸다.
+ */
+@ConditionalOnProperty(name = "cafekiosk.stock.deduction", havingValue = "sql")
+@RequiredArgsConstructor
+@Component
+public class ConditionalSqlStockDeductor implements StockDeductor {
+
+    private static final String DEDUCT_SQL =
+        "update stock set quantity = quantity - ? where product_number = ? and quantity >= ?";
+    private static final String RESTORE_SQL =
+        "update stock set quantity = quantity + ? where product_number = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void deduct(Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = quantities.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+            .toList();
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(DEDUCT_SQL, batchArgs);
+
+        for (int updateCount : updateCounts) {
+            if (updateCount == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("재고 차감 결과를 확인할 수 없는 드라이버 설정입니다.");
+            }
+        }
+        if (Arrays.stream(updateCounts).anyMatch(updateCount -> updateCount != 1)) {
+            restoreDeducted(batchArgs, updateCounts);
+            throw new IllegalArgumentException("Quantity exceeds maximum quantity");
+        }
+    }
+
+    /**
+     * 재고를 한 번 조회해 주문별로 차감 가능 여부를 판단한 뒤, 가능한 주문들의 수량을 상품별로 합쳐 한 번의 배치로 차감한다.
+     * 조회 이후 다른 트랜잭션이 재고를 먼저 차감해 실패하면 주문별로 하나씩 다시 차감한다.
+     */
+    @Override
+    public List<Boolean> deductEach(List<Map<String, Integer>> quantitiesPerOrder) {
+        List<String> productNumbers = quantitiesPerOrder.stream()
+            .flatMap(quantities -> quantities.keySet().stream())
+            .distinct()
+            .toList();
+        Map<String, Integer> available = findQuantities(productNumbers);
+
+        Map<String, Integer> totals = new HashMap<>();
+        List<Boolean> results = new ArrayList<>(quantitiesPerOrder.size());
+        for (Map<String, Integer> quantities : quantitiesPerOrder) {
+            boolean enough = quantities.entrySet().stream()
+                .allMatch(entry -> available.getOrDefault(entry.getKey(), 0) >= entry.getValue());
+            if (enough) {
+                quantities.forEach((productNumber, quantity) -> {
+                    available.merge(productNumber, -quantity, Integer::sum);
+                    totals.merge(productNumber, quantity, Integer::sum);
+                });
+            }
+            results.add(enough);
+        }
+
+        try {
+            deduct(totals);
+            return results;
+        } catch (IllegalArgumentException e) {
+            return StockDeductor.super.deductEach(quantitiesPerOrder);
+        }
+    }
+
+    private Map<String, Integer> findQuantities(List<String> productNumbers) {
+        Map<String, Integer> quantities = new HashMap<>();
+        if (productNumbers.isEmpty()) {
+            return quantities;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(productNumbers.size(), "?"));
+        jdbcTemplate.query(
+            "select product_number, quantity from stock where product_number in (" + placeholders + ")",
+            rs -> {
+                quantities.put(rs.getString("product_number"), rs.getInt("quantity"));
+            },
+            productNumbers.toArray()
+        );
+        return quantities;
+    }
+
+    private void restoreDeducted(List<Object[]> batchArgs, int[] updateCounts) {
+        List<Object[]> restoreArgs = IntStream.range(0, updateCounts.length)
+            .filter(i -> updateCounts[i] == 1)
+            .mapToObj(i -> new Object[]{batchArgs.get(i)[0], batchArgs.get(i)[1]})
+            .toList();
+        if (!restoreArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(RESTORE_SQL, restoreArgs);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 엔티티를 조회한 뒤 변경 감지로 차감한다. (기본 전략)
+ */
+@ConditionalOnProperty(name = "cafekiosk.stock.deduction", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Component
+public class JpaStockDeductor implements StockDeductor {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public void deduct(Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Map<String, Stock> stockMap = createStockMapBy(List.copyOf(quantities.keySet()));
+
+        deduct(stockMap, quantities);
+    }
+
+    /**
+     * 모든 주문의 재고를 한 번에 조회한 뒤 조회한 엔티티에서 순서대로 차감한다.
+     */
+    @Override
+    public List<Boolean> deductEach(List<Map<String, Integer>> quantitiesPerOrder) {
+        List<String> stockProductNumbers = quantitiesPerOrder.stream()
+            .flatMap(quantities -> quantities.keySet().stream())
+            .distinct()
+            .toList();
+        if (stockProductNumbers.isEmpty()) {
+            return quantitiesPerOrder.stream()
+                .map(quantities -> true)
+                .toList();
+        }
+        Map<String, Stock> stockMap = createStockMapBy(stockProductNumbers);
+
+        return quantitiesPerOrder.stream()
+            .map(quantities -> tryDeduct(stockMap, quantities))
+            .toList();
+    }
+
+    private boolean tryDeduct(Map<String, Stock> stockMap, Map<String, Integer> quantities) {
+        try {
+            deduct(stockMap, quantities);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void deduct(Map<String, Stock> stockMap, Map<String, Integer> quantities) {
+        boolean hasShortage = quantities.entrySet().stream()
+            .anyMatch(entry -> stockOf(stockMap, entry.getKey()).isQuantityLessThan(entry.getValue()));
+        if (hasShortage) {
+            throw new IllegalArgumentException("Quantity exceeds maximum quantity");
+        }
+
+        quantities.forEach((productNumber, quantity) ->
+            stockMap.get(productNumber).deductQuantity(quantity)
+        );
+    }
+
+    private Stock stockOf(Map<String, Stock> stockMap, String productNumber) {
+        Stock stock = stockMap.get(productNumber);
+        if (stock == null) {
+            throw new IllegalArgumentException("재고 정보가 없는 상품입니다.");
+        }
+        return stock;
+    }
+
+    private Map<String, Stock> createStockMapBy(List<String> stockProductNumbers) {
+        List<Stock> stocks = stockRepository.findAllByProductNumberIn(stockProductNumbers);
+        return stocks.stream()
+            .collect(Collectors.toMap(Stock::getProductNumber, stock -> stock));
+    }
+}
@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 번호별 차감 수량을 받아 재고를 차감한다.
+ * 하나라도 재고가 부족하면 예외가 발생하며 아무 재고도 차감하지 않는다.
+ * 호출한 트랜잭션이 롤백되면 차감도 함께 취소되어야 한다.
+ * <p>
+ * cafekiosk.stock.deduction 설정으로 구현체를 선택한다. (jpa / sql / ledger)
+ */
+public interface StockDeductor {
+
+    void deduct(Map<String, Integer> quantities);
+
+    /**
+     * 여러 주문의 재고를 순서대로 차감하고 주문별 성공 여부를 반환한다.
+     * 재고가 부족한 주문은 차감하지 않고 건너뛴다.
+     */
+    default List<Boolean> deductEach(List<Map<String, Integer>> quantitiesPerOrder) {
+        return quantitiesPerOrder.stream()
+            .map(this::tryDeduct)
+            .toList();
+    }
+
+    private boolean tryDeduct(Map<String, Integer> quantities) {
+        try {
+            deduct(quantities);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품별 재고 수량을 메모리에서 관리하는 재고 원장.
+ * <p>
+ * - 상품마다 독립된 카운터(stripe)를 두고 CAS 로 차감하기 때문에 락 없이 동시에 차감할 수 있다.
+ * - 차감분은 상품별로 모아두었다가 flush 주기마다 한 번의 UPDATE 로 stock 테이블에 반영한다. (write-behind)
+ * - 애플리케이션 종료 시 남은 차감분을 반영하고, 시작 시 stock 테이블로부터 카운터를 복구한다.
+ * <p>
+ * flush 되기 전에 프로세스가 비정상 종료되면 마지막 주기의 차감분은 유실된다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "cafekiosk.stock.deduction", havingValue = "ledger")
+@Component
+public class StockLedger implements StockDeductor {
+
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public StockLedger(StockRepository stockRepository, PlatformTransactionManager transactionManager) {
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<Stock> stocks = stockRepository.findAll();
+        stocks.forEach(stock -> counters.put(stock.getProductNumber(), new Counter(stock.getQuantity())));
+        log.info("재고 원장 복구 완료 - {}개 상품", stocks.size());
+    }
+
+    @Override
+    public void deduct(Map<String, Integer> quantities) {
+        Map<Counter, Integer> deducted = new HashMap<>();
+        try {
+            quantities.forEach((productNumber, quantity) -> {
+                Counter counter = counterOf(productNumber);
+                counter.deduct(quantity);
+                deducted.put(counter, quantity);
+            });
+        } catch (RuntimeException e) {
+            deducted.forEach(Counter::restore);
+            throw e;
+        }
+        restoreOnRollback(deducted);
+    }
+
+    public void replenish(String productNumber, int quantity) {
+        counterOf(productNumber).restore(quantity);
+    }
+
+    public int getQuantity(String productNumber) {
+        return counterOf(productNumber).available.get();
+    }
+
+    @Scheduled(fixedDelayString = "${cafekiosk.stock.ledger.flush-interval-ms:200}")
+    public void flush() {
+        Map<String, Integer> deltas = drainPendingDeltas();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                deltas.forEach(stockRepository::deductQuantity)
+            );
+        } catch (RuntimeException e) {
+            deltas.forEach((productNumber, delta) -> counters.get(productNumber).pending.addAndGet(delta));
+            log.warn("재고 차감분 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Counter counterOf(String productNumber) {
+        return counters.computeIfAbsent(productNumber, this::loadCounter);
+    }
+
+    private Counter loadCounter(String productNumber) {
+        List<Stock> stocks = stockRepository.findAllByProductNumberIn(List.of(productNumber));
+        if (stocks.isEmpty()) {
+            throw new IllegalArgumentException("재고 정보가 없는 상품입니다.");
+        }
+        return new Counter(stocks.get(0).getQuantity());
+    }
+
+    private Map<String, Integer> drainPendingDeltas() {
+        Map<String, Integer> deltas = new HashMap<>();
+        counters.forEach((productNumber, counter) -> {
+            int delta = counter.pending.getAndSet(0);
+            if (delta != 0) {
+                deltas.put(productNumber, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private void restoreOnRollback(Map<Counter, Integer> deducted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deducted.forEach(Counter::restore);
+                }
+            }
+        });
+    }
+
+    private static final class Counter {
+
+        private final AtomicInteger available;
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Counter(int quantity) {
+            this.available = new AtomicInteger(quantity);
+        }
+
+        private void deduct(int quantity) {
+            int current;
+            do {
+                current = available.get();
+                if (current < quantity) {
+                    throw new IllegalArgumentException("Quantity exceeds maximum quantity");
+                }
+            } while (!available.compareAndSet(current, current - quantity));
+            pending.addAndGet(quantity);
+        }
+
+        private void restore(int quantity) {
+            available.addAndGet(quantity);
+            pending.addAndGet(-quantity);
+        }
+    }
+}
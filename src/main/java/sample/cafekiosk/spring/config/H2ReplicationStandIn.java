@@ -0,0 +1,118 @@
+package sample.cafekiosk.spring.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 로컬에서 replica 라우팅을 확인하기 위한 복제 대역. (운영에서는 DB 의 복제 기능을 사용한다.)
+ * <p>
+ * interval-ms 마다 primary H2 의 모든 테이블을 replica H2 로 통째로 복사한다.
+ * - 테이블 구성이 다르면 스키마부터 다시 만든다. (SCRIPT NODATA)
+ * - 데이터는 replica 의 한 트랜잭션 안에서 지우고 다시 넣으므로, replica 를 읽는 쪽은 복사 전이나 후의 상태만 본다.
+ * <p>
+ * 따라서 replica 는 최대 interval-ms (+ 복사 시간) 만큼 primary 보다 늦다.
+ */
+@Slf4j
+public class H2ReplicationStandIn {
+
+    private static final String SELECT_TABLES =
+        "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate primary;
+    private final Collection<DataSource> replicas;
+
+    public H2ReplicationStandIn(DataSource primary, Collection<DataSource> replicas) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Scheduled(fixedDelayString = "${cafekiosk.datasource.replica.stand-in.interval-ms:1000}")
+    public void replicate() {
+        for (DataSource replica : replicas) {
+            try {
+                replicate(replica);
+            } catch (DataAccessException e) {
+                log.warn("replica 복사에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+            }
+        }
+    }
+
+    void replicate(DataSource replica) {
+        JdbcTemplate target = new JdbcTemplate(replica);
+        List<String> tables = primary.queryForList(SELECT_TABLES, String.class);
+        if (!new HashSet<>(tables).equals(new HashSet<>(target.queryForList(SELECT_TABLES, String.class)))) {
+            copySchema(target);
+        }
+
+        new TransactionTemplate(new DataSourceTransactionManager(replica)).executeWithoutResult(status ->
+            tables.forEach(table -> copyRows(table, target))
+        );
+    }
+
+    /**
+     * 복사 중에는 테이블 순서와 관계없이 넣을 수 있도록 replica 의 참조 무결성 검사를 끈다. (replica 는 복사로만 쓰인다.)
+     */
+    private void copySchema(JdbcTemplate target) {
+        List<String> statements = primary.queryForList("SCRIPT NODATA", String.class).stream()
+            .filter(statement -> !statement.startsWith("--"))
+            .toList();
+
+        target.execute("DROP ALL OBJECTS");
+        statements.forEach(target::execute);
+        target.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        log.info("replica 스키마 복사 완료 - {}개 구문", statements.size());
+    }
+
+    private void copyRows(String table, JdbcTemplate target) {
+        String quotedTable = quote(table);
+        target.update("DELETE FROM " + quotedTable);
+
+        primary.query("SELECT * FROM " + quotedTable, (ResultSetExtractor<Void>) resultSet -> {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            List<String> columns = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                columns.add(quote(metaData.getColumnName(i)));
+            }
+            String insert = "INSERT INTO " + quotedTable + " (" + String.join(", ", columns) + ") VALUES ("
+                + IntStream.range(0, columnCount).mapToObj(i -> "?").collect(Collectors.joining(", ")) + ")";
+
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            while (resultSet.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    target.batchUpdate(insert, batch);
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                target.batchUpdate(insert, batch);
+            }
+            return null;
+        });
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
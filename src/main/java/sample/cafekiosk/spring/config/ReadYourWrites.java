@@ -0,0 +1,27 @@
+package sample.cafekiosk.spring.config;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 primary 에서 읽도록 한다. (read-your-writes)
+ * <p>
+ * 방금 쓴 데이터를 바로 다시 읽어야 하는 요청은 replica 의 복제 지연 때문에 이전 데이터를 볼 수 있다.
+ * 이런 요청은 {@link ReadYourWritesFilter} 의 헤더로, 또는 코드에서 {@link #require()} / {@link #clear()} 로 primary 를 고정한다.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private ReadYourWrites() {
+    }
+
+    public static void require() {
+        REQUIRED.set(true);
+    }
+
+    public static void clear() {
+        REQUIRED.remove();
+    }
+
+    public static boolean isRequired() {
+        return REQUIRED.get();
+    }
+}
@@ -0,0 +1,33 @@
+package sample.cafekiosk.spring.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * X-Read-Your-Writes: true 헤더가 있는 요청은 읽기 전용 트랜잭션도 primary 에서 처리한다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        if (!Boolean.parseBoolean(request.getHeader(HEADER))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReadYourWrites.require();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package sample.cafekiosk.spring.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * replica 프로필
+ * <p>
+ * spring.datasource 를 primary 로, cafekiosk.datasource.replica.urls 의 DB 를 replica 로 두고
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 replica 로 보낸다. ({@link ReplicationRoutingDataSource})
+ * <p>
+ * 로컬에서는 stand-in.enabled 로 두 번째 H2 를 띄우고 {@link H2ReplicationStandIn} 이 primary 의 데이터를 복사하게 한다.
+ * ex) --spring.profiles.active=local,replica
+ */
+@Profile("replica")
+@Configuration
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        DataSourceProperties properties,
+        @Value("${cafekiosk.datasource.replica.urls}") List<String> urls,
+        @Value("${cafekiosk.datasource.replica.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    /**
+     * 트랜잭션이 시작될 때가 아니라 첫 쿼리를 실행할 때 커넥션을 얻어야 읽기 전용 여부로 라우팅할 수 있다.
+     */
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        ReplicationRoutingDataSource replicationRoutingDataSource,
+        @Value("${cafekiosk.datasource.replica.max-lag-ms:3000}") long maxLagMillis
+    ) {
+        return new ReplicaLagMonitor(primaryDataSource, replicationRoutingDataSource, maxLagMillis);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cafekiosk.datasource.replica.stand-in.enabled", havingValue = "true")
+    public H2ReplicationStandIn h2ReplicationStandIn(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        ReplicationRoutingDataSource replicationRoutingDataSource
+    ) {
+        return new H2ReplicationStandIn(primaryDataSource, replicationRoutingDataSource.getReplicas().values());
+    }
+}
@@ -0,0 +1,85 @@
+package sample.cafekiosk.spring.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * primary 에 주기적으로 heartbeat 시각을 쓰고, 각 replica 에 복제된 heartbeat 시각으로 복제 지연을 잰다.
+ * <p>
+ * 지연이 max-lag-ms 를 넘거나 replica 에서 heartbeat 를 읽지 못하면 라우팅에서 제외하고, 다시 따라잡으면 포함한다.
+ * heartbeat 는 확인할 때마다 쓰므로 max-lag-ms 는 lag-check-interval-ms 보다 커야 한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_HEARTBEAT_TABLE =
+        "CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)";
+    private static final String UPDATE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1";
+    private static final String INSERT_HEARTBEAT = "INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, ?)";
+    private static final String SELECT_HEARTBEAT = "SELECT beat_millis FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final ReplicationRoutingDataSource routingDataSource;
+    private final long maxLagMillis;
+    private final Clock clock;
+    private final Map<String, Long> lags = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(DataSource primary, ReplicationRoutingDataSource routingDataSource, long maxLagMillis) {
+        this(primary, routingDataSource, maxLagMillis, Clock.systemUTC());
+    }
+
+    ReplicaLagMonitor(DataSource primary, ReplicationRoutingDataSource routingDataSource, long maxLagMillis, Clock clock) {
+        this.primary = new JdbcTemplate(primary);
+        this.routingDataSource = routingDataSource;
+        this.maxLagMillis = maxLagMillis;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void createHeartbeatTable() {
+        primary.execute(CREATE_HEARTBEAT_TABLE);
+    }
+
+    @Scheduled(fixedDelayString = "${cafekiosk.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        long now = clock.millis();
+        if (primary.update(UPDATE_HEARTBEAT, now) == 0) {
+            primary.update(INSERT_HEARTBEAT, now);
+        }
+
+        routingDataSource.getReplicas().forEach((name, replica) -> {
+            Long lag = measureLag(replica, now);
+            if (lag == null) {
+                lags.remove(name);
+            } else {
+                lags.put(name, lag);
+            }
+            routingDataSource.markHealthy(name, lag != null && lag <= maxLagMillis);
+        });
+    }
+
+    /**
+     * @return 마지막으로 확인한 replica 별 복제 지연(ms). heartbeat 를 읽지 못한 replica 는 빠진다.
+     */
+    public Map<String, Long> getLags() {
+        return Map.copyOf(lags);
+    }
+
+    private Long measureLag(DataSource replica, long now) {
+        try {
+            Long beatMillis = new JdbcTemplate(replica).queryForObject(SELECT_HEARTBEAT, Long.class);
+            return beatMillis == null ? null : Math.max(0, now - beatMillis);
+        } catch (DataAccessException e) {
+            log.debug("replica 에서 heartbeat 를 읽지 못했습니다.", e);
+            return null;
+        }
+    }
+}
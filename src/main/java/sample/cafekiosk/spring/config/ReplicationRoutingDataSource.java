@@ -0,0 +1,88 @@
+package sample.cafekiosk.spring.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 보낸다.
+ * <p>
+ * - replica 가 여러 개라면 돌아가며 사용하고, 복제 지연이 허용치를 넘은 replica 는 건너뛴다.
+ * 사용할 수 있는 replica 가 없으면 primary 에서 읽는다. (replica 는 {@link ReplicaLagMonitor} 가 처음 확인하기 전까지 사용하지 않는다.)
+ * - {@link ReadYourWrites} 가 설정된 스레드는 읽기 전용 트랜잭션도 primary 로 보낸다.
+ * <p>
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션이 시작된 뒤에야 알 수 있으므로
+ * LazyConnectionDataSourceProxy 로 감싸 첫 쿼리를 실행할 때 커넥션을 고르도록 해야 한다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaNames = List.copyOf(replicas.keySet());
+
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isRequired()) {
+            return PRIMARY;
+        }
+
+        for (int i = 0; i < replicaNames.size(); i++) {
+            String name = replicaNames.get(Math.floorMod(next.getAndIncrement(), replicaNames.size()));
+            if (healthyReplicas.contains(name)) {
+                return name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public boolean isHealthy(String replicaName) {
+        return healthyReplicas.contains(replicaName);
+    }
+
+    public void markHealthy(String replicaName, boolean healthy) {
+        boolean changed = healthy ? healthyReplicas.add(replicaName) : healthyReplicas.remove(replicaName);
+        if (changed) {
+            log.info("replica 상태 변경 - {}: {}", replicaName, healthy ? "사용" : "제외");
+        }
+    }
+
+    /**
+     * replica 커넥션 풀은 빈으로 등록되지 않으므로 함께 닫는다.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
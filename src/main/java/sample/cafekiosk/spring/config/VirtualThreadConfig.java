@@ -0,0 +1,38 @@
+package sample.cafekiosk.spring.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * virtual-threads 프로필
+ * <p>
+ * 요청 처리 스레드가 가상 스레드가 되면 동시 요청 수가 커넥션 풀 크기보다 훨씬 커지기 때문에
+ * 커넥션 요청을 {@link ConnectionPermitDataSource} 로 감싸 풀 크기만큼만 통과시킨다.
+ * <p>
+ * JDBC 경로에서 synchronized 블록에 들어간 가상 스레드는 carrier 스레드를 붙잡는다. (Java 21)
+ * H2 드라이버의 세션 동기화가 대표적이며, bootRun 에 -Djdk.tracePinnedThreads=short 를 켜 두었으니
+ * 새로운 의존성을 추가할 때는 pinning 로그를 확인하자.
+ */
+@Profile("virtual-threads")
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPermitDataSourcePostProcessor(Environment environment) {
+        long timeoutMillis = environment.getProperty("cafekiosk.datasource.permit-timeout-ms", Long.class, 3000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new ConnectionPermitDataSource(dataSource, dataSource.getMaximumPoolSize(), timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
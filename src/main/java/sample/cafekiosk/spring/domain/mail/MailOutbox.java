@@ -0,0 +1,68 @@
+package sample.cafekiosk.spring.domain.mail;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보낼 메일. 메일을 보내려는 쪽의 트랜잭션에서 저장되고, 전송은 {@code MailOutboxDispatcher} 가 나중에 한다.
+ * <p>
+ * - availableDateTime 이 지난 PENDING / SENDING 메일을 가져갈 수 있다.
+ * - 가져간 메일은 SENDING 이 되고 availableDateTime 이 lease 만큼 미뤄진다. 그 안에 결과가 기록되지 않으면 (프로세스 종료 등) 다시 보낸다.
+ * - 전송에 성공한 메일은 이력(MailSendHistory)을 남기고 삭제된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "mail_outbox",
+    indexes = @Index(name = "idx_mail_outbox_status_available_date_time", columnList = "status, available_date_time, id")
+)
+@Entity
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_outbox_seq_generator")
+    @SequenceGenerator(name = "mail_outbox_seq_generator", sequenceName = "mail_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    private String fromEmail;
+    private String toEmail;
+    private String subject;
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    private MailOutboxStatus status;
+
+    private int attemptCount;
+
+    private LocalDateTime enqueuedDateTime;
+
+    private LocalDateTime availableDateTime;
+
+    private String lastError;
+
+    @Builder
+    private MailOutbox(String fromEmail, String toEmail, String subject, String content, LocalDateTime enqueuedDateTime) {
+        this.fromEmail = fromEmail;
+        this.toEmail = toEmail;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailOutboxStatus.PENDING;
+        this.enqueuedDateTime = enqueuedDateTime;
+        this.availableDateTime = enqueuedDateTime;
+    }
+
+    public static MailOutbox create(String fromEmail, String toEmail, String subject, String content, LocalDateTime enqueuedDateTime) {
+        return MailOutbox.builder()
+            .fromEmail(fromEmail)
+            .toEmail(toEmail)
+            .subject(subject)
+            .content(content)
+            .enqueuedDateTime(enqueuedDateTime)
+            .build();
+    }
+}
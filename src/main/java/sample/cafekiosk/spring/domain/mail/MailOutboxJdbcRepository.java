@@ -0,0 +1,157 @@
+package sample.cafekiosk.spring.domain.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 dispatcher 가 outbox 를 나눠 가져가고 결과를 한 번에 기록한다.
+ * <p>
+ * lease 가 지나 다른 dispatcher 가 다시 가져간 메일은 attempt_count 가 바뀌므로,
+ * 결과는 가져갈 때의 시도 번호와 같고 아직 SENDING 인 행에만 기록한다. (늦게 끝난 dispatcher 의 결과는 버린다.)
+ */
+@RequiredArgsConstructor
+@Repository
+public class MailOutboxJdbcRepository {
+
+    /**
+     * 다른 dispatcher 가 잡고 있는 행은 기다리지 않고 건너뛴다.
+     */
+    private static final String SELECT_CLAIMABLE_SQL = """
+        select id, from_email, to_email, subject, content, attempt_count, enqueued_date_time
+        from mail_outbox
+        where status in ('PENDING', 'SENDING') and available_date_time <= ?
+        order by id
+        limit ?
+        for update skip locked
+        """;
+
+    private static final String CLAIM_SQL =
+        "update mail_outbox set status = 'SENDING', attempt_count = attempt_count + 1, available_date_time = ? where id = ?";
+
+    private static final String OWNED_BY_ATTEMPT = " where id = ? and status = 'SENDING' and attempt_count = ?";
+
+    private static final String RESCHEDULE_SQL =
+        "update mail_outbox set status = 'PENDING', available_date_time = ?, last_error = ?" + OWNED_BY_ATTEMPT;
+
+    private static final String FAIL_SQL =
+        "update mail_outbox set status = 'FAILED', last_error = ?" + OWNED_BY_ATTEMPT;
+
+    private static final String DELETE_SQL = "delete from mail_outbox" + OWNED_BY_ATTEMPT;
+
+    private static final String DEPTH_SQL =
+        "select count(*), min(enqueued_date_time) from mail_outbox where status in ('PENDING', 'SENDING')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보낼 수 있는 메일을 id 순으로 limit 개까지 가져가 leaseUntil 까지 SENDING 으로 표시한다. 트랜잭션 안에서 호출해야 한다.
+     */
+    public List<MailOutboxMessage> claim(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<MailOutboxMessage> messages = jdbcTemplate.query(SELECT_CLAIMABLE_SQL, this::mapMessage, Timestamp.valueOf(now), limit);
+        if (messages.isEmpty()) {
+            return messages;
+        }
+
+        Timestamp lease = Timestamp.valueOf(leaseUntil);
+        jdbcTemplate.batchUpdate(CLAIM_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setTimestamp(1, lease);
+            ps.setLong(2, message.id());
+        });
+        return messages;
+    }
+
+    /**
+     * @return 지운 메일 (다른 dispatcher 가 다시 가져간 메일은 빠진다.)
+     */
+    public List<MailOutboxMessage> delete(List<MailOutboxMessage> messages) {
+        int[][] counts = jdbcTemplate.batchUpdate(DELETE_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.id());
+            ps.setInt(2, message.attempt());
+        });
+        return applied(messages, counts);
+    }
+
+    /**
+     * @return 다시 보내도록 기록한 메일 수
+     */
+    public int reschedule(List<Retry> retries) {
+        int[][] counts = jdbcTemplate.batchUpdate(RESCHEDULE_SQL, retries, retries.size(), (ps, retry) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(retry.availableDateTime()));
+            ps.setString(2, retry.error());
+            ps.setLong(3, retry.id());
+            ps.setInt(4, retry.attempt());
+        });
+        return applied(retries, counts).size();
+    }
+
+    /**
+     * @return 실패로 기록한 메일 수
+     */
+    public int fail(List<Failure> failures) {
+        int[][] counts = jdbcTemplate.batchUpdate(FAIL_SQL, failures, failures.size(), (ps, failure) -> {
+            ps.setString(1, failure.error());
+            ps.setLong(2, failure.id());
+            ps.setInt(3, failure.attempt());
+        });
+        return applied(failures, counts).size();
+    }
+
+    /**
+     * 아직 보내지 못한(PENDING / SENDING) 메일의 수와 그중 가장 먼저 들어온 시각
+     */
+    public Depth findDepth() {
+        return jdbcTemplate.queryForObject(DEPTH_SQL, (rs, rowNum) -> {
+            Timestamp oldest = rs.getTimestamp(2);
+            return new Depth(rs.getLong(1), oldest == null ? null : oldest.toLocalDateTime());
+        });
+    }
+
+    /**
+     * batchUpdate 결과에서 실제로 행을 바꾼 항목만 고른다. (H2 는 문장마다 바뀐 행 수를 돌려준다.)
+     */
+    private static <T> List<T> applied(List<T> items, int[][] counts) {
+        List<T> applied = new ArrayList<>(items.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0) {
+                    applied.add(items.get(index));
+                }
+                index++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 아직 증가시키기 전의 attempt_count 를 읽으므로 이번 시도 번호는 1을 더한 값이다.
+     */
+    private MailOutboxMessage mapMessage(ResultSet rs, int rowNum) throws SQLException {
+        return new MailOutboxMessage(
+            rs.getLong("id"),
+            rs.getString("from_email"),
+            rs.getString("to_email"),
+            rs.getString("subject"),
+            rs.getString("content"),
+            rs.getInt("attempt_count") + 1,
+            rs.getTimestamp("enqueued_date_time").toLocalDateTime()
+        );
+    }
+
+    public record Retry(Long id, int attempt, LocalDateTime availableDateTime, String error) {
+    }
+
+    public record Failure(Long id, int attempt, String error) {
+    }
+
+    public record Depth(long count, LocalDateTime oldestEnqueuedDateTime) {
+    }
+}
@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.domain.mail;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전송하기 위해 가져간 메일
+ *
+ * @param attempt 이번 전송이 몇 번째 시도인지 (1부터)
+ */
+public record MailOutboxMessage(
+    Long id,
+    String fromEmail,
+    String toEmail,
+    String subject,
+    String content,
+    int attempt,
+    LocalDateTime enqueuedDateTime
+) {
+}
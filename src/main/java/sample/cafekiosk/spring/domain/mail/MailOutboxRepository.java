@@ -0,0 +1,6 @@
+package sample.cafekiosk.spring.domain.mail;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+}
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.domain.order;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+/**
+ * 비동기로 접수된 주문(주문 토큰)이 어떤 주문으로 생성되었는지 기록한다.
+ * 주문과 같은 트랜잭션에서 저장되기 때문에 같은 토큰을 다시 적용해도 주문이 중복 생성되지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class AcceptedOrderToken extends BaseEntity {
+
+    @Id
+    private String token;
+
+    private Long orderId;
+
+    public AcceptedOrderToken(String token, Long orderId) {
+        this.token = token;
+        this.orderId = orderId;
+    }
+}
@@ -0,0 +1,8 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AcceptedOrderTokenRepository extends JpaRepository<AcceptedOrderToken, String> {
+}
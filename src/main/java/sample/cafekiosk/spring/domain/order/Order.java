@@ -5,22 +5,36 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 import sample.cafekiosk.spring.domain.BaseEntity;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductType;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    indexes = {
+        @Index(name = "idx_orders_status_registered_date_time", columnList = "order_status, registered_date_time, id"),
+        @Index(name = "idx_orders_registered_date_time", columnList = "registered_date_time, id"),
+        @Index(name = "idx_orders_total_price", columnList = "total_price")
+    }
+)
 @Entity
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -33,6 +47,13 @@ public class Order extends BaseEntity {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderProduct> orderProducts = new ArrayList<>();
 
+    /**
+     * 저장되기 전까지 true. 주문 id 는 저장할 때 정해지므로 이벤트는 발행 시점에 만든다.
+     */
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private boolean created;
+
     @Builder
     public Order(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
         this.orderStatus = orderStatus;
@@ -41,6 +62,7 @@ public class Order extends BaseEntity {
         this.orderProducts = products.stream()
             .map(product -> new OrderProduct(this, product))
             .toList();
+        this.created = true;
     }
 
     public static Order create(List<Product> products, LocalDateTime registeredDateTime) {
@@ -51,6 +73,39 @@ public class Order extends BaseEntity {
             .build();
     }
 
+    @DomainEvents
+    List<Object> domainEvents() {
+        if (!created) {
+            return List.of();
+        }
+
+        List<Product> products = orderProducts.stream()
+            .map(OrderProduct::getProduct)
+            .toList();
+        return List.of(new OrderCreatedEvent(
+            id,
+            registeredDateTime,
+            orderStatus,
+            totalPrice,
+            calculateTotalPriceByType(products),
+            products.stream().map(OrderLine::of).toList()
+        ));
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        created = false;
+    }
+
+    private Map<ProductType, Integer> calculateTotalPriceByType(List<Product> products) {
+        return products.stream()
+            .collect(Collectors.groupingBy(
+                Product::getType,
+                () -> new EnumMap<>(ProductType.class),
+                Collectors.summingInt(Product::getPrice)
+            ));
+    }
+
     private int calculateTotalPrice(List<Product> products) {
         return products.stream()
             .mapToInt(Product::getPrice)
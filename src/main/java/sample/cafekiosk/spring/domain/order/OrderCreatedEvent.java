@@ -0,0 +1,25 @@
+package sample.cafekiosk.spring.domain.order;
+
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문이 저장될 때 발행된다. (Spring Data 도메인 이벤트)
+ */
+public record OrderCreatedEvent(
+    Long orderId,
+    LocalDateTime registeredDateTime,
+    OrderStatus orderStatus,
+    int totalPrice,
+    Map<ProductType, Integer> totalPriceByType,
+    List<OrderLine> orderLines // 주문 상품마다 하나씩 (같은 상품을 여러 개 주문하면 중복된다.)
+) {
+    public List<String> productNumbers() {
+        return orderLines.stream()
+            .map(OrderLine::productNumber)
+            .toList();
+    }
+}
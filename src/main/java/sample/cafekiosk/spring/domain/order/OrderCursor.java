@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.domain.order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset 페이지의 위치. 마지막으로 읽은 주문의 (등록 시각, id) 이다.
+ * 클라이언트에는 내용을 알 필요 없는 불투명한 문자열로 전달한다.
+ */
+public record OrderCursor(
+    LocalDateTime registeredDateTime,
+    Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.indexOf(DELIMITER);
+            return new OrderCursor(
+                LocalDateTime.parse(decoded.substring(0, index)),
+                Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = registeredDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package sample.cafekiosk.spring.domain.order;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 주문 이력 전체를 메모리에 올리지 않고 한 행씩 읽어 전달한다.
+ * <p>
+ * - StatelessSession 을 사용하므로 읽은 엔티티 / DTO 가 영속성 컨텍스트에 쌓이지 않는다.
+ * - FORWARD_ONLY 커서를 fetch-size 단위로 가져오므로 내보내는 주문 수와 관계없이 메모리 사용량이 일정하다.
+ * <p>
+ * 스프링 트랜잭션과 별개의 커넥션을 사용하므로 커서를 여는 동안 커넥션 풀의 커넥션 하나를 점유한다.
+ */
+@Repository
+public class OrderExportRepository {
+
+    /**
+     * 주문 상품이 없는 주문도 내보내도록 주문에서 시작해 left join 한다.
+     */
+    private static final String EXPORT_SELECT = """
+        select new sample.cafekiosk.spring.domain.order.OrderExportRow(
+            o.id, o.orderStatus, o.registeredDateTime, o.totalPrice,
+            p.productNumber, p.name, p.type, p.price
+        )
+        from Order o
+        left join o.orderProducts op
+        left join op.product p
+        """;
+    private static final String EXPORT_ORDER_BY = " order by o.id, op.id";
+
+    private final SessionFactory sessionFactory;
+    private final int fetchSize;
+
+    public OrderExportRepository(
+        EntityManagerFactory entityManagerFactory,
+        @Value("${cafekiosk.order.export.fetch-size:500}") int fetchSize
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 조건에 맞는 주문 상품을 주문 id 순으로 읽어 consumer 에 전달한다. 조건이 null 이면 해당 조건은 무시한다.
+     * 주문 상품이 없는 주문은 상품 정보가 null 인 1행으로 전달한다.
+     *
+     * @return 전달한 행 수
+     */
+    public long export(LocalDateTime start, LocalDateTime end, OrderStatus orderStatus, Consumer<OrderExportRow> consumer) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                long count = scroll(session, start, end, orderStatus, consumer);
+                transaction.commit();
+                return count;
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private long scroll(StatelessSession session, LocalDateTime start, LocalDateTime end, OrderStatus orderStatus, Consumer<OrderExportRow> consumer) {
+        SelectionQuery<OrderExportRow> query = session.createSelectionQuery(exportQuery(start, end, orderStatus), OrderExportRow.class)
+            .setFetchSize(fetchSize);
+        if (start != null) {
+            query.setParameter("start", start);
+        }
+        if (end != null) {
+            query.setParameter("end", end);
+        }
+        if (orderStatus != null) {
+            query.setParameter("orderStatus", orderStatus);
+        }
+
+        long count = 0;
+        try (ScrollableResults<OrderExportRow> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept(results.get());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * null 인 조건은 쿼리에서 빼서, (:start is null or ...) 처럼 registered_date_time 인덱스를 쓰지 못하는 조건이 생기지 않게 한다.
+     */
+    private static String exportQuery(LocalDateTime start, LocalDateTime end, OrderStatus orderStatus) {
+        List<String> predicates = new ArrayList<>();
+        if (start != null) {
+            predicates.add("o.registeredDateTime >= :start");
+        }
+        if (end != null) {
+            predicates.add("o.registeredDateTime < :end");
+        }
+        if (orderStatus != null) {
+            predicates.add("o.orderStatus = :orderStatus");
+        }
+
+        if (predicates.isEmpty()) {
+            return EXPORT_SELECT + EXPORT_ORDER_BY;
+        }
+        return EXPORT_SELECT + " where " + String.join(" and ", predicates) + EXPORT_ORDER_BY;
+    }
+}
@@ -0,0 +1,26 @@
+package sample.cafekiosk.spring.domain.order;
+
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기의 한 행. (주문 상품 1건 = 1행, 주문 id 순으로 정렬되어 전달된다.)
+ * <p>
+ * 주문 상품이 없는 주문은 상품 정보가 모두 null 인 1행으로 전달된다.
+ */
+public record OrderExportRow(
+    Long orderId,
+    OrderStatus orderStatus,
+    LocalDateTime registeredDateTime,
+    int totalPrice,
+    String productNumber,
+    String productName,
+    ProductType productType,
+    Integer price
+) {
+
+    public boolean hasProduct() {
+        return productNumber != null;
+    }
+}
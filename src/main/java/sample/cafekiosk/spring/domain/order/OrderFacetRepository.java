@@ -0,0 +1,48 @@
+package sample.cafekiosk.spring.domain.order;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.orderproduct.QOrderProduct;
+import sample.cafekiosk.spring.domain.product.QProduct;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * facet 색인을 DB 로부터 다시 만들 때 사용하는 조회.
+ */
+@Repository
+public class OrderFacetRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public OrderFacetRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(JPQLTemplates.DEFAULT, em);
+    }
+
+    public List<OrderFacetRow> findOrderFacetRows(LocalDateTime start) {
+        QOrder order = QOrder.order;
+        QOrderProduct orderProduct = QOrderProduct.orderProduct;
+        QProduct product = QProduct.product;
+
+        return queryFactory
+            .select(Projections.constructor(
+                OrderFacetRow.class,
+                order.id,
+                order.registeredDateTime,
+                order.orderStatus,
+                order.totalPrice,
+                product.productNumber,
+                product.type
+            ))
+            .from(order)
+            .leftJoin(order.orderProducts, orderProduct)
+            .leftJoin(orderProduct.product, product)
+            .where(order.registeredDateTime.goe(start))
+            .orderBy(order.id.asc())
+            .fetch();
+    }
+}
@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.domain.order;
+
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+
+/**
+ * facet 색인을 다시 만들 때 읽는 한 행. (주문 상품 1건 = 1행, 주문 id 순으로 정렬되어 전달된다.)
+ * 주문 상품이 없는 주문은 productNumber, productType 이 null 인 한 행으로 전달된다.
+ */
+public record OrderFacetRow(
+    Long orderId,
+    LocalDateTime registeredDateTime,
+    OrderStatus orderStatus,
+    int totalPrice,
+    String productNumber,
+    ProductType productType
+) {
+}
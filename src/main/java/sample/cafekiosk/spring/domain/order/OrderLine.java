@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.domain.order;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+/**
+ * 주문 시점의 주문 상품 정보. 주문 조회 모델({@link OrderView})에 그대로 저장된다.
+ * <p>
+ * 주문 뒤에도 바뀌는 판매 상태는 담지 않는다. 상품이 바뀌어도 주문 조회 모델은 갱신하지 않으므로,
+ * 담아 두면 주문마다 다른 시점의 판매 상태가 응답된다.
+ * (판매 상태가 담겨 있던 기존 행도 읽을 수 있도록 모르는 필드는 무시한다.)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OrderLine(
+    Long productId,
+    String productNumber,
+    ProductType type,
+    String name,
+    int price
+) {
+    public static OrderLine of(Product product) {
+        return new OrderLine(
+            product.getId(),
+            product.getProductNumber(),
+            product.getType(),
+            product.getName(),
+            product.getPrice()
+        );
+    }
+}
@@ -2,12 +2,14 @@ package sample.cafekiosk.spring.domain.order;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import sample.cafekiosk.spring.api.controller.order.request.OrderSearchCond;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
 import sample.cafekiosk.spring.domain.product.Product;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderQueryRepository {
     Order searchById(Long id);
@@ -18,11 +20,23 @@ public interface OrderQueryRepository {
 
     List<OrderResponse> findOrderDtos();
 
+    List<OrderResponse> findOrderDtosAfter(Long lastOrderId, int chunkSize);
+
+    Stream<OrderResponse> streamOrderDtos(int chunkSize);
+
     Order findHighestTotalPriceOrder();
 
     Integer calculateTotalPriceBy(OrderStatus orderStatus);
 
-    void updateOrderStatusBetween(OrderStatus orderStatus, LocalDateTime start, LocalDateTime end);
+    List<Long> findOrderIdsToChangeStatus(OrderStatus orderStatus, LocalDateTime start, LocalDateTime end, Long lastOrderId, int limit);
+
+    long updateOrderStatusByIds(OrderStatus orderStatus, List<Long> orderIds);
 
     Page<OrderResponse> findOrdersPage(OrderSearchCond condition, Pageable pageable);
+
+    Slice<OrderResponse> findOrdersSlice(OrderSearchCond condition, Pageable pageable);
+
+    Slice<OrderResponse> findOrdersAfter(OrderSearchCond condition, OrderCursor cursor, int size);
+
+    List<OrderResponse> findOrderResponsesByIds(List<Long> orderIds);
 }
@@ -1,16 +1,21 @@
 package sample.cafekiosk.spring.domain.order;
 
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLTemplates;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import sample.cafekiosk.spring.api.controller.order.request.OrderSearchCond;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
@@ -20,10 +25,20 @@ import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.QProduct;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import static com.querydsl.core.group.GroupBy.groupBy;
-import static com.querydsl.core.group.GroupBy.list;
 import static com.querydsl.core.types.Order.ASC;
 import static com.querydsl.core.types.Order.DESC;
 
@@ -76,51 +91,107 @@ public class OrderQueryRepositoryImpl implements OrderQueryRepository {
             .fetch();
     }
 
+    /**
+     * 주문 조회 모델에서 읽으므로 주문 상품, 상품과 조인하지 않는다.
+     */
+    @Override
     public List<OrderResponse> findOrderDtos() {
-        QOrder order = QOrder.order;
-        QOrderProduct orderProduct = QOrderProduct.orderProduct;
-        QProduct product = QProduct.product;
+        QOrderView orderView = QOrderView.orderView;
 
         return queryFactory
-            .from(order)
-            .leftJoin(order.orderProducts, orderProduct)
-            .leftJoin(orderProduct.product, product)
-            .transform(
-                groupBy(order.id).list(
-                    Projections.constructor(
-                        OrderResponse.class,
-                        order.id,
-                        order.totalPrice,
-                        order.registeredDateTime,
-                        list(
-                            Projections.constructor(
-                                ProductResponse.class,
-                                product.id,
-                                product.productNumber,
-                                product.type,
-                                product.sellingStatus,
-                                product.name,
-                                product.price
-                            )
-                        )
-                    )
-                )
-            );
+            .selectFrom(orderView)
+            .orderBy(orderView.id.asc())
+            .fetch().stream()
+            .map(OrderResponse::of)
+            .toList();
+    }
+
+    /**
+     * id 가 lastOrderId 보다 큰 주문을 id 순으로 chunkSize 개까지 주문 조회 모델에서 DTO 로 조회한다.
+     * 같은 chunk 안에서 같은 주문 상품은 하나의 ProductResponse 를 공유한다.
+     */
+    @Override
+    public List<OrderResponse> findOrderDtosAfter(Long lastOrderId, int chunkSize) {
+        validateChunkSize(chunkSize);
+        QOrderView orderView = QOrderView.orderView;
+
+        List<OrderView> views = queryFactory
+            .selectFrom(orderView)
+            .where(lastOrderId == null ? null : orderView.id.gt(lastOrderId))
+            .orderBy(orderView.id.asc())
+            .limit(chunkSize)
+            .fetch();
+
+        Map<OrderLine, ProductResponse> productsByLine = new HashMap<>();
+        return views.stream()
+            .map(view -> new OrderResponse(
+                view.getId(),
+                view.getTotalPrice(),
+                view.getRegisteredDateTime(),
+                view.getOrderLines().stream()
+                    .map(line -> productsByLine.computeIfAbsent(line, ProductResponse::of))
+                    .toList()
+            ))
+            .toList();
+    }
+
+    /**
+     * 모든 주문을 id 순으로 chunkSize 개씩 나눠 읽는 Stream.
+     * 다음 chunk 는 앞의 chunk 를 모두 소비한 뒤에 조회하므로 한 번에 메모리에 올라가는 주문은 chunkSize 개 이하다.
+     */
+    @Override
+    public Stream<OrderResponse> streamOrderDtos(int chunkSize) {
+        validateChunkSize(chunkSize);
+        Iterator<OrderResponse> iterator = new Iterator<>() {
+
+            private Iterator<OrderResponse> chunk = Collections.emptyIterator();
+            private Long lastOrderId;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!chunk.hasNext() && !exhausted) {
+                    List<OrderResponse> next = findOrderDtosAfter(lastOrderId, chunkSize);
+                    exhausted = next.size() < chunkSize;
+                    if (!next.isEmpty()) {
+                        lastOrderId = next.get(next.size() - 1).id();
+                    }
+                    chunk = next.iterator();
+                }
+                return chunk.hasNext();
+            }
+
+            @Override
+            public OrderResponse next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return chunk.next();
+            }
+        };
+
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
     }
 
+    /**
+     * 가장 큰 총 금액은 total_price 인덱스의 마지막 값으로 바로 찾는다.
+     */
     @Override
     public Order findHighestTotalPriceOrder() {
         QOrder order = QOrder.order;
+        QOrder sub = new QOrder("sub");
         QOrderProduct orderProduct = QOrderProduct.orderProduct;
         QProduct product = QProduct.product;
 
         Long highestTotalPriceId = queryFactory
             .select(order.id)
             .from(order)
-            .leftJoin(order.orderProducts, orderProduct)
-            .leftJoin(orderProduct.product, product)
-            .groupBy(order.id)
-            .orderBy(order.totalPrice.desc())
+            .where(order.totalPrice.eq(
+                JPAExpressions.select(sub.totalPrice.max()).from(sub)
+            ))
             .fetchFirst();
 
         return queryFactory
@@ -147,64 +218,193 @@ public class OrderQueryRepositoryImpl implements OrderQueryRepository {
             .fetchOne();
     }
 
+    /**
+     * 기간 내 주문 중 아직 orderStatus 가 아닌 주문의 id 를 lastOrderId 다음부터 id 순으로 limit 개 조회하고 쓰기 락을 건다.
+     * 락을 건 뒤에 집계하고 같은 id 만 변경하므로, 그 사이 다른 트랜잭션이 상태를 바꿔 집계와 변경 대상이 어긋나지 않는다.
+     */
     @Override
-    public void updateOrderStatusBetween(OrderStatus orderStatus, LocalDateTime start, LocalDateTime end) {
+    public List<Long> findOrderIdsToChangeStatus(OrderStatus orderStatus, LocalDateTime start, LocalDateTime end, Long lastOrderId, int limit) {
         QOrder order = QOrder.order;
 
-        queryFactory
+        return queryFactory
+            .select(order.id)
+            .from(order)
+            .where(
+                dateTimeBetween(start, end),
+                order.orderStatus.ne(orderStatus),
+                lastOrderId == null ? null : order.id.gt(lastOrderId)
+            )
+            .orderBy(order.id.asc())
+            .limit(limit)
+            .forUpdate()
+            .fetch();
+    }
+
+    @Override
+    public long updateOrderStatusByIds(OrderStatus orderStatus, List<Long> orderIds) {
+        QOrder order = QOrder.order;
+
+        return queryFactory
             .update(order)
             .set(order.orderStatus, orderStatus)
-            .where(order.registeredDateTime.goe(start)
-                .and(order.registeredDateTime.lt(end)))
+            .where(
+                order.id.in(orderIds),
+                order.orderStatus.ne(orderStatus)
+            )
             .execute();
     }
 
+    /**
+     * 주문 조회 모델에서 페이지에 해당하는 행만 SQL LIMIT 으로 읽는다. 한 행이 주문 하나이므로 조인도, id 를 먼저 고르는 단계도 없다.
+     * count 쿼리는 마지막 페이지의 크기로 전체 개수를 알 수 없을 때만 실행한다.
+     */
     @Override
     public Page<OrderResponse> findOrdersPage(OrderSearchCond condition, Pageable pageable) {
-        QOrder order = QOrder.order;
-        QOrderProduct orderProduct = QOrderProduct.orderProduct;
-        QProduct product = QProduct.product;
-
-        LocalDateTime start = condition.registeredDateTime();
-        LocalDateTime end = start == null ? null : start.plusDays(1);
+        QOrderView orderView = QOrderView.orderView;
 
-        JPAQuery<Order> query = queryFactory
-            .selectFrom(order)
-            .leftJoin(order.orderProducts, orderProduct).fetchJoin()
-            .leftJoin(orderProduct.product, product).fetchJoin()
-            .where(
-                orderStatusEq(condition.orderStatus()),
-                dateTimeBetween(start, end)
-            );
-
-        pageable.getSort().forEach(o -> {
-            PathBuilder<Order> path = new PathBuilder<>(Order.class, order.getMetadata());
-            query.orderBy(new OrderSpecifier(
-                o.isAscending() ? ASC : DESC,
-                path.get(o.getProperty())
-            ));
-        });
+        JPAQuery<OrderView> query = queryFactory
+            .selectFrom(orderView)
+            .where(viewSearchCondition(condition))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize());
+        orderBy(query, new PathBuilder<>(OrderView.class, orderView.getMetadata()), orderView.id.asc(), pageable);
+
+        return PageableExecutionUtils.getPage(
+            query.fetch().stream().map(OrderResponse::of).toList(),
+            pageable,
+            () -> queryFactory
+                .select(orderView.count())
+                .from(orderView)
+                .where(viewSearchCondition(condition))
+                .fetchOne()
+        );
+    }
 
-        List<Order> orders = query
+    /**
+     * 전체 개수가 필요 없는 목록은 한 건을 더 읽어 다음 페이지 여부만 판단한다.
+     */
+    @Override
+    public Slice<OrderResponse> findOrdersSlice(OrderSearchCond condition, Pageable pageable) {
+        List<Long> orderIds = selectOrderIds(condition, pageable)
             .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+            .limit(pageable.getPageSize() + 1L)
             .fetch();
 
-        List<OrderResponse> dtos = orders.stream()
-            .map(OrderResponse::of)
-            .toList();
+        return toSlice(orderIds, pageable.getPageSize(), pageable);
+    }
 
+    /**
+     * 최근 주문부터 (등록 시각, id) 내림차순으로 cursor 다음 주문을 size 개 조회한다.
+     * offset 없이 인덱스에서 cursor 위치부터 읽으므로 뒤쪽 페이지도 첫 페이지와 비용이 같다.
+     */
+    @Override
+    public Slice<OrderResponse> findOrdersAfter(OrderSearchCond condition, OrderCursor cursor, int size) {
+        QOrder order = QOrder.order;
 
-        Long totalCount = queryFactory
-            .select(order.count())
+        List<Long> orderIds = queryFactory
+            .select(order.id)
             .from(order)
             .where(
-                orderStatusEq(condition.orderStatus()),
-                dateTimeBetween(start, end)
+                searchCondition(condition),
+                after(cursor)
             )
-            .fetchOne();
+            .orderBy(order.registeredDateTime.desc(), order.id.desc())
+            .limit(size + 1L)
+            .fetch();
+
+        return toSlice(orderIds, size, PageRequest.ofSize(size));
+    }
+
+    private JPAQuery<Long> selectOrderIds(OrderSearchCond condition, Pageable pageable) {
+        QOrder order = QOrder.order;
+
+        JPAQuery<Long> query = queryFactory
+            .select(order.id)
+            .from(order)
+            .where(searchCondition(condition));
+        orderBy(query, new PathBuilder<>(Order.class, order.getMetadata()), order.id.asc(), pageable);
+        return query;
+    }
+
+    private void orderBy(JPAQuery<?> query, PathBuilder<?> path, OrderSpecifier<Long> idAsc, Pageable pageable) {
+        pageable.getSort().forEach(o -> query.orderBy(new OrderSpecifier(
+            o.isAscending() ? ASC : DESC,
+            path.get(o.getProperty())
+        )));
+        // 정렬 값이 같은 주문끼리도 페이지마다 순서가 바뀌지 않도록 id 로 한 번 더 정렬한다.
+        if (pageable.getSort().getOrderFor("id") == null) {
+            query.orderBy(idAsc);
+        }
+    }
+
+    private Slice<OrderResponse> toSlice(List<Long> orderIds, int size, Pageable pageable) {
+        boolean hasNext = orderIds.size() > size;
+        List<Long> pageIds = hasNext ? orderIds.subList(0, size) : orderIds;
+        return new SliceImpl<>(fetchOrderResponses(pageIds), pageable, hasNext);
+    }
+
+    @Override
+    public List<OrderResponse> findOrderResponsesByIds(List<Long> orderIds) {
+        return fetchOrderResponses(orderIds);
+    }
 
-        return new PageImpl<>(dtos, pageable, totalCount);
+    /**
+     * id 목록의 주문을 주문 조회 모델에서 읽어 id 목록의 순서대로 돌려준다. (그 사이 삭제된 주문은 빠진다.)
+     * 목록, 단건, 스트림 조회가 모두 같은 주문 조회 모델을 읽어야 같은 주문이 경로마다 다르게 응답되지 않는다.
+     */
+    private List<OrderResponse> fetchOrderResponses(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        QOrderView orderView = QOrderView.orderView;
+
+        Map<Long, OrderView> viewsById = queryFactory
+            .selectFrom(orderView)
+            .where(orderView.id.in(orderIds))
+            .fetch().stream()
+            .collect(Collectors.toMap(OrderView::getId, Function.identity()));
+
+        return orderIds.stream()
+            .map(viewsById::get)
+            .filter(Objects::nonNull)
+            .map(OrderResponse::of)
+            .toList();
+    }
+
+    private Predicate searchCondition(OrderSearchCond condition) {
+        LocalDateTime start = condition.registeredDateTime();
+        LocalDateTime end = start == null ? null : start.plusDays(1);
+
+        return ExpressionUtils.allOf(
+            orderStatusEq(condition.orderStatus()),
+            dateTimeBetween(start, end)
+        );
+    }
+
+    private Predicate viewSearchCondition(OrderSearchCond condition) {
+        QOrderView orderView = QOrderView.orderView;
+        LocalDateTime start = condition.registeredDateTime();
+
+        return ExpressionUtils.allOf(
+            condition.orderStatus() == null ? null : orderView.orderStatus.eq(condition.orderStatus()),
+            start == null ? null : orderView.registeredDateTime.goe(start)
+                .and(orderView.registeredDateTime.lt(start.plusDays(1)))
+        );
+    }
+
+    /**
+     * (registeredDateTime, id) < (cursor.registeredDateTime, cursor.id)
+     * 앞의 조건은 인덱스 범위 검색에, 뒤의 조건은 같은 시각의 주문을 가르는 데 사용된다.
+     */
+    private BooleanExpression after(OrderCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        QOrder order = QOrder.order;
+        return order.registeredDateTime.loe(cursor.registeredDateTime())
+            .and(order.registeredDateTime.lt(cursor.registeredDateTime())
+                .or(order.id.lt(cursor.id())));
     }
 
     private BooleanExpression orderStatusEq(OrderStatus orderStatus) {
@@ -221,4 +421,13 @@ public class OrderQueryRepositoryImpl implements OrderQueryRepository {
         return QOrder.order.registeredDateTime.goe(start)
             .and(QOrder.order.registeredDateTime.lt(end));
     }
+
+    /**
+     * chunkSize 가 0 이하이면 조회 결과가 항상 비어 Stream 이 끝나지 않거나 limit 이 무시된다.
+     */
+    private static void validateChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk 크기는 1 이상이어야 합니다.");
+        }
+    }
 }
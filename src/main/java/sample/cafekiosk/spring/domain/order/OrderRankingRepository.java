@@ -0,0 +1,72 @@
+package sample.cafekiosk.spring.domain.order;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.api.service.order.response.OrderRankResponse;
+import sample.cafekiosk.spring.api.service.order.response.ProductSalesResponse;
+import sample.cafekiosk.spring.domain.orderproduct.QOrderProduct;
+import sample.cafekiosk.spring.domain.product.QProduct;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 순위표를 DB 로부터 다시 만들 때 사용하는 조회. start / end 가 null 이면 전체 기간을 조회한다.
+ */
+@Repository
+public class OrderRankingRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public OrderRankingRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(JPQLTemplates.DEFAULT, em);
+    }
+
+    public List<OrderRankResponse> findTopOrders(LocalDateTime start, LocalDateTime end, int limit) {
+        QOrder order = QOrder.order;
+
+        return queryFactory
+            .select(Projections.constructor(
+                OrderRankResponse.class,
+                order.id,
+                order.totalPrice,
+                order.registeredDateTime
+            ))
+            .from(order)
+            .where(registeredBetween(start, end))
+            .orderBy(order.totalPrice.desc(), order.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    public List<ProductSalesResponse> countProductSales(LocalDateTime start, LocalDateTime end) {
+        QOrder order = QOrder.order;
+        QOrderProduct orderProduct = QOrderProduct.orderProduct;
+        QProduct product = QProduct.product;
+
+        return queryFactory
+            .select(Projections.constructor(
+                ProductSalesResponse.class,
+                product.productNumber,
+                orderProduct.count()
+            ))
+            .from(orderProduct)
+            .join(orderProduct.order, order)
+            .join(orderProduct.product, product)
+            .where(registeredBetween(start, end))
+            .groupBy(product.productNumber)
+            .fetch();
+    }
+
+    private BooleanExpression registeredBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return null;
+        }
+        return QOrder.order.registeredDateTime.goe(start)
+            .and(QOrder.order.registeredDateTime.lt(end));
+    }
+}
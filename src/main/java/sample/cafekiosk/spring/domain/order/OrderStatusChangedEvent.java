@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.domain.order;
+
+import java.util.List;
+
+/**
+ * 여러 주문의 상태가 한 번에 orderStatus 로 변경되었을 때 발행된다. 변경된 주문은 orderIds 로 주어진다.
+ */
+public record OrderStatusChangedEvent(
+    OrderStatus orderStatus,
+    long orderCount,
+    long totalPrice,
+    List<Long> orderIds
+) {
+    public static OrderStatusChangedEvent ofOrders(
+        OrderStatus orderStatus, long orderCount, long totalPrice, List<Long> orderIds
+    ) {
+        return new OrderStatusChangedEvent(orderStatus, orderCount, totalPrice, List.copyOf(orderIds));
+    }
+}
@@ -0,0 +1,91 @@
+package sample.cafekiosk.spring.domain.order;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기간 내 주문의 상태를 chunk 단위로 변경하는 작업과 그 진행 상황.
+ * <p>
+ * chunk 를 처리할 때마다 같은 트랜잭션에서 마지막으로 처리한 주문 id 를 기록하므로
+ * 중간에 프로세스가 종료되어도 마지막으로 커밋된 chunk 다음부터 이어서 처리할 수 있다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class OrderStatusTransition extends BaseEntity {
+
+    private static final int MAX_FAILURE_MESSAGE_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_status_transition_seq_generator")
+    @SequenceGenerator(name = "order_status_transition_seq_generator", sequenceName = "order_status_transition_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+
+    private int chunkSize;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatusTransitionStatus status;
+
+    private Long lastOrderId;
+
+    private long processedCount;
+
+    private int chunkCount;
+
+    /**
+     * chunk 의 UPDATE 부터 커밋까지 주문 행의 락을 잡고 있던 가장 긴 시간
+     */
+    private long maxLockHoldMillis;
+
+    private String failureMessage;
+
+    @Builder
+    private OrderStatusTransition(OrderStatus orderStatus, LocalDateTime startDateTime, LocalDateTime endDateTime, int chunkSize) {
+        this.orderStatus = orderStatus;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.chunkSize = chunkSize;
+        this.status = OrderStatusTransitionStatus.RUNNING;
+    }
+
+    public boolean isRunning() {
+        return status == OrderStatusTransitionStatus.RUNNING;
+    }
+
+    public void advance(Long lastOrderId, long updatedCount) {
+        this.lastOrderId = lastOrderId;
+        this.processedCount += updatedCount;
+        this.chunkCount++;
+    }
+
+    public void recordLockHold(long lockHoldMillis) {
+        this.maxLockHoldMillis = Math.max(maxLockHoldMillis, lockHoldMillis);
+    }
+
+    public void complete() {
+        this.status = OrderStatusTransitionStatus.COMPLETED;
+    }
+
+    /**
+     * SQL 예외의 메시지는 컬럼 길이보다 길 수 있으므로 잘라서 기록한다.
+     */
+    public void fail(String failureMessage) {
+        this.status = OrderStatusTransitionStatus.FAILED;
+        this.failureMessage = failureMessage == null || failureMessage.length() <= MAX_FAILURE_MESSAGE_LENGTH
+            ? failureMessage
+            : failureMessage.substring(0, MAX_FAILURE_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.domain.order;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderStatusTransitionRepository extends JpaRepository<OrderStatusTransition, Long> {
+
+    List<OrderStatusTransition> findAllByStatus(OrderStatusTransitionStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from OrderStatusTransition t where t.id = :id")
+    Optional<OrderStatusTransition> findForUpdate(Long id);
+}
@@ -0,0 +1,15 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderStatusTransitionStatus {
+
+    RUNNING("진행중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String text;
+}
@@ -0,0 +1,82 @@
+package sample.cafekiosk.spring.domain.order;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 조회 모델
+ * <p>
+ * 주문과 주문 상품을 한 행에 담아 두어 조인 없이 한 번의 조회로 주문 응답을 만든다.
+ * - 주문 상품은 주문 시점의 상품 정보로 order_lines 컬럼에 JSON 으로 저장한다.
+ * - 주문과 같은 트랜잭션에서 {@link OrderCreatedEvent}, {@link OrderStatusChangedEvent} 로 갱신된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "order_view",
+    indexes = {
+        @Index(name = "idx_order_view_status_registered_date_time", columnList = "order_status, registered_date_time, id"),
+        @Index(name = "idx_order_view_registered_date_time", columnList = "registered_date_time, id")
+    }
+)
+@Entity
+public class OrderView implements Persistable<Long> {
+
+    @Id
+    private Long id; // 주문 id
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private int totalPrice;
+
+    private LocalDateTime registeredDateTime;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<OrderLine> orderLines = new ArrayList<>();
+
+    /**
+     * id 를 직접 정하므로 save() 가 저장 전에 SELECT 하지 않도록 새 엔티티인지 따로 기록한다.
+     */
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private boolean newEntity = true;
+
+    private OrderView(Long id, OrderStatus orderStatus, int totalPrice, LocalDateTime registeredDateTime, List<OrderLine> orderLines) {
+        this.id = id;
+        this.orderStatus = orderStatus;
+        this.totalPrice = totalPrice;
+        this.registeredDateTime = registeredDateTime;
+        this.orderLines = new ArrayList<>(orderLines);
+    }
+
+    public static OrderView of(OrderCreatedEvent event) {
+        return new OrderView(
+            event.orderId(),
+            event.orderStatus(),
+            event.totalPrice(),
+            event.registeredDateTime(),
+            event.orderLines()
+        );
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    @Modifying
+    @Query("update OrderView v set v.orderStatus = :orderStatus where v.id in :orderIds")
+    int updateOrderStatusByIds(
+        @Param("orderStatus") OrderStatus orderStatus,
+        @Param("orderIds") List<Long> orderIds
+    );
+}
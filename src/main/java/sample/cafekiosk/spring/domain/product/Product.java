@@ -9,11 +9,16 @@ import sample.cafekiosk.spring.domain.BaseEntity;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_product_product_number", columnNames = "product_number"),
+    indexes = @Index(name = "idx_product_selling_status", columnList = "selling_status")
+)
 @Entity
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     private String productNumber;
@@ -36,4 +41,8 @@ public class Product extends BaseEntity {
         this.name = name;
         this.price = price;
     }
+
+    public void changeSellingStatus(ProductSellingStatus sellingStatus) {
+        this.sellingStatus = sellingStatus;
+    }
 }
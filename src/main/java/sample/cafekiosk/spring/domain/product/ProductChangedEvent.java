@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품이 등록되거나 판매 상태가 변경되었음을 알린다. 한 번에 등록한 상품은 하나의 이벤트로 알린다.
+ */
+public record ProductChangedEvent(
+    List<String> productNumbers
+) {
+    public ProductChangedEvent {
+        productNumbers = List.copyOf(productNumbers);
+    }
+
+    public ProductChangedEvent(String productNumber) {
+        this(List.of(productNumber));
+    }
+}
@@ -0,0 +1,41 @@
+package sample.cafekiosk.spring.domain.product;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+/**
+ * 다음에 발급할 상품 번호를 보관하는 카운터 행.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ProductNumberCounter extends BaseEntity {
+
+    public static final String PRODUCT_NUMBER = "product_number";
+
+    @Id
+    private String name;
+
+    private long nextValue;
+
+    public ProductNumberCounter(String name, long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    /**
+     * size 개의 번호를 예약하고 예약한 구간의 첫 번호를 반환한다.
+     */
+    public long reserve(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("예약할 번호 개수는 양수여야 합니다.");
+        }
+        long start = nextValue;
+        nextValue += size;
+        return start;
+    }
+}
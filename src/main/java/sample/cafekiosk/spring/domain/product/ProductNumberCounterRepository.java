@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.domain.product;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProductNumberCounterRepository extends JpaRepository<ProductNumberCounter, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ProductNumberCounter c where c.name = :name")
+    Optional<ProductNumberCounter> findForUpdate(String name);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -13,6 +14,18 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     List<Product> findAllByProductNumberIn(List<String> productNumbers);
 
-    @Query(value = "select p.product_number from product p order by p.id desc limit 1", nativeQuery = true)
+    Optional<Product> findByProductNumber(String productNumber);
+
+    /**
+     * order by id desc limit 1 은 H2 에서 오름차순 기본키 인덱스를 사용하지 못해 전체를 읽는다.
+     * max(id) 는 인덱스의 마지막 값을 바로 읽는다.
+     */
+    @Query(value = "select p.product_number from product p where p.id = (select max(p2.id) from product p2)", nativeQuery = true)
     String findLatestProductNumber();
+
+    /**
+     * 상품 번호 카운터를 처음 만들 때 한 번만 사용한다. (전체를 읽는다.)
+     */
+    @Query(value = "select coalesce(max(cast(p.product_number as bigint)), 0) from product p where regexp_like(p.product_number, '^[0-9]+$')", nativeQuery = true)
+    long findMaxNumericProductNumber();
 }
@@ -0,0 +1,42 @@
+package sample.cafekiosk.spring.domain.statistics;
+
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.Map;
+
+/**
+ * 하루 매출 집계값 (또는 집계에 더할 변화량).
+ */
+public record DailySales(
+    long orderCount,
+    long totalPrice,
+    long handmadeTotal,
+    long bottleTotal,
+    long bakeryTotal
+) {
+    public static final DailySales ZERO = new DailySales(0, 0, 0, 0, 0);
+
+    public static DailySales ofOrder(int totalPrice, Map<ProductType, Integer> totalPriceByType) {
+        return new DailySales(
+            1,
+            totalPrice,
+            totalPriceByType.getOrDefault(ProductType.HANDMADE, 0),
+            totalPriceByType.getOrDefault(ProductType.BOTTLE, 0),
+            totalPriceByType.getOrDefault(ProductType.BAKERY, 0)
+        );
+    }
+
+    public DailySales plus(DailySales other) {
+        return new DailySales(
+            orderCount + other.orderCount,
+            totalPrice + other.totalPrice,
+            handmadeTotal + other.handmadeTotal,
+            bottleTotal + other.bottleTotal,
+            bakeryTotal + other.bakeryTotal
+        );
+    }
+
+    public DailySales negate() {
+        return new DailySales(-orderCount, -totalPrice, -handmadeTotal, -bottleTotal, -bakeryTotal);
+    }
+}
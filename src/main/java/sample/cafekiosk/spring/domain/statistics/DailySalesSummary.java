@@ -0,0 +1,43 @@
+package sample.cafekiosk.spring.domain.statistics;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜 x 주문 상태별 매출 집계.
+ * <p>
+ * 주문 생성 / 상태 변경과 같은 트랜잭션에서 {@link DailySalesSummaryJdbcRepository#merge} 로 갱신되므로
+ * 엔티티로는 조회만 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(DailySalesSummaryId.class)
+@Entity
+public class DailySalesSummary {
+
+    @Id
+    private LocalDate salesDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private long orderCount;
+
+    private long totalPrice;
+
+    private long handmadeTotal;
+
+    private long bottleTotal;
+
+    private long bakeryTotal;
+}
@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.domain.statistics;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DailySalesSummaryId implements Serializable {
+
+    private LocalDate salesDate;
+    private OrderStatus orderStatus;
+}
@@ -0,0 +1,148 @@
+package sample.cafekiosk.spring.domain.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * daily_sales_summary 를 SQL 로 갱신한다.
+ * 집계 행은 여러 트랜잭션이 동시에 더하므로 읽고 쓰는 대신 MERGE 한 문장으로 더한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class DailySalesSummaryJdbcRepository {
+
+    private static final String MERGE_SQL = """
+        merge into daily_sales_summary s
+        using (select cast(? as date) as sales_date, cast(? as varchar(255)) as order_status,
+                      cast(? as bigint) as order_count, cast(? as bigint) as total_price,
+                      cast(? as bigint) as handmade_total, cast(? as bigint) as bottle_total, cast(? as bigint) as bakery_total) v
+        on (s.sales_date = v.sales_date and s.order_status = v.order_status)
+        when matched then update set
+            order_count = s.order_count + v.order_count,
+            total_price = s.total_price + v.total_price,
+            handmade_total = s.handmade_total + v.handmade_total,
+            bottle_total = s.bottle_total + v.bottle_total,
+            bakery_total = s.bakery_total + v.bakery_total
+        when not matched then insert (sales_date, order_status, order_count, total_price, handmade_total, bottle_total, bakery_total)
+            values (v.sales_date, v.order_status, v.order_count, v.total_price, v.handmade_total, v.bottle_total, v.bakery_total)
+        """;
+
+    /**
+     * 주문을 날짜 x 주문 상태별로 집계한다. 상품 타입별 금액은 대상 주문의 주문 상품만 읽어 계산한다.
+     * %s 에는 대상 주문 조건이 들어간다. (주문 테이블 별칭: o2 / o)
+     */
+    private static final String AGGREGATE_SQL_TEMPLATE = """
+        select cast(o.registered_date_time as date) as sales_date,
+               o.order_status as order_status,
+               count(*) as order_count,
+               sum(o.total_price) as total_price,
+               coalesce(sum(t.handmade_total), 0) as handmade_total,
+               coalesce(sum(t.bottle_total), 0) as bottle_total,
+               coalesce(sum(t.bakery_total), 0) as bakery_total
+        from orders o
+        left join (
+            select op.order_id,
+                   sum(case when p.type = 'HANDMADE' then p.price else 0 end) as handmade_total,
+                   sum(case when p.type = 'BOTTLE' then p.price else 0 end) as bottle_total,
+                   sum(case when p.type = 'BAKERY' then p.price else 0 end) as bakery_total
+            from order_product op
+            join product p on p.id = op.product_id
+            where op.order_id in (select o2.id from orders o2 where %s)
+            group by op.order_id
+        ) t on t.order_id = o.id
+        where %s
+        """;
+
+    private static final String AGGREGATE_SQL = AGGREGATE_SQL_TEMPLATE.formatted(
+        "o2.registered_date_time >= ? and o2.registered_date_time < ?",
+        "o.registered_date_time >= ? and o.registered_date_time < ?"
+    );
+
+    private static final String GROUP_BY_SQL = " group by cast(o.registered_date_time as date), o.order_status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void merge(LocalDate salesDate, OrderStatus orderStatus, DailySales sales) {
+        Object[] args = {
+            Date.valueOf(salesDate), orderStatus.name(),
+            sales.orderCount(), sales.totalPrice(),
+            sales.handmadeTotal(), sales.bottleTotal(), sales.bakeryTotal()
+        };
+        try {
+            jdbcTemplate.update(MERGE_SQL, args);
+        } catch (DuplicateKeyException e) {
+            // 같은 집계 행을 다른 트랜잭션이 먼저 만든 경우 한 번 더 시도하면 갱신된다.
+            jdbcTemplate.update(MERGE_SQL, args);
+        }
+    }
+
+    /**
+     * 주어진 주문 중 excludedStatus 가 아닌 주문을 집계한다. (상태 변경 시 옮겨야 할 집계값)
+     */
+    public List<AggregatedSales> aggregateOrders(List<Long> orderIds, OrderStatus excludedStatus) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(orderIds.size(), "?"));
+        String sql = AGGREGATE_SQL_TEMPLATE.formatted("o2.id in (" + placeholders + ")", "o.id in (" + placeholders + ")");
+
+        List<Object> args = new ArrayList<>(orderIds.size() * 2 + 1);
+        args.addAll(orderIds);
+        args.addAll(orderIds);
+        args.add(excludedStatus.name());
+
+        return jdbcTemplate.query(sql + " and o.order_status <> ?" + GROUP_BY_SQL, this::mapAggregatedSales, args.toArray());
+    }
+
+    /**
+     * from ~ to (포함) 날짜의 집계를 주문 이력으로부터 다시 만든다.
+     *
+     * @return 새로 만든 집계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+
+        jdbcTemplate.update("delete from daily_sales_summary where sales_date >= ? and sales_date <= ?",
+            Date.valueOf(from), Date.valueOf(to));
+        return jdbcTemplate.update(
+            "insert into daily_sales_summary (sales_date, order_status, order_count, total_price, handmade_total, bottle_total, bakery_total) "
+                + AGGREGATE_SQL + GROUP_BY_SQL,
+            start, end, start, end
+        );
+    }
+
+    private AggregatedSales mapAggregatedSales(ResultSet rs, int rowNum) throws SQLException {
+        return new AggregatedSales(
+            rs.getDate("sales_date").toLocalDate(),
+            OrderStatus.valueOf(rs.getString("order_status")),
+            new DailySales(
+                rs.getLong("order_count"),
+                rs.getLong("total_price"),
+                rs.getLong("handmade_total"),
+                rs.getLong("bottle_total"),
+                rs.getLong("bakery_total")
+            )
+        );
+    }
+
+    public record AggregatedSales(
+        LocalDate salesDate,
+        OrderStatus orderStatus,
+        DailySales sales
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package sample.cafekiosk.spring.domain.statistics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailySalesSummaryRepository extends JpaRepository<DailySalesSummary, DailySalesSummaryId> {
+
+    List<DailySalesSummary> findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(LocalDate from, LocalDate to, OrderStatus orderStatus);
+}
@@ -4,6 +4,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,11 +15,13 @@ import sample.cafekiosk.spring.domain.BaseEntity;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stock_product_number", columnNames = "product_number"))
 @Entity
 public class Stock extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_seq_generator")
+    @SequenceGenerator(name = "stock_seq_generator", sequenceName = "stock_seq", allocationSize = 50)
     private Long id;
 
     private String productNumber;
@@ -36,8 +41,12 @@ public class Stock extends BaseEntity {
                 .build();
     }
 
+    public boolean isQuantityLessThan(int quantity) {
+        return this.quantity < quantity;
+    }
+
     public void deductQuantity(int quantity) {
-        if (this.quantity < quantity) {
+        if (isQuantityLessThan(quantity)) {
             throw new IllegalArgumentException("Quantity exceeds maximum quantity");
         }
         this.quantity -= quantity;
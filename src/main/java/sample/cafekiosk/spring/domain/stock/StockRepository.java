@@ -1,6 +1,9 @@
 package sample.cafekiosk.spring.domain.stock;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +12,8 @@ import java.util.List;
 public interface StockRepository extends JpaRepository<Stock, Long> {
 
     List<Stock> findAllByProductNumberIn(List<String> productNumbers);
+
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity - :quantity where s.productNumber = :productNumber")
+    int deductQuantity(@Param("productNumber") String productNumber, @Param("quantity") int quantity);
 }
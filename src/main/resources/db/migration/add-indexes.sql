@@ -0,0 +1,17 @@
+-- 엔티티에 선언한 인덱스 / 유니크 제약을 기존 H2 데이터베이스에 추가하는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+--
+-- 유니크 제약을 추가하기 전에 product / stock 의 product_number 중복이 없는지 확인해야 한다.
+-- select product_number, count(*) from product group by product_number having count(*) > 1;
+-- select product_number, count(*) from stock group by product_number having count(*) > 1;
+
+alter table product add constraint if not exists uk_product_product_number unique (product_number);
+create index if not exists idx_product_selling_status on product (selling_status);
+
+alter table stock add constraint if not exists uk_stock_product_number unique (product_number);
+
+create index if not exists idx_orders_status_registered_date_time on orders (order_status, registered_date_time);
+create index if not exists idx_orders_registered_date_time on orders (registered_date_time);
+create index if not exists idx_orders_total_price on orders (total_price);
+
+create index if not exists idx_order_product_order_id on order_product (order_id);
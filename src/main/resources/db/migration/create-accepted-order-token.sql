@@ -0,0 +1,11 @@
+-- 접수된 주문 토큰 테이블을 기존 H2 데이터베이스에 추가하는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+--
+-- token 은 기본 키(유일)이므로 같은 토큰을 두 번 적용하면 두 번째 주문 저장이 롤백된다.
+
+create table if not exists accepted_order_token (
+    token varchar(255) not null primary key,
+    order_id bigint,
+    created_date_time timestamp(6),
+    modified_date_time timestamp(6)
+);
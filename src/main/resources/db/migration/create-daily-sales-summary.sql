@@ -0,0 +1,15 @@
+-- 날짜 x 주문 상태별 매출 집계 테이블을 기존 H2 데이터베이스에 추가하는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+--
+-- 테이블을 만든 뒤 POST /api/v1/orders/statistics/rebuild 로 기존 주문의 집계를 채운다.
+
+create table if not exists daily_sales_summary (
+    sales_date date not null,
+    order_status varchar(255) not null,
+    order_count bigint not null,
+    total_price bigint not null,
+    handmade_total bigint not null,
+    bottle_total bigint not null,
+    bakery_total bigint not null,
+    primary key (sales_date, order_status)
+);
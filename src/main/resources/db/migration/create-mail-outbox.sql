@@ -0,0 +1,19 @@
+-- 메일 outbox 테이블을 기존 H2 데이터베이스에 추가하는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+
+create sequence if not exists mail_outbox_seq start with 1 increment by 50;
+
+create table if not exists mail_outbox (
+    id bigint not null primary key,
+    from_email varchar(255),
+    to_email varchar(255),
+    subject varchar(255),
+    content varchar(255),
+    status varchar(255),
+    attempt_count integer not null,
+    enqueued_date_time timestamp(6),
+    available_date_time timestamp(6),
+    last_error varchar(255)
+);
+
+create index if not exists idx_mail_outbox_status_available_date_time on mail_outbox (status, available_date_time, id);
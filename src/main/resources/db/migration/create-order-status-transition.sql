@@ -0,0 +1,20 @@
+-- chunk 단위 주문 상태 변경 작업 테이블을 기존 H2 데이터베이스에 추가하는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+
+create sequence if not exists order_status_transition_seq start with 1 increment by 50;
+
+create table if not exists order_status_transition (
+    id bigint not null primary key,
+    order_status varchar(255),
+    start_date_time timestamp(6),
+    end_date_time timestamp(6),
+    chunk_size integer not null,
+    status varchar(255),
+    last_order_id bigint,
+    processed_count bigint not null,
+    chunk_count integer not null,
+    max_lock_hold_millis bigint not null,
+    failure_message varchar(255),
+    created_date_time timestamp(6),
+    modified_date_time timestamp(6)
+);
@@ -0,0 +1,35 @@
+-- 주문 조회 모델(order_view) 테이블을 기존 H2 데이터베이스에 추가하고 기존 주문으로 채우는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+--
+-- 애플리케이션을 멈춘 상태에서 실행한다. 이후의 주문은 주문과 같은 트랜잭션에서 반영된다.
+
+create table if not exists order_view (
+    id bigint not null primary key,
+    order_status varchar(255),
+    total_price integer not null,
+    registered_date_time timestamp(6),
+    order_lines json
+);
+
+create index if not exists idx_order_view_status_registered_date_time on order_view (order_status, registered_date_time, id);
+create index if not exists idx_order_view_registered_date_time on order_view (registered_date_time, id);
+
+insert into order_view (id, order_status, total_price, registered_date_time, order_lines)
+select o.id, o.order_status, o.total_price, o.registered_date_time,
+       coalesce(
+           json_arrayagg(
+               json_object(
+                   'productId': p.id,
+                   'productNumber': p.product_number,
+                   'type': p.type,
+                   'name': p.name,
+                   'price': p.price
+               ) order by op.id
+           ) filter (where p.id is not null),
+           json '[]'
+       )
+from orders o
+left join order_product op on op.order_id = o.id
+left join product p on p.id = op.product_id
+where not exists (select 1 from order_view v where v.id = o.id)
+group by o.id, o.order_status, o.total_price, o.registered_date_time;
@@ -0,0 +1,12 @@
+-- 상품 번호 카운터 테이블을 기존 H2 데이터베이스에 추가하는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+--
+-- 카운터 행은 cafekiosk.product.number.generator=block 으로 처음 번호를 예약할 때
+-- 기존 상품 번호 중 가장 큰 숫자 다음 번호로 만들어진다.
+
+create table if not exists product_number_counter (
+    name varchar(255) not null primary key,
+    next_value bigint not null,
+    created_date_time timestamp(6),
+    modified_date_time timestamp(6)
+);
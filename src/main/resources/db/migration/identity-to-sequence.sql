@@ -0,0 +1,18 @@
+-- IDENTITY 로 id 를 생성하던 기존 H2 데이터베이스를 pooled 시퀀스로 옮기는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+--
+-- pooled optimizer 는 시퀀스 값을 할당 구간의 상한으로 사용한다. (allocationSize = 50)
+-- 따라서 시퀀스를 max(id) + 50 + 1 에서 시작시키면 첫 구간이 max(id) + 2 부터 시작해 기존 id 와 겹치지 않는다.
+-- 기존 id 컬럼은 GENERATED BY DEFAULT AS IDENTITY 이므로 애플리케이션이 넣는 id 값을 그대로 받는다.
+
+create sequence if not exists orders_seq start with 1 increment by 50;
+create sequence if not exists order_product_seq start with 1 increment by 50;
+create sequence if not exists product_seq start with 1 increment by 50;
+create sequence if not exists stock_seq start with 1 increment by 50;
+create sequence if not exists mail_send_history_seq start with 1 increment by 50;
+
+alter sequence orders_seq restart with (select coalesce(max(id), 0) + 51 from orders);
+alter sequence order_product_seq restart with (select coalesce(max(id), 0) + 51 from order_product);
+alter sequence product_seq restart with (select coalesce(max(id), 0) + 51 from product);
+alter sequence stock_seq restart with (select coalesce(max(id), 0) + 51 from stock);
+alter sequence mail_send_history_seq restart with (select coalesce(max(id), 0) + 51 from mail_send_history);
@@ -0,0 +1,8 @@
+-- 주문 목록 keyset 페이지 (registered_date_time, id) 조회를 위해 주문 인덱스에 id 를 추가하는 스크립트
+-- (ddl-auto: create 를 사용하는 local / test 프로필에서는 필요 없다.)
+
+drop index if exists idx_orders_status_registered_date_time;
+create index idx_orders_status_registered_date_time on orders (order_status, registered_date_time, id);
+
+drop index if exists idx_orders_registered_date_time;
+create index idx_orders_registered_date_time on orders (registered_date_time, id);
@@ -3,8 +3,11 @@ package sample.cafekiosk.spring.api.controller.order;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.OrderService;
 
+import java.util.Collections;
 import java.util.List;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -45,4 +48,57 @@ class OrderControllerTest extends ControllerTestSupport {
             .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
             .andExpect(jsonPath("$.message").value("상품 번호가 누락되어선 안됩니다."));
     }
+
+    @DisplayName("여러 주문을 한 번에 요청할 수 있다.")
+    @Test
+    void createOrders() throws Exception {
+        OrderBulkCreateRequest request = new OrderBulkCreateRequest(List.of(
+            new OrderCreateRequest(List.of("001")),
+            new OrderCreateRequest(List.of("001", "002"))
+        ));
+
+        mockMvc.perform(post("/api/v1/orders/bulk")
+                .content(objectMapper.writeValueAsString(request))
+                .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(jsonPath("$.status").value("OK"))
+            .andExpect(jsonPath("$.message").value("OK"));
+    }
+
+    @DisplayName("여러 주문을 요청할 때 각 주문의 상품 번호가 누락되어선 안된다.")
+    @Test
+    void createOrdersWithoutProductNumbers() throws Exception {
+        OrderBulkCreateRequest request = new OrderBulkCreateRequest(List.of(
+            new OrderCreateRequest(List.of("001")),
+            new OrderCreateRequest(List.of())
+        ));
+
+        mockMvc.perform(post("/api/v1/orders/bulk")
+                .content(objectMapper.writeValueAsString(request))
+                .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("400"))
+            .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+            .andExpect(jsonPath("$.message").value("상품 번호가 누락되어선 안됩니다."));
+    }
+
+    @DisplayName("여러 주문을 요청할 때 한 번에 요청할 수 있는 주문 수를 넘어선 안된다.")
+    @Test
+    void createOrdersOverLimit() throws Exception {
+        OrderBulkCreateRequest request = new OrderBulkCreateRequest(
+            Collections.nCopies(OrderService.MAX_BULK_ORDER_COUNT + 1, new OrderCreateRequest(List.of("001")))
+        );
+
+        mockMvc.perform(post("/api/v1/orders/bulk")
+                .content(objectMapper.writeValueAsString(request))
+                .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("400"))
+            .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+            .andExpect(jsonPath("$.message").value("주문은 한 번에 1000건까지 요청할 수 있습니다."));
+    }
 }
\ No newline at end of file
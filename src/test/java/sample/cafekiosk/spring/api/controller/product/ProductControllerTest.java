@@ -2,8 +2,12 @@ package sample.cafekiosk.spring.api.controller.product;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.ApiResponse;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductSellingStatusChangeRequest;
+import sample.cafekiosk.spring.api.service.product.SellingMenu;
 import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
 
 import java.util.List;
@@ -13,6 +17,8 @@ import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
@@ -106,20 +112,74 @@ class ProductControllerTest extends ControllerTestSupport {
             .andExpect(jsonPath("$.data").isEmpty());
     }
 
+    @DisplayName("판매 상태를 변경할 때 판매 상태는 필수 값이다.")
+    @Test
+    void changeSellingStatusWithoutSellingStatus() throws Exception {
+        ProductSellingStatusChangeRequest request = new ProductSellingStatusChangeRequest(null);
+
+        mockMvc.perform(
+                post("/api/v1/product/001/selling-status")
+                    .content(objectMapper.writeValueAsString(request))
+                    .contentType(APPLICATION_JSON)
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("400"))
+            .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+            .andExpect(jsonPath("$.message").value("상품 판매 상태는 필수입니다."))
+            .andExpect(jsonPath("$.data").isEmpty());
+    }
+
     @DisplayName("판매 중인 상품을 조회할 수 있다.")
     @Test
     void getSellingProducts() throws Exception {
-        List<ProductResponse> result = List.of();
-        when(productService.getSellingProducts()).thenReturn(result);
+        SellingMenu menu = createSellingMenu(List.of());
+        when(productService.getSellingMenu()).thenReturn(menu);
 
         mockMvc.perform(
                 get("/api/v1/product/selling")
             )
             .andDo(print())
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, menu.etag()))
             .andExpect(jsonPath("$.code").value("200"))
             .andExpect(jsonPath("$.status").value("OK"))
             .andExpect(jsonPath("$.message").value("OK"))
             .andExpect(jsonPath("$.data").isArray());
     }
-}
\ No newline at end of file
+
+    @DisplayName("판매 중인 상품 목록이 변경되지 않았다면 본문 없이 304 로 응답한다.")
+    @Test
+    void getSellingProductsNotModified() throws Exception {
+        SellingMenu menu = createSellingMenu(List.of());
+        when(productService.getSellingMenu()).thenReturn(menu);
+
+        mockMvc.perform(
+                get("/api/v1/product/selling")
+                    .header(HttpHeaders.IF_NONE_MATCH, menu.etag())
+            )
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @DisplayName("gzip 을 지원하는 클라이언트에게는 미리 압축해 둔 본문을 내려준다.")
+    @Test
+    void getSellingProductsWithGzip() throws Exception {
+        SellingMenu menu = createSellingMenu(List.of());
+        when(productService.getSellingMenu()).thenReturn(menu);
+
+        mockMvc.perform(
+                get("/api/v1/product/selling")
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(content().bytes(menu.gzipped()));
+    }
+
+    private SellingMenu createSellingMenu(List<ProductResponse> products) throws Exception {
+        return SellingMenu.create(1L, objectMapper.writeValueAsBytes(ApiResponse.ok(products)));
+    }
+}
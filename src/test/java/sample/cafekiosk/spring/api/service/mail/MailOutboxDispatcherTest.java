@@ -0,0 +1,197 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.mail.response.MailOutboxMetricsResponse;
+import sample.cafekiosk.spring.domain.history.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxJdbcRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static sample.cafekiosk.spring.domain.mail.MailOutboxStatus.FAILED;
+import static sample.cafekiosk.spring.domain.mail.MailOutboxStatus.PENDING;
+import static sample.cafekiosk.spring.domain.mail.MailOutboxStatus.SENDING;
+
+class MailOutboxDispatcherTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailOutboxJdbcRepository mailOutboxJdbcRepository;
+
+    @Autowired
+    private MailSendHistoryRepository mailSendHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAllInBatch();
+        mailSendHistoryRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("outbox 에 저장하는 트랜잭션이 롤백되면 메일도 저장되지 않는다.")
+    @Test
+    void enqueueMailRollsBackWithCaller() {
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            mailService.enqueueMail("no-reply@cafekiosk.com", "a@test.com", "제목", "내용");
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(mailOutboxRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("outbox 의 메일을 보내고, 성공한 메일은 이력을 남긴 뒤 outbox 에서 지운다.")
+    @Test
+    void dispatchBatch() {
+        //given
+        mailService.enqueueMail("no-reply@cafekiosk.com", "a@test.com", "제목", "내용 1");
+        mailService.enqueueMail("no-reply@cafekiosk.com", "b@test.com", "제목", "내용 2");
+        given(mailSendClient.sendEmail(anyString(), anyString(), anyString(), anyString())).willReturn(true);
+
+        //when
+        int dispatched = mailOutboxDispatcher.dispatchBatch(LocalDateTime.now().plusSeconds(1));
+
+        //then
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(mailOutboxRepository.findAll()).isEmpty();
+        assertThat(mailSendHistoryRepository.findAll())
+            .extracting("toEmail", "content")
+            .containsExactlyInAnyOrder(
+                tuple("a@test.com", "내용 1"),
+                tuple("b@test.com", "내용 2")
+            );
+    }
+
+    @DisplayName("전송에 실패한 메일은 시도마다 두 배씩 기다렸다가 다시 보내고, 최대 시도 횟수만큼 실패하면 실패 상태로 남긴다.")
+    @Test
+    void retryWithBackoff() {
+        //given
+        mailService.enqueueMail("no-reply@cafekiosk.com", "bad@test.com", "제목", "내용");
+        given(mailSendClient.sendEmail(anyString(), eq("bad@test.com"), anyString(), anyString()))
+            .willThrow(new IllegalStateException("메일 서버 응답 없음"));
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+
+        //when
+        int first = mailOutboxDispatcher.dispatchBatch(now);
+        int beforeBackoff = mailOutboxDispatcher.dispatchBatch(now.plusMillis(999));
+        int afterBackoff = mailOutboxDispatcher.dispatchBatch(now.plusSeconds(1));
+
+        //then
+        assertThat(first).isEqualTo(1);
+        assertThat(beforeBackoff).isZero();
+        assertThat(afterBackoff).isEqualTo(1);
+        assertThat(mailOutboxRepository.findAll())
+            .extracting("status", "attemptCount", "availableDateTime")
+            .containsExactly(tuple(PENDING, 2, now.plusSeconds(3)));
+
+        // 3, 4, 5 번째 시도 (2초, 4초, 8초 뒤)
+        mailOutboxDispatcher.dispatchBatch(now.plusSeconds(3));
+        mailOutboxDispatcher.dispatchBatch(now.plusSeconds(7));
+        mailOutboxDispatcher.dispatchBatch(now.plusSeconds(15));
+
+        assertThat(mailOutboxRepository.findAll())
+            .extracting("status", "attemptCount", "lastError")
+            .containsExactly(tuple(FAILED, 5, "IllegalStateException: 메일 서버 응답 없음"));
+        assertThat(mailOutboxDispatcher.dispatchBatch(now.plusHours(1))).isZero();
+        assertThat(mailSendHistoryRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("가져간 뒤 결과가 기록되지 않은 메일은 lease 가 지나면 다시 보낸다.")
+    @Test
+    void redispatchAfterLease() {
+        //given
+        mailService.enqueueMail("no-reply@cafekiosk.com", "a@test.com", "제목", "내용");
+        given(mailSendClient.sendEmail(anyString(), anyString(), anyString(), anyString())).willReturn(true);
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+
+        // 메일을 가져간 dispatcher 가 결과를 기록하기 전에 종료된 상황
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            mailOutboxJdbcRepository.claim(now, now.plusMinutes(1), 100)
+        );
+
+        //when
+        int duringLease = mailOutboxDispatcher.dispatchBatch(now.plusSeconds(30));
+        int afterLease = mailOutboxDispatcher.dispatchBatch(now.plusMinutes(1));
+
+        //then
+        assertThat(duringLease).isZero();
+        assertThat(afterLease).isEqualTo(1);
+        assertThat(mailOutboxRepository.findAll()).isEmpty();
+        assertThat(mailSendHistoryRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("lease 가 지나 다른 dispatcher 가 다시 가져간 메일은, 늦게 끝난 dispatcher 의 결과로 지우거나 이력을 남기지 않는다.")
+    @Test
+    void ignoreStaleResult() {
+        //given
+        mailService.enqueueMail("no-reply@cafekiosk.com", "a@test.com", "제목", "내용");
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+
+        // 메일 서버 응답이 lease 보다 늦어, 그 사이 다른 dispatcher 가 같은 메일을 다시 가져간 상황
+        given(mailSendClient.sendEmail(anyString(), anyString(), anyString(), anyString())).willAnswer(invocation -> {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                mailOutboxJdbcRepository.claim(now.plusMinutes(2), now.plusMinutes(3), 100)
+            );
+            return true;
+        });
+
+        //when
+        int dispatched = mailOutboxDispatcher.dispatchBatch(now);
+
+        //then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(mailOutboxRepository.findAll())
+            .extracting("toEmail", "status", "attemptCount")
+            .containsExactly(tuple("a@test.com", SENDING, 2));
+        assertThat(mailSendHistoryRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("동시에 보내는 스레드 수가 1 보다 작으면 dispatcher 를 만들 수 없다.")
+    @Test
+    void createDispatcherWithInvalidConcurrency() {
+        assertThatThrownBy(() -> new MailOutboxDispatcher(
+            mailSendClient, mailOutboxJdbcRepository, mailSendHistoryRepository, transactionManager, 100, 0, 5, 1000, 60000, 60000
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("cafekiosk.mail.outbox 의 batch-size 와 concurrency 는 1 이상이어야 합니다.");
+    }
+
+    @DisplayName("outbox 에 남은 메일 수와 가장 오래 기다린 메일의 대기 시간을 조회할 수 있다.")
+    @Test
+    void getMetrics() {
+        //given
+        mailService.enqueueMail("no-reply@cafekiosk.com", "a@test.com", "제목", "내용");
+        mailService.enqueueMail("no-reply@cafekiosk.com", "b@test.com", "제목", "내용");
+
+        //when
+        MailOutboxMetricsResponse metrics = mailOutboxDispatcher.getMetrics();
+
+        //then
+        assertThat(metrics.queueDepth()).isEqualTo(2);
+        assertThat(metrics.oldestAgeMillis()).isGreaterThanOrEqualTo(0);
+    }
+}
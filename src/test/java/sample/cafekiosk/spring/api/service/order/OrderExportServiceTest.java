@@ -0,0 +1,160 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderExportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DailySalesSummaryRepository dailySalesSummaryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderViewRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        dailySalesSummaryRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기간 내 주문을 주문 1건당 1줄의 NDJSON 으로 내보낸다.")
+    @Test
+    void exportNdjson() throws IOException {
+        //given
+        Product product1 = createProduct(HANDMADE, "001", "아메리카노", 4000);
+        Product product2 = createProduct(BAKERY, "002", "크루아상", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        Order order1 = createOrder(List.of(product1, product2), LocalDateTime.of(2025, 4, 15, 10, 0));
+        Order order2 = createOrder(List.of(product1), LocalDateTime.of(2025, 4, 16, 10, 0));
+        createOrder(List.of(product2), LocalDateTime.of(2025, 4, 17, 10, 0));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        long exported = orderExportService.export(
+            OrderExportFormat.NDJSON, LocalDate.of(2025, 4, 15), LocalDate.of(2025, 4, 16), null, outputStream
+        );
+
+        //then
+        assertThat(exported).isEqualTo(2);
+
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(order1.getId());
+        assertThat(first.get("totalPrice").asInt()).isEqualTo(7000);
+        assertThat(first.get("products")).hasSize(2);
+        assertThat(first.at("/products/1/name").asText()).isEqualTo("크루아상");
+
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(second.get("id").asLong()).isEqualTo(order2.getId());
+        assertThat(second.get("products")).hasSize(1);
+    }
+
+    @DisplayName("주문을 주문 상품 1건당 1행의 CSV 로 내보내고, 쉼표가 포함된 값은 따옴표로 감싼다.")
+    @Test
+    void exportCsv() throws IOException {
+        //given
+        Product product1 = createProduct(HANDMADE, "001", "아메리카노, 샷 추가", 4500);
+        Product product2 = createProduct(BAKERY, "002", "크루아상", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        Order order = createOrder(List.of(product1, product2), LocalDateTime.of(2025, 4, 15, 10, 0));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        long exported = orderExportService.export(OrderExportFormat.CSV, null, null, OrderStatus.INIT, outputStream);
+
+        //then
+        assertThat(exported).isEqualTo(1);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).lines().toList())
+            .containsExactly(
+                "\uFEFForder_id,order_status,registered_date_time,total_price,product_number,product_name,product_type,price",
+                order.getId() + ",INIT,2025-04-15T10:00,7500,001,\"아메리카노, 샷 추가\",HANDMADE,4500",
+                order.getId() + ",INIT,2025-04-15T10:00,7500,002,크루아상,BAKERY,3000"
+            );
+    }
+
+    @DisplayName("주문 상품이 없는 주문도 CSV 에는 상품 칸을 비운 1행으로, NDJSON 에는 빈 상품 목록으로 내보낸다.")
+    @Test
+    void exportOrderWithoutProducts() throws IOException {
+        //given
+        Order order = createOrder(List.of(), LocalDateTime.of(2025, 4, 15, 10, 0));
+        ByteArrayOutputStream csvOutputStream = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjsonOutputStream = new ByteArrayOutputStream();
+
+        //when
+        long csvExported = orderExportService.export(OrderExportFormat.CSV, null, null, null, csvOutputStream);
+        long ndjsonExported = orderExportService.export(OrderExportFormat.NDJSON, null, null, null, ndjsonOutputStream);
+
+        //then
+        assertThat(csvExported).isEqualTo(1);
+        assertThat(csvOutputStream.toString(StandardCharsets.UTF_8).lines().skip(1).toList())
+            .containsExactly(order.getId() + ",INIT,2025-04-15T10:00,0,,,,");
+
+        assertThat(ndjsonExported).isEqualTo(1);
+        JsonNode line = objectMapper.readTree(ndjsonOutputStream.toString(StandardCharsets.UTF_8).lines().findFirst().orElseThrow());
+        assertThat(line.get("id").asLong()).isEqualTo(order.getId());
+        assertThat(line.get("products")).isEmpty();
+    }
+
+    private Order createOrder(List<Product> products, LocalDateTime registeredDateTime) {
+        return orderRepository.save(Order.create(products, registeredDateTime));
+    }
+
+    private Product createProduct(ProductType type, String productNumber, String name, int price) {
+        return Product.builder()
+            .productNumber(productNumber)
+            .type(type)
+            .sellingStatus(SELLING)
+            .name(name)
+            .price(price)
+            .build();
+    }
+}
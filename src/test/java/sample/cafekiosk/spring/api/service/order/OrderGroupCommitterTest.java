@@ -0,0 +1,84 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGroupCommitterTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderGroupCommitter orderGroupCommitter;
+
+    @BeforeEach
+    void setUp() {
+        orderGroupCommitter = new OrderGroupCommitter(orderService, 3, 1_000_000, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        orderGroupCommitter.stop();
+    }
+
+    @DisplayName("모인 주문 요청을 한 번에 저장하고 요청마다 자신의 결과를 돌려준다.")
+    @Test
+    void createOrdersInBatch() throws Exception {
+        OrderResponse response = new OrderResponse(1L, 1000, LocalDateTime.now(), List.of());
+        given(orderService.createOrders(anyList(), any(LocalDateTime.class)))
+            .willReturn(List.of(
+                OrderCreateResult.success(response),
+                OrderCreateResult.failure("재고가 부족합니다."),
+                OrderCreateResult.success(response)
+            ));
+
+        CompletableFuture<OrderResponse> future1 = orderGroupCommitter.submit(new OrderCreateServiceRequest(List.of("001")));
+        CompletableFuture<OrderResponse> future2 = orderGroupCommitter.submit(new OrderCreateServiceRequest(List.of("002")));
+        CompletableFuture<OrderResponse> future3 = orderGroupCommitter.submit(new OrderCreateServiceRequest(List.of("003")));
+        orderGroupCommitter.start();
+
+        assertThat(future1.get()).isEqualTo(response);
+        assertThat(future3.get()).isEqualTo(response);
+        assertThatThrownBy(future2::get)
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("재고가 부족합니다.");
+        verify(orderService, times(1)).createOrders(anyList(), any(LocalDateTime.class));
+    }
+
+    @DisplayName("결과를 기다리는 시간이 초과되면 예외가 발생하고, 아직 처리되지 않은 요청은 주문하지 않는다.")
+    @Test
+    void createOrderWithTimeout() throws InterruptedException {
+        //when
+        assertThatThrownBy(() -> orderGroupCommitter.createOrder(new OrderCreateServiceRequest(List.of("001"))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("주문 처리 대기 시간이 초과되었습니다. 다시 주문해 주세요.");
+
+        //then
+        orderGroupCommitter.start();
+        Thread.sleep(100);
+        verify(orderService, never()).createOrders(anyList(), any(LocalDateTime.class));
+    }
+}
@@ -1,22 +1,35 @@
 package sample.cafekiosk.spring.api.service.order;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderSearchCond;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderCursorResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.order.AcceptedOrderTokenRepository;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductType;
 import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryRepository;
 import sample.cafekiosk.spring.domain.stock.StockRepository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
@@ -36,6 +49,9 @@ class OrderServiceTest extends IntegrationTestSupport {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
     @Autowired
     private OrderProductRepository orderProductRepository;
 
@@ -45,6 +61,15 @@ class OrderServiceTest extends IntegrationTestSupport {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private AcceptedOrderTokenRepository acceptedOrderTokenRepository;
+
+    @Autowired
+    private DailySalesSummaryRepository dailySalesSummaryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     /**
      * deleteAll vs deleteAllInBatch
      * deleteAll
@@ -63,10 +88,13 @@ class OrderServiceTest extends IntegrationTestSupport {
      */
     @AfterEach
     void tearDown() {
+        acceptedOrderTokenRepository.deleteAllInBatch();
         orderProductRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
+        orderViewRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
         stockRepository.deleteAllInBatch();
+        dailySalesSummaryRepository.deleteAllInBatch();
     }
 
     @DisplayName("주문번호 리스트를 받아 주문을 생성한다.")
@@ -119,6 +147,20 @@ class OrderServiceTest extends IntegrationTestSupport {
             );
     }
 
+    @DisplayName("존재하지 않는 상품 번호가 포함된 주문을 생성하려는 경우 예외가 발생한다.")
+    @Test
+    void createOrderWithUnknownProductNumber() {
+        Product product = createProduct(HANDMADE, "001", 1000);
+        productRepository.save(product);
+
+        OrderCreateServiceRequest request = new OrderCreateServiceRequest(List.of("001", "999"));
+
+        assertThatThrownBy(() -> orderService.createOrder(request, LocalDateTime.now()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 상품 번호가 포함되어 있습니다.");
+        assertThat(orderRepository.findAll()).isEmpty();
+    }
+
     @DisplayName("재고 상품이 포함되어 있는 주문번호 리스트를 받아 주문을 생성한다.")
     @Test
     void createOrderWithStock() {
@@ -178,6 +220,171 @@ class OrderServiceTest extends IntegrationTestSupport {
             .isInstanceOf(IllegalArgumentException.class);
     }
 
+    /**
+     * IDENTITY 전략은 INSERT 를 실행해야 id 를 알 수 있기 때문에 JDBC 배치가 꺼진다.
+     * 시퀀스(pooled) 전략에서는 주문 상품이 10개여도 주문/주문 상품 INSERT 가 테이블별 배치 하나로 묶인다.
+     * (상품 조회 1 + 시퀀스 조회 최대 4 + INSERT 배치 2)
+     */
+    @DisplayName("주문 상품 수와 관계없이 주문 생성에 필요한 SQL 문 수는 일정하다.")
+    @Test
+    void createOrderWithBatchInsert() {
+        List<Product> products = IntStream.rangeClosed(1, 10)
+            .mapToObj(i -> createProduct(HANDMADE, String.format("%03d", i), 1000))
+            .toList();
+        productRepository.saveAll(products);
+
+        List<String> productNumbers = products.stream()
+            .map(Product::getProductNumber)
+            .toList();
+        OrderCreateServiceRequest request = new OrderCreateServiceRequest(productNumbers);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        orderService.createOrder(request, LocalDateTime.now());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(12); // 주문 1 + 주문 상품 10 + 주문 조회 모델 1
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    @DisplayName("여러 주문을 한 번에 생성하고 재고가 부족하거나 없는 상품이 포함된 주문만 실패 처리한다.")
+    @Test
+    void createOrders() {
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(HANDMADE, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        Stock stock = Stock.create("001", 1);
+        stockRepository.save(stock);
+
+        List<OrderCreateServiceRequest> requests = List.of(
+            new OrderCreateServiceRequest(List.of("001", "002")),
+            new OrderCreateServiceRequest(List.of("001")),
+            new OrderCreateServiceRequest(List.of("999")),
+            new OrderCreateServiceRequest(List.of("002"))
+        );
+
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        List<OrderCreateResult> results = orderService.createOrders(requests, registeredDateTime);
+
+        assertThat(results).hasSize(4)
+            .extracting("success", "errorMessage")
+            .containsExactly(
+                tuple(true, null),
+                tuple(false, "재고가 부족합니다."),
+                tuple(false, "존재하지 않는 상품 번호가 포함되어 있습니다."),
+                tuple(true, null)
+            );
+        assertThat(results.get(0).order().totalPrice()).isEqualTo(4000);
+        assertThat(orderRepository.findAll()).hasSize(2);
+        assertThat(stockRepository.findAll()).hasSize(1)
+            .extracting("productNumber", "quantity")
+            .containsExactly(tuple("001", 0));
+    }
+
+    @DisplayName("한 번에 요청할 수 있는 주문 수를 넘으면 예외가 발생한다.")
+    @Test
+    void createBulkOrdersOverLimit() {
+        List<OrderCreateServiceRequest> requests = Collections.nCopies(
+            OrderService.MAX_BULK_ORDER_COUNT + 1, new OrderCreateServiceRequest(List.of("001"))
+        );
+
+        assertThatThrownBy(() -> orderService.createBulkOrders(requests, LocalDateTime.now()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("주문은 한 번에 1000건까지 요청할 수 있습니다.");
+        assertThat(orderRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("같은 토큰으로 접수된 주문을 다시 적용해도 주문은 한 번만 생성된다.")
+    @Test
+    void createAcceptedOrderIdempotently() {
+        Product product = createProduct(BOTTLE, "001", 1000);
+        productRepository.save(product);
+
+        Stock stock = Stock.create("001", 2);
+        stockRepository.save(stock);
+
+        OrderCreateServiceRequest request = new OrderCreateServiceRequest(List.of("001"));
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        OrderResponse first = orderService.createAcceptedOrder("token", request, registeredDateTime);
+        OrderResponse second = orderService.createAcceptedOrder("token", request, registeredDateTime);
+
+        assertThat(second.id()).isEqualTo(first.id());
+        assertThat(orderRepository.findAll()).hasSize(1);
+        assertThat(stockRepository.findAll())
+            .extracting("productNumber", "quantity")
+            .containsExactly(tuple("001", 1));
+    }
+
+    @DisplayName("주문을 생성하면 주문 날짜의 매출 집계에 반영된다.")
+    @Test
+    void createOrderRecordsDailySales() {
+        Product product1 = createProduct(HANDMADE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        LocalDateTime registeredDateTime = LocalDateTime.of(2025, 4, 15, 10, 0);
+        orderService.createOrder(new OrderCreateServiceRequest(List.of("001", "002")), registeredDateTime);
+        orderService.createOrder(new OrderCreateServiceRequest(List.of("001")), registeredDateTime.plusHours(1));
+
+        LocalDate salesDate = registeredDateTime.toLocalDate();
+        assertThat(dailySalesSummaryRepository.findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(salesDate, salesDate, OrderStatus.INIT))
+            .extracting("orderCount", "totalPrice", "handmadeTotal", "bakeryTotal")
+            .containsExactly(tuple(2L, 5000L, 2000L, 3000L));
+    }
+
+    @DisplayName("생성한 주문을 주문 조회 모델에서 조회할 수 있다.")
+    @Test
+    void getOrderFromOrderView() {
+        Product product1 = createProduct(HANDMADE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        LocalDateTime registeredDateTime = LocalDateTime.of(2025, 4, 15, 10, 0);
+        OrderResponse created = orderService.createOrder(new OrderCreateServiceRequest(List.of("001", "002", "001")), registeredDateTime);
+
+        assertThat(orderService.getOrder(created.id())).isEqualTo(created);
+    }
+
+    @DisplayName("존재하지 않는 주문을 조회하면 예외가 발생한다.")
+    @Test
+    void getOrderWithUnknownId() {
+        assertThatThrownBy(() -> orderService.getOrder(1L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 주문입니다.");
+    }
+
+    @DisplayName("응답의 다음 커서로 이어지는 주문 목록을 조회할 수 있다.")
+    @Test
+    void getOrdersWithCursor() {
+        Product product = createProduct(HANDMADE, "001", 1000);
+        productRepository.save(product);
+
+        LocalDateTime registeredDateTime = LocalDateTime.of(2025, 4, 15, 10, 0);
+        OrderResponse order1 = orderService.createOrder(new OrderCreateServiceRequest(List.of("001")), registeredDateTime);
+        OrderResponse order2 = orderService.createOrder(new OrderCreateServiceRequest(List.of("001")), registeredDateTime.plusMinutes(1));
+        OrderResponse order3 = orderService.createOrder(new OrderCreateServiceRequest(List.of("001")), registeredDateTime.plusMinutes(2));
+
+        OrderSearchCond condition = new OrderSearchCond(null, null);
+        OrderCursorResponse first = orderService.getOrders(condition, null, 2);
+        OrderCursorResponse second = orderService.getOrders(condition, first.nextCursor(), 2);
+
+        assertThat(first.orders()).extracting("id").containsExactly(order3.id(), order2.id());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.orders()).extracting("id").containsExactly(order1.id());
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @DisplayName("잘못된 커서로 주문 목록을 조회하면 예외가 발생한다.")
+    @Test
+    void getOrdersWithInvalidCursor() {
+        assertThatThrownBy(() -> orderService.getOrders(new OrderSearchCond(null, null), "invalid", 20))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("잘못된 커서입니다.");
+    }
+
     private static Product createProduct(ProductType type, String productNumber, int price) {
         return Product.builder()
             .productNumber(productNumber)
@@ -5,22 +5,35 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.mail.MailOutboxDispatcher;
+import sample.cafekiosk.spring.api.service.order.request.OrderStatisticsMailServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsMailResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatisticsResponse;
 import sample.cafekiosk.spring.domain.history.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.mail.MailOutboxRepository;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
 import static sample.cafekiosk.spring.domain.product.ProductType.*;
@@ -36,18 +49,33 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
     @Autowired
     private ProductRepository productRepository;
 
     @Autowired
     private MailSendHistoryRepository mailSendHistoryRepository;
 
+    @Autowired
+    private DailySalesSummaryRepository dailySalesSummaryRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
     @AfterEach
     void tearDown() {
+        mailOutboxRepository.deleteAllInBatch();
         orderProductRepository.deleteAllInBatch();
+        orderViewRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         mailSendHistoryRepository.deleteAllInBatch();
+        dailySalesSummaryRepository.deleteAllInBatch();
     }
 
     @DisplayName("주어진 날짜에 결제가 완료된 모든 주문의 총 매출액을 계산해 메일로 전송할 수 있다.")
@@ -77,6 +105,7 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
 
         //when
         boolean result = orderStatisticsService.sendOrderStatisticsMail(LocalDate.of(2025, 4, 15), "test@test.com");
+        mailOutboxDispatcher.dispatch();
 
         //then
         assertThat(result).isTrue();
@@ -88,6 +117,168 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
             .contains("총 매출 합계는 18000원 입니다.");
     }
 
+    @DisplayName("기간 내 매출 합계를 한 번 계산해 여러 수신자의 메일을 outbox 에 저장하고, 잘못된 주소는 수신자별 결과로 남긴다.")
+    @Test
+    void sendOrderStatisticsMails() {
+        //given
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        List<Product> products = List.of(product1, product2);
+        productRepository.saveAll(products);
+
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 15, 10, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 16, 10, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 17, 10, 0));
+
+        when(mailSendClient.sendEmail(any(String.class), any(String.class), any(String.class), any(String.class)))
+            .thenReturn(true);
+        when(mailSendClient.sendEmail(any(String.class), eq("down@test.com"), any(String.class), any(String.class)))
+            .thenThrow(new IllegalStateException("메일 서버 응답 없음"));
+
+        OrderStatisticsMailServiceRequest request = new OrderStatisticsMailServiceRequest(
+            LocalDate.of(2025, 4, 15),
+            LocalDate.of(2025, 4, 16),
+            List.of("a@test.com", "not-an-email", "down@test.com", "b@test.com", "a@test.com")
+        );
+
+        //when
+        OrderStatisticsMailResponse response = orderStatisticsService.sendOrderStatisticsMails(request);
+        mailOutboxDispatcher.dispatch();
+
+        //then
+        assertThat(response.totalAmount()).isEqualTo(8000);
+        assertThat(response.successCount()).isEqualTo(3);
+        assertThat(response.failureCount()).isEqualTo(1);
+        assertThat(response.results())
+            .extracting("email", "success", "errorMessage")
+            .containsExactly(
+                tuple("a@test.com", true, null),
+                tuple("not-an-email", false, "올바르지 않은 이메일 주소입니다."),
+                tuple("down@test.com", true, null),
+                tuple("b@test.com", true, null)
+            );
+
+        assertThat(mailOutboxRepository.findAll())
+            .extracting("toEmail", "attemptCount")
+            .containsExactly(tuple("down@test.com", 1));
+        assertThat(mailSendHistoryRepository.findAll())
+            .extracting("toEmail", "subject", "content")
+            .containsExactlyInAnyOrder(
+                tuple("a@test.com", "[매출 통계] 2025-04-15 ~ 2025-04-16", "총 매출 합계는 8000원 입니다."),
+                tuple("b@test.com", "[매출 통계] 2025-04-15 ~ 2025-04-16", "총 매출 합계는 8000원 입니다.")
+            );
+    }
+
+    @DisplayName("매출 통계 메일은 요청 중에 메일 서버를 호출하지 않고 outbox 에 저장되며, outbox 를 비울 때 모두 전송된다.")
+    @Test
+    void sendOrderStatisticsMailsThroughOutbox() {
+        //given
+        when(mailSendClient.sendEmail(any(String.class), any(String.class), any(String.class), any(String.class)))
+            .thenReturn(true);
+
+        List<String> emails = IntStream.rangeClosed(1, 50)
+            .mapToObj(i -> "store" + i + "@test.com")
+            .toList();
+
+        //when
+        OrderStatisticsMailResponse response = orderStatisticsService.sendOrderStatisticsMails(
+            new OrderStatisticsMailServiceRequest(LocalDate.of(2025, 4, 15), LocalDate.of(2025, 4, 15), emails)
+        );
+
+        //then
+        assertThat(response.successCount()).isEqualTo(50);
+        assertThat(mailOutboxRepository.count()).isEqualTo(50);
+        verify(mailSendClient, never()).sendEmail(any(String.class), any(String.class), any(String.class), any(String.class));
+
+        mailOutboxDispatcher.dispatch();
+        assertThat(mailOutboxRepository.count()).isZero();
+        assertThat(mailSendHistoryRepository.count()).isEqualTo(50);
+    }
+
+    @DisplayName("한 번에 보낼 수 있는 최대 수신자 수가 1 보다 작으면 서비스를 만들 수 없다.")
+    @Test
+    void createServiceWithInvalidMaxRecipients() {
+        assertThatThrownBy(() -> new OrderStatisticsService(null, null, null, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("cafekiosk.order.statistics.mail.max-recipients 는 1 이상이어야 합니다.");
+    }
+
+    @DisplayName("기간 내 일별 매출 집계를 조회할 수 있다.")
+    @Test
+    void getOrderStatistics() {
+        //given
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        List<Product> products = List.of(product1, product2);
+        productRepository.saveAll(products);
+
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 14, 10, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 15, 10, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 15, 11, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 17, 10, 0));
+
+        //when
+        OrderStatisticsResponse response = orderStatisticsService.getOrderStatistics(
+            LocalDate.of(2025, 4, 15), LocalDate.of(2025, 4, 17), OrderStatus.PAYMENT_COMPLETED
+        );
+
+        //then
+        assertThat(response.orderCount()).isEqualTo(3);
+        assertThat(response.totalPrice()).isEqualTo(12000);
+        assertThat(response.days())
+            .extracting("salesDate", "orderCount", "totalPrice", "bottleTotal", "bakeryTotal")
+            .containsExactly(
+                tuple(LocalDate.of(2025, 4, 15), 2L, 8000L, 2000L, 6000L),
+                tuple(LocalDate.of(2025, 4, 17), 1L, 4000L, 1000L, 3000L)
+            );
+    }
+
+    @DisplayName("매출 집계 조회 시작일이 종료일보다 늦으면 예외가 발생한다.")
+    @Test
+    void getOrderStatisticsWithInvalidPeriod() {
+        assertThatThrownBy(() -> orderStatisticsService.getOrderStatistics(
+            LocalDate.of(2025, 4, 16), LocalDate.of(2025, 4, 15), OrderStatus.PAYMENT_COMPLETED
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("조회 시작일은 종료일보다 늦을 수 없습니다.");
+    }
+
+    @DisplayName("주문 이력으로부터 기간 내 매출 집계를 다시 만들 수 있다.")
+    @Test
+    void rebuildDailySales() {
+        //given
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(HANDMADE, "002", 5000);
+        List<Product> products = List.of(product1, product2);
+        productRepository.saveAll(products);
+
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 15, 10, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2025, 4, 16, 10, 0));
+        dailySalesSummaryRepository.deleteAllInBatch();
+
+        //when
+        int rebuilt = orderStatisticsService.rebuildDailySales(LocalDate.of(2025, 4, 15), LocalDate.of(2025, 4, 16));
+
+        //then
+        assertThat(rebuilt).isEqualTo(2);
+        assertThat(dailySalesSummaryRepository.findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(
+            LocalDate.of(2025, 4, 15), LocalDate.of(2025, 4, 16), OrderStatus.PAYMENT_COMPLETED
+        ))
+            .extracting("salesDate", "orderCount", "totalPrice", "handmadeTotal", "bottleTotal")
+            .containsExactly(
+                tuple(LocalDate.of(2025, 4, 15), 1L, 6000L, 5000L, 1000L),
+                tuple(LocalDate.of(2025, 4, 16), 1L, 6000L, 5000L, 1000L)
+            );
+    }
+
+    @DisplayName("매출 집계를 다시 만드는 기간이 366일을 넘으면 예외가 발생한다.")
+    @Test
+    void rebuildDailySalesWithTooLongPeriod() {
+        assertThatThrownBy(() -> orderStatisticsService.rebuildDailySales(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("조회 기간은 최대 366일입니다.");
+    }
+
     private Product createProduct(ProductType type, String productNumber, int price) {
         return Product.builder()
             .productNumber(productNumber)
@@ -0,0 +1,217 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.response.OrderStatusTransitionResponse;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransition;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransitionRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransitionStatus;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.INIT;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.PAYMENT_COMPLETED;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderStatusTransitionServiceTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 4, 15, 0, 0);
+    private static final LocalDateTime END = START.plusDays(1);
+
+    @Autowired
+    private OrderStatusTransitionService orderStatusTransitionService;
+
+    @Autowired
+    private OrderStatusTransitionRepository orderStatusTransitionRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DailySalesSummaryRepository dailySalesSummaryRepository;
+
+    @Autowired
+    private DailySalesSummaryRecorder dailySalesSummaryRecorder;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = Product.builder()
+            .productNumber("001")
+            .type(HANDMADE)
+            .sellingStatus(SELLING)
+            .name("아메리카노")
+            .price(4000)
+            .build();
+        productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderStatusTransitionRepository.deleteAllInBatch();
+        orderProductRepository.deleteAllInBatch();
+        orderViewRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        dailySalesSummaryRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기간 내 주문의 상태를 변경하고 진행 상황과 매출 집계, 주문 조회 모델을 함께 갱신한다.")
+    @Test
+    void start() throws InterruptedException {
+        //given
+        List<Order> orders = createOrders(3, START.plusHours(10));
+        Order outOfRange = createOrders(1, END.plusHours(1)).get(0);
+
+        //when
+        OrderStatusTransitionResponse started = orderStatusTransitionService.start(PAYMENT_COMPLETED, START, END);
+        OrderStatusTransitionResponse finished = awaitFinished(started.id());
+
+        //then
+        assertThat(finished)
+            .extracting("status", "processedCount", "lastOrderId")
+            .containsExactly(OrderStatusTransitionStatus.COMPLETED, 3L, orders.get(2).getId());
+        assertThat(orderRepository.findById(outOfRange.getId())).get()
+            .extracting("orderStatus").isEqualTo(INIT);
+        assertThat(dailySalesSummaryRepository.findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(START.toLocalDate(), START.toLocalDate(), PAYMENT_COMPLETED))
+            .extracting("orderCount", "totalPrice")
+            .containsExactly(tuple(3L, 12000L));
+        assertThat(orderViewRepository.findAllById(orders.stream().map(Order::getId).toList()))
+            .extracting("orderStatus")
+            .containsOnly(PAYMENT_COMPLETED);
+    }
+
+    @DisplayName("이미 변경할 상태인 주문은 집계를 옮기지 않고, 실제로 변경한 주문만 집계를 옮긴다.")
+    @Test
+    void startSkipsOrdersAlreadyInStatus() throws InterruptedException {
+        //given
+        createOrders(1, START.plusHours(10));
+        awaitFinished(orderStatusTransitionService.start(PAYMENT_COMPLETED, START, END).id());
+        createOrders(1, START.plusHours(11));
+
+        //when
+        OrderStatusTransitionResponse finished = awaitFinished(orderStatusTransitionService.start(PAYMENT_COMPLETED, START, END).id());
+
+        //then
+        assertThat(finished.processedCount()).isEqualTo(1L);
+        assertThat(orderRepository.findAll())
+            .extracting("orderStatus")
+            .containsOnly(PAYMENT_COMPLETED);
+        assertThat(dailySalesSummaryRepository.findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(START.toLocalDate(), START.toLocalDate(), INIT))
+            .extracting("orderCount", "totalPrice")
+            .containsExactly(tuple(0L, 0L));
+        assertThat(dailySalesSummaryRepository.findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(START.toLocalDate(), START.toLocalDate(), PAYMENT_COMPLETED))
+            .extracting("orderCount", "totalPrice")
+            .containsExactly(tuple(2L, 8000L));
+    }
+
+    @DisplayName("중단된 작업은 마지막으로 처리한 주문 다음부터 chunk 단위로 이어서 처리한다.")
+    @Test
+    void resume() throws InterruptedException {
+        //given
+        List<Order> orders = createOrders(5, START.plusHours(10));
+        OrderStatusTransition transition = OrderStatusTransition.builder()
+            .orderStatus(PAYMENT_COMPLETED)
+            .startDateTime(START)
+            .endDateTime(END)
+            .chunkSize(2)
+            .build();
+        transition.advance(orders.get(1).getId(), 0);
+        orderStatusTransitionRepository.save(transition);
+
+        //when
+        orderStatusTransitionService.resume();
+        OrderStatusTransitionResponse finished = awaitFinished(transition.getId());
+
+        //then
+        assertThat(finished)
+            .extracting("status", "processedCount", "chunkCount")
+            .containsExactly(OrderStatusTransitionStatus.COMPLETED, 3L, 3);
+        assertThat(orderRepository.findAllById(orders.stream().map(Order::getId).toList()))
+            .extracting("orderStatus")
+            .containsExactlyInAnyOrder(INIT, INIT, PAYMENT_COMPLETED, PAYMENT_COMPLETED, PAYMENT_COMPLETED);
+    }
+
+    @DisplayName("여러 인스턴스가 같은 작업을 동시에 이어서 처리해도 주문은 한 번씩만 변경되고 매출 집계도 한 번씩만 옮겨진다.")
+    @Test
+    void resumeOnMultipleInstances() throws InterruptedException {
+        //given
+        createOrders(6, START.plusHours(10));
+        OrderStatusTransition transition = orderStatusTransitionRepository.save(OrderStatusTransition.builder()
+            .orderStatus(PAYMENT_COMPLETED)
+            .startDateTime(START)
+            .endDateTime(END)
+            .chunkSize(1)
+            .build());
+        OrderStatusTransitionService otherInstance = new OrderStatusTransitionService(
+            orderStatusTransitionRepository, orderRepository, dailySalesSummaryRecorder, eventPublisher, transactionManager, 1, 0
+        );
+
+        //when
+        try {
+            otherInstance.resume();
+            orderStatusTransitionService.resume();
+            awaitFinished(transition.getId());
+        } finally {
+            otherInstance.stop();
+        }
+
+        //then
+        assertThat(orderStatusTransitionService.getTransition(transition.getId()))
+            .extracting("status", "processedCount")
+            .containsExactly(OrderStatusTransitionStatus.COMPLETED, 6L);
+        assertThat(dailySalesSummaryRepository.findAllBySalesDateBetweenAndOrderStatusOrderBySalesDate(START.toLocalDate(), START.toLocalDate(), PAYMENT_COMPLETED))
+            .extracting("orderCount", "totalPrice")
+            .containsExactly(tuple(6L, 24000L));
+    }
+
+    private List<Order> createOrders(int count, LocalDateTime registeredDateTime) {
+        return orderRepository.saveAll(IntStream.range(0, count)
+            .mapToObj(i -> Order.create(List.of(product), registeredDateTime))
+            .toList());
+    }
+
+    private OrderStatusTransitionResponse awaitFinished(Long id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        OrderStatusTransitionResponse response = orderStatusTransitionService.getTransition(id);
+        while (response.status() == OrderStatusTransitionStatus.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            response = orderStatusTransitionService.getTransition(id);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,87 @@
+package sample.cafekiosk.spring.api.service.order.facet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.api.controller.order.request.OrderFacetSearchCond;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.CANCELED;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.INIT;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderFacetIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 4, 15);
+    private static final OrderFacetSearchCond NO_CONDITION = new OrderFacetSearchCond(
+        null, null, null, null, null, null, null
+    );
+
+    @DisplayName("가격 조건은 가격대 경계에 걸친 주문의 금액을 직접 비교해 거른다.")
+    @Test
+    void searchWithPriceRange() {
+        //given
+        OrderFacetIndex index = new OrderFacetIndex(5000);
+        index.add(1L, TODAY.atTime(10, 0), INIT, 4000, Set.of(HANDMADE), List.of("001"));
+        index.add(2L, TODAY.atTime(10, 0), INIT, 6000, Set.of(HANDMADE), List.of("002"));
+        index.add(3L, TODAY.atTime(10, 0), INIT, 9000, Set.of(BOTTLE), List.of("003"));
+        index.add(4L, TODAY.atTime(10, 0), INIT, 12000, Set.of(BOTTLE), List.of("004"));
+
+        OrderFacetSearchCond condition = new OrderFacetSearchCond(null, null, null, null, null, 5000, 9000);
+
+        //when
+        OrderFacets facets = index.search(condition, TODAY, TODAY, 0, 10);
+
+        //then
+        assertThat(facets.orderIds()).containsExactly(3L, 2L);
+        assertThat(facets.productTypeCounts()).contains(entry(HANDMADE, 1L), entry(BOTTLE, 1L));
+        assertThat(facets.priceBandCounts()).containsExactly(entry(0, 1L), entry(5000, 2L), entry(10000, 1L));
+    }
+
+    @DisplayName("주문 상태를 바꾸면 상태 facet 이 함께 바뀌고, 같은 조건 안의 여러 상태는 OR 로 묶인다.")
+    @Test
+    void changeStatus() {
+        //given
+        OrderFacetIndex index = new OrderFacetIndex(5000);
+        index.add(1L, TODAY.atTime(10, 0), INIT, 4000, Set.of(HANDMADE), List.of("001"));
+        index.add(2L, TODAY.atTime(11, 0), INIT, 4000, Set.of(HANDMADE), List.of("001"));
+        index.add(3L, TODAY.atTime(12, 0), INIT, 4000, Set.of(HANDMADE), List.of("001"));
+
+        //when
+        index.changeStatus(List.of(1L, 99L), CANCELED);
+
+        //then
+        OrderFacets facets = index.search(
+            new OrderFacetSearchCond(Set.of(INIT, CANCELED), null, null, null, null, null, null), TODAY, TODAY, 1, 10
+        );
+        assertThat(facets.totalCount()).isEqualTo(3);
+        assertThat(facets.orderIds()).containsExactly(2L, 1L);
+        assertThat(facets.statusCounts()).contains(entry(INIT, 2L), entry(CANCELED, 1L));
+    }
+
+    @DisplayName("기간이 지난 주문을 지우고 슬롯 번호를 다시 매겨도 남은 주문은 그대로 조회된다.")
+    @Test
+    void evictBefore() {
+        //given
+        OrderFacetIndex index = new OrderFacetIndex(5000);
+        for (long orderId = 1; orderId <= 2000; orderId++) {
+            index.add(orderId, TODAY.minusDays(1).atTime(10, 0), INIT, 4000, Set.of(HANDMADE), List.of("001"));
+        }
+        index.add(2001L, TODAY.atTime(10, 0), INIT, 4000, Set.of(BOTTLE), List.of("002"));
+
+        //when
+        index.evictBefore(TODAY);
+
+        //then
+        assertThat(index.size()).isEqualTo(1);
+        OrderFacets facets = index.search(NO_CONDITION, TODAY.minusDays(1), TODAY, 0, 10);
+        assertThat(facets.orderIds()).containsExactly(2001L);
+        assertThat(facets.dailyCounts()).containsExactly(entry(TODAY.minusDays(1), 0L), entry(TODAY, 1L));
+        assertThat(facets.productTypeCounts()).contains(entry(HANDMADE, 0L), entry(BOTTLE, 1L));
+    }
+}
@@ -0,0 +1,218 @@
+package sample.cafekiosk.spring.api.service.order.facet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderFacetSearchCond;
+import sample.cafekiosk.spring.api.service.order.OrderStatusTransitionService;
+import sample.cafekiosk.spring.api.service.order.response.OrderFacetResponse;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransitionRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatusTransitionStatus;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.INIT;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.PAYMENT_COMPLETED;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderFacetServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderFacetService orderFacetService;
+
+    @Autowired
+    private OrderStatusTransitionService orderStatusTransitionService;
+
+    @Autowired
+    private OrderStatusTransitionRepository orderStatusTransitionRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DailySalesSummaryRepository dailySalesSummaryRepository;
+
+    private Product americano;
+    private Product croissant;
+
+    @BeforeEach
+    void setUp() {
+        orderFacetService.rebuild();
+
+        americano = createProduct("001", HANDMADE, 4000);
+        croissant = createProduct("002", BAKERY, 3500);
+        productRepository.saveAll(List.of(americano, croissant));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderStatusTransitionRepository.deleteAllInBatch();
+        orderProductRepository.deleteAllInBatch();
+        orderViewRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        dailySalesSummaryRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("생성된 주문은 바로 색인되어, 조건에 맞는 주문을 최근 주문부터 조회하고 facet 별 주문 수를 함께 센다.")
+    @Test
+    void searchOrders() {
+        //given
+        LocalDateTime registeredDateTime = LocalDate.now().atTime(10, 0);
+        Order order1 = orderRepository.save(Order.create(List.of(americano), registeredDateTime));
+        Order order2 = orderRepository.save(Order.create(List.of(americano, croissant), registeredDateTime));
+        orderRepository.save(Order.create(List.of(croissant), registeredDateTime.minusDays(1)));
+
+        OrderFacetSearchCond condition = new OrderFacetSearchCond(
+            null, null, null, Set.of(HANDMADE), null, null, null
+        );
+
+        //when
+        OrderFacetResponse response = orderFacetService.searchOrders(condition, 0, 20);
+
+        //then
+        assertThat(response.totalCount()).isEqualTo(2);
+        assertThat(response.orders())
+            .extracting("id", "totalPrice")
+            .containsExactly(
+                tuple(order2.getId(), 7500),
+                tuple(order1.getId(), 4000)
+            );
+        assertThat(response.productTypeCounts())
+            .contains(entry(HANDMADE, 2L), entry(BAKERY, 2L));
+        assertThat(response.statusCounts()).contains(entry(INIT, 2L));
+        assertThat(response.priceBandCounts()).containsExactly(entry(0, 1L), entry(5000, 1L));
+    }
+
+    @DisplayName("주문 상태가 변경되면 색인의 상태 facet 도 함께 바뀐다.")
+    @Test
+    void onOrderStatusChanged() throws InterruptedException {
+        //given
+        LocalDateTime registeredDateTime = LocalDate.now().atTime(10, 0);
+        orderRepository.save(Order.create(List.of(americano), registeredDateTime));
+        orderRepository.save(Order.create(List.of(croissant), registeredDateTime.plusHours(1)));
+
+        //when
+        Long transitionId = orderStatusTransitionService.start(PAYMENT_COMPLETED, registeredDateTime, registeredDateTime.plusMinutes(30)).id();
+        awaitFinished(transitionId);
+
+        //then
+        OrderFacetResponse response = orderFacetService.searchOrders(
+            new OrderFacetSearchCond(Set.of(PAYMENT_COMPLETED), null, null, null, null, null, null), 0, 20
+        );
+        assertThat(response.totalCount()).isEqualTo(1);
+        assertThat(response.statusCounts()).contains(entry(INIT, 1L), entry(PAYMENT_COMPLETED, 1L));
+    }
+
+    @DisplayName("색인을 DB 의 최근 주문으로부터 다시 만들 수 있다.")
+    @Test
+    void rebuild() {
+        //given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        orderRepository.save(Order.create(List.of(americano, croissant), registeredDateTime));
+        orderRepository.save(Order.create(List.of(croissant), registeredDateTime));
+
+        //when
+        orderFacetService.rebuild();
+
+        //then
+        OrderFacetResponse response = orderFacetService.searchOrders(
+            new OrderFacetSearchCond(null, null, null, null, Set.of("002"), null, null), 0, 20
+        );
+        assertThat(response.totalCount()).isEqualTo(2);
+        assertThat(response.productTypeCounts()).contains(entry(HANDMADE, 1L), entry(BAKERY, 2L));
+    }
+
+    @DisplayName("색인이 유지하는 기간보다 이전의 주문을 조회하면 예외가 발생한다.")
+    @Test
+    void searchOrdersBeforeRetention() {
+        //given
+        OrderFacetSearchCond condition = new OrderFacetSearchCond(
+            null, LocalDate.now().minusDays(90), null, null, null, null, null
+        );
+
+        //when //then
+        assertThatThrownBy(() -> orderFacetService.searchOrders(condition, 0, 20))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("최근 90일 이내의 주문만 조회할 수 있습니다.");
+    }
+
+    @DisplayName("종료일이 오늘 이후라면 오늘까지만 조회하고, 일별 주문 수도 오늘까지만 센다.")
+    @Test
+    void searchOrdersAfterToday() {
+        //given
+        OrderFacetSearchCond condition = new OrderFacetSearchCond(
+            null, null, LocalDate.of(9999, 12, 31), null, null, null, null
+        );
+
+        //when
+        OrderFacetResponse response = orderFacetService.searchOrders(condition, 0, 20);
+
+        //then
+        assertThat(response.dailyCounts()).hasSize(90);
+        assertThat(response.dailyCounts().keySet())
+            .startsWith(LocalDate.now().minusDays(89))
+            .endsWith(LocalDate.now());
+    }
+
+    @DisplayName("조회 시작일이 오늘 이후라면 예외가 발생한다.")
+    @Test
+    void searchOrdersFromAfterToday() {
+        //given
+        OrderFacetSearchCond condition = new OrderFacetSearchCond(
+            null, LocalDate.now().plusDays(1), LocalDate.of(9999, 12, 31), null, null, null, null
+        );
+
+        //when //then
+        assertThatThrownBy(() -> orderFacetService.searchOrders(condition, 0, 20))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("조회 시작일은 종료일보다 늦을 수 없습니다.");
+    }
+
+    private void awaitFinished(Long transitionId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (orderStatusTransitionService.getTransition(transitionId).status() == OrderStatusTransitionStatus.RUNNING
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private Product createProduct(String productNumber, ProductType type, int price) {
+        return Product.builder()
+            .productNumber(productNumber)
+            .type(type)
+            .sellingStatus(SELLING)
+            .name("메뉴 이름")
+            .price(price)
+            .build();
+    }
+}
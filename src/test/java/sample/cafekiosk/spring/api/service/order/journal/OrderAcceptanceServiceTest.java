@@ -0,0 +1,256 @@
+package sample.cafekiosk.spring.api.service.order.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderAcceptanceResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderAcceptanceServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private OrderService orderService;
+
+    @TempDir
+    private Path directory;
+
+    private OrderAcceptanceService orderAcceptanceService;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (orderAcceptanceService != null) {
+            orderAcceptanceService.stop();
+        }
+    }
+
+    @DisplayName("접수한 주문은 백그라운드에서 생성되고 토큰으로 처리 결과를 조회할 수 있다.")
+    @Test
+    void acceptOrder() throws Exception {
+        OrderResponse response = new OrderResponse(1L, 1000, LocalDateTime.now(), List.of());
+        given(orderService.createAcceptedOrder(any(), any(), any())).willReturn(response);
+        orderAcceptanceService = createService();
+        orderAcceptanceService.start();
+
+        OrderAcceptanceResponse accepted = orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now());
+
+        verify(orderService, timeout(1000)).createAcceptedOrder(eq(accepted.token()), any(), any());
+        assertThat(awaitProcessed(accepted.token()))
+            .extracting("status", "orderId")
+            .containsExactly(OrderAcceptanceStatus.APPLIED, 1L);
+    }
+
+    @DisplayName("재시작 시 처리 결과가 기록되지 않은 주문만 다시 적용한다.")
+    @Test
+    void replayUnappliedEntries() throws Exception {
+        Path path = directory.resolve("order-journal.log");
+        OrderCreateServiceRequest request = new OrderCreateServiceRequest(List.of("001"));
+        try (OrderJournal journal = OrderJournal.open(path, objectMapper, 8, entry -> {})) {
+            journal.append(OrderJournalEntry.accepted("applied", request, LocalDateTime.now()));
+            journal.append(OrderJournalEntry.applied("applied", 1L));
+            journal.append(OrderJournalEntry.accepted("unapplied", request, LocalDateTime.now()));
+        }
+
+        OrderResponse response = new OrderResponse(2L, 1000, LocalDateTime.now(), List.of());
+        given(orderService.createAcceptedOrder(eq("unapplied"), any(), any())).willReturn(response);
+        orderAcceptanceService = createService();
+        orderAcceptanceService.start();
+
+        verify(orderService, timeout(1000)).createAcceptedOrder(eq("unapplied"), any(), any());
+        verify(orderService, never()).createAcceptedOrder(eq("applied"), any(), any());
+        assertThat(orderAcceptanceService.getAcceptance("applied").status()).isEqualTo(OrderAcceptanceStatus.APPLIED);
+    }
+
+    @DisplayName("주문 생성이 요청 자체의 문제로 실패하면 실패 사유를 기록한다.")
+    @Test
+    void acceptOrderWithNoStock() throws Exception {
+        given(orderService.createAcceptedOrder(any(), any(), any()))
+            .willThrow(new IllegalArgumentException("재고가 부족한 상품이 있습니다."));
+        orderAcceptanceService = createService();
+        orderAcceptanceService.start();
+
+        OrderAcceptanceResponse accepted = orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now());
+
+        assertThat(awaitProcessed(accepted.token()))
+            .extracting("status", "message")
+            .containsExactly(OrderAcceptanceStatus.FAILED, "재고가 부족한 상품이 있습니다.");
+        assertThatThrownBy(() -> orderAcceptanceService.getAcceptance("unknown"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 주문 토큰입니다.");
+    }
+
+    @DisplayName("일시적이지 않은 오류로 max-attempts 번 실패하면 보류로 기록하고 다음 요청을 처리한다.")
+    @Test
+    void acceptOrderWithRepeatedFailure() throws Exception {
+        given(orderService.createAcceptedOrder(any(), any(), any()))
+            .willThrow(new IllegalStateException("DB 장애"))
+            .willThrow(new IllegalStateException("DB 장애"))
+            .willThrow(new IllegalStateException("DB 장애"))
+            .willReturn(new OrderResponse(1L, 1000, LocalDateTime.now(), List.of()));
+        orderAcceptanceService = createService(3, 10, 10, 0);
+        orderAcceptanceService.start();
+
+        OrderAcceptanceResponse poisoned = orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now());
+        OrderAcceptanceResponse next = orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now());
+
+        assertThat(awaitProcessed(poisoned.token()))
+            .extracting("status", "message")
+            .containsExactly(OrderAcceptanceStatus.DEAD_LETTER, "주문 처리가 보류되었습니다. 확인 후 다시 처리합니다.");
+        assertThat(awaitProcessed(next.token()).status()).isEqualTo(OrderAcceptanceStatus.APPLIED);
+        verify(orderService, times(3)).createAcceptedOrder(eq(poisoned.token()), any(), any());
+    }
+
+    @DisplayName("DB 장애처럼 일시적인 오류는 max-attempts 번을 넘어도 실패로 기록하지 않고 성공할 때까지 다시 시도한다.")
+    @Test
+    void acceptOrderWithTransientFailure() throws Exception {
+        CannotCreateTransactionException outage = new CannotCreateTransactionException("DB 장애");
+        given(orderService.createAcceptedOrder(any(), any(), any()))
+            .willThrow(outage, outage, outage, outage, outage)
+            .willReturn(new OrderResponse(1L, 1000, LocalDateTime.now(), List.of()));
+        orderAcceptanceService = createService(2, 10, 10, 0);
+        orderAcceptanceService.start();
+
+        OrderAcceptanceResponse accepted = orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now());
+
+        assertThat(awaitProcessed(accepted.token()))
+            .extracting("status", "orderId")
+            .containsExactly(OrderAcceptanceStatus.APPLIED, 1L);
+        verify(orderService, times(6)).createAcceptedOrder(eq(accepted.token()), any(), any());
+    }
+
+    @DisplayName("보류한 요청은 저널을 압축해도 남고 결과 조회에서도 밀려나지 않으며, 재시작 시 다시 적용한다.")
+    @Test
+    void replayDeadLetteredEntry() throws Exception {
+        given(orderService.createAcceptedOrder(any(), any(), any()))
+            .willThrow(new IllegalStateException("처리할 수 없는 요청"))
+            .willReturn(new OrderResponse(1L, 1000, LocalDateTime.now(), List.of()));
+        orderAcceptanceService = createService(1, 10, 1, 4);
+        orderAcceptanceService.start();
+
+        String deadLettered = orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now()).token();
+        assertThat(awaitProcessed(deadLettered).status()).isEqualTo(OrderAcceptanceStatus.DEAD_LETTER);
+        for (int i = 0; i < 3; i++) {
+            awaitProcessed(orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now()).token());
+        }
+        assertThat(orderAcceptanceService.getAcceptance(deadLettered).status()).isEqualTo(OrderAcceptanceStatus.DEAD_LETTER);
+        orderAcceptanceService.stop();
+
+        orderAcceptanceService = createService(1, 10, 1, 4);
+        orderAcceptanceService.start();
+
+        verify(orderService, timeout(1000).times(2)).createAcceptedOrder(eq(deadLettered), any(), any());
+        assertThat(awaitStatus(deadLettered, OrderAcceptanceStatus.APPLIED).orderId()).isEqualTo(1L);
+    }
+
+    @DisplayName("처리를 기다리는 요청이 max-pending 개라면 접수를 거절한다.")
+    @Test
+    void acceptOrderWhenPendingIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        given(orderService.createAcceptedOrder(any(), any(), any())).willAnswer(invocation -> {
+            release.await();
+            return new OrderResponse(1L, 1000, LocalDateTime.now(), List.of());
+        });
+        orderAcceptanceService = createService(5, 1, 10, 0);
+        orderAcceptanceService.start();
+        OrderAcceptanceResponse accepted = orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now());
+
+        assertThatThrownBy(() -> orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now()))
+            .isInstanceOf(OrderAcceptanceRejectedException.class)
+            .hasMessage("접수 대기 중인 주문이 많습니다. 잠시 후 다시 시도해 주세요.");
+
+        release.countDown();
+        assertThat(awaitProcessed(accepted.token()).status()).isEqualTo(OrderAcceptanceStatus.APPLIED);
+        assertThat(orderAcceptanceService.getPendingCount()).isZero();
+    }
+
+    @DisplayName("저널을 압축하면 처리가 끝나 조회할 수 없는 요청은 저널에서 사라지고, 재시작 시 남은 결과만 복구한다.")
+    @Test
+    void compactJournal() throws Exception {
+        given(orderService.createAcceptedOrder(any(), any(), any()))
+            .willReturn(new OrderResponse(1L, 1000, LocalDateTime.now(), List.of()));
+        orderAcceptanceService = createService(5, 10, 1, 4);
+        orderAcceptanceService.start();
+
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String token = orderAcceptanceService.accept(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.now()).token();
+            awaitProcessed(token);
+            tokens.add(token);
+        }
+        orderAcceptanceService.stop();
+
+        try (OrderJournal journal = OrderJournal.open(directory.resolve("order-journal.log"), objectMapper, 8, entry -> {})) {
+            assertThat(journal.readAll())
+                .hasSizeLessThan(6)
+                .extracting("token")
+                .doesNotContain(tokens.get(0));
+        }
+
+        orderAcceptanceService = createService(5, 10, 1, 4);
+        orderAcceptanceService.start();
+        assertThat(orderAcceptanceService.getAcceptance(tokens.get(2)).status()).isEqualTo(OrderAcceptanceStatus.APPLIED);
+        assertThatThrownBy(() -> orderAcceptanceService.getAcceptance(tokens.get(0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 주문 토큰입니다.");
+        verify(orderService, times(3)).createAcceptedOrder(any(), any(), any());
+    }
+
+    private OrderAcceptanceResponse awaitProcessed(String token) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            OrderAcceptanceResponse acceptance = orderAcceptanceService.getAcceptance(token);
+            if (acceptance.status() != OrderAcceptanceStatus.ACCEPTED) {
+                return acceptance;
+            }
+            Thread.sleep(10);
+        }
+        return orderAcceptanceService.getAcceptance(token);
+    }
+
+    private OrderAcceptanceResponse awaitStatus(String token, OrderAcceptanceStatus status) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            OrderAcceptanceResponse acceptance = orderAcceptanceService.getAcceptance(token);
+            if (acceptance.status() == status) {
+                return acceptance;
+            }
+            Thread.sleep(10);
+        }
+        return orderAcceptanceService.getAcceptance(token);
+    }
+
+    private OrderAcceptanceService createService() {
+        return createService(5, 100, 100, 0);
+    }
+
+    private OrderAcceptanceService createService(int maxAttempts, int maxPending, int maxFinished, int compactThreshold) {
+        return new OrderAcceptanceService(
+            orderService, objectMapper, directory.resolve("order-journal.log").toString(), 8, 1000, 10, 20,
+            maxAttempts, maxPending, maxFinished, compactThreshold
+        );
+    }
+}
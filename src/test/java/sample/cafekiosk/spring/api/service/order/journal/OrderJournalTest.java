@@ -0,0 +1,98 @@
+package sample.cafekiosk.spring.api.service.order.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class OrderJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    private Path directory;
+
+    @DisplayName("기록한 항목은 디스크에 반영된 순서대로 전달되고, 다시 열었을 때 모두 읽을 수 있다.")
+    @Test
+    void appendAndReadAll() throws Exception {
+        Path path = directory.resolve("order-journal.log");
+        List<String> durableTokens = new CopyOnWriteArrayList<>();
+        LocalDateTime registeredDateTime = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+        try (OrderJournal journal = OrderJournal.open(path, objectMapper, 2, entry -> durableTokens.add(entry.token()))) {
+            CompletableFuture.allOf(
+                journal.append(OrderJournalEntry.accepted("a", new OrderCreateServiceRequest(List.of("001", "002")), registeredDateTime)),
+                journal.append(OrderJournalEntry.accepted("b", new OrderCreateServiceRequest(List.of("003")), registeredDateTime)),
+                journal.append(OrderJournalEntry.applied("a", 1L))
+            ).join();
+        }
+
+        assertThat(durableTokens).containsExactly("a", "b", "a");
+        try (OrderJournal journal = OrderJournal.open(path, objectMapper, 2, entry -> {})) {
+            List<OrderJournalEntry> entries = journal.readAll();
+
+            assertThat(entries).hasSize(3)
+                .extracting("type", "token", "orderId")
+                .containsExactly(
+                    tuple(OrderJournalEntry.Type.ACCEPTED, "a", null),
+                    tuple(OrderJournalEntry.Type.ACCEPTED, "b", null),
+                    tuple(OrderJournalEntry.Type.APPLIED, "a", 1L)
+                );
+            assertThat(entries.get(0).productNumbers()).containsExactly("001", "002");
+            assertThat(entries.get(0).registeredDateTime()).isEqualTo(registeredDateTime);
+        }
+    }
+
+    @DisplayName("마지막 줄이 온전히 기록되지 못했다면 저널을 열 때 해당 줄을 잘라낸다.")
+    @Test
+    void truncateTornTail() throws Exception {
+        Path path = directory.resolve("order-journal.log");
+        try (OrderJournal journal = OrderJournal.open(path, objectMapper, 8, entry -> {})) {
+            journal.append(OrderJournalEntry.failed("a", "재고가 부족합니다.")).join();
+        }
+        Files.writeString(path, "{\"type\":\"ACCEPTED\",\"tok", StandardOpenOption.APPEND);
+
+        try (OrderJournal journal = OrderJournal.open(path, objectMapper, 8, entry -> {})) {
+            journal.append(OrderJournalEntry.applied("b", 2L)).join();
+
+            assertThat(journal.readAll())
+                .extracting("type", "token")
+                .containsExactly(
+                    tuple(OrderJournalEntry.Type.FAILED, "a"),
+                    tuple(OrderJournalEntry.Type.APPLIED, "b")
+                );
+        }
+    }
+
+    @DisplayName("기록 스레드가 오류로 멈추면 기다리던 기록 요청과 이후의 기록 요청이 모두 실패하고 저널을 사용할 수 없게 된다.")
+    @Test
+    void failPendingAppendsWhenWriterStops() throws Exception {
+        Path path = directory.resolve("order-journal.log");
+        try (OrderJournal journal = OrderJournal.open(path, objectMapper, 8, entry -> {
+            throw new IllegalStateException("onDurable 실패");
+        })) {
+            CompletableFuture<Void> first = journal.append(OrderJournalEntry.applied("a", 1L));
+
+            assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(journal.isUsable()).isFalse();
+            assertThat(journal.append(OrderJournalEntry.applied("b", 2L))).isCompletedExceptionally();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package sample.cafekiosk.spring.api.service.order.leaderboard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderLeaderboardTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderLeaderboard orderLeaderboard;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DailySalesSummaryRepository dailySalesSummaryRepository;
+
+    private Product americano;
+    private Product latte;
+
+    @BeforeEach
+    void setUp() {
+        orderLeaderboard.rebuild();
+
+        americano = createProduct("001", 4000);
+        latte = createProduct("002", 5000);
+        productRepository.saveAll(List.of(americano, latte));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderViewRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        dailySalesSummaryRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문이 생성되면 총 금액 상위 주문과 판매 수량 상위 상품 순위표에 바로 반영된다.")
+    @Test
+    void onOrderCreated() {
+        //given
+        LocalDateTime registeredDateTime = LocalDate.now().atTime(10, 0);
+
+        //when
+        Order order1 = orderRepository.save(Order.create(List.of(americano), registeredDateTime));
+        Order order2 = orderRepository.save(Order.create(List.of(americano, latte, latte), registeredDateTime));
+        Order order3 = orderRepository.save(Order.create(List.of(latte), registeredDateTime.minusDays(1)));
+
+        //then
+        assertThat(orderLeaderboard.getTopOrders(null, 2))
+            .extracting("orderId", "totalPrice")
+            .containsExactly(
+                tuple(order2.getId(), 14000),
+                tuple(order3.getId(), 5000)
+            );
+        assertThat(orderLeaderboard.getTopOrders(registeredDateTime.toLocalDate(), 10))
+            .extracting("orderId")
+            .containsExactly(order2.getId(), order1.getId());
+        assertThat(orderLeaderboard.getTopProducts(null, 10))
+            .extracting("productNumber", "quantity")
+            .containsExactly(
+                tuple("002", 3L),
+                tuple("001", 2L)
+            );
+    }
+
+    @DisplayName("순위표를 DB 의 주문 이력으로부터 다시 만들 수 있다.")
+    @Test
+    void rebuild() {
+        //given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Order order1 = orderRepository.save(Order.create(List.of(americano), registeredDateTime));
+        Order order2 = orderRepository.save(Order.create(List.of(americano, latte), registeredDateTime));
+
+        //when
+        orderLeaderboard.rebuild();
+
+        //then
+        assertThat(orderLeaderboard.getTopOrders(registeredDateTime.toLocalDate(), 10))
+            .extracting("orderId")
+            .containsExactly(order2.getId(), order1.getId());
+        assertThat(orderLeaderboard.getTopProducts(null, 1))
+            .extracting("productNumber", "quantity")
+            .containsExactly(tuple("001", 2L));
+    }
+
+    @DisplayName("설정된 최대 개수보다 많은 순위를 조회하면 예외가 발생한다.")
+    @Test
+    void getTopOrdersWithTooLargeK() {
+        assertThatThrownBy(() -> orderLeaderboard.getTopOrders(null, 101))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("조회할 순위 수는 1 이상 100 이하여야 합니다.");
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+            .productNumber(productNumber)
+            .type(HANDMADE)
+            .sellingStatus(SELLING)
+            .name("메뉴 이름")
+            .price(price)
+            .build();
+    }
+}
@@ -0,0 +1,52 @@
+package sample.cafekiosk.spring.api.service.order.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ProductSalesTopKTest {
+
+    @DisplayName("판매 수량이 늘어난 상품이 순위 밖에서 순위 안으로 들어올 수 있다.")
+    @Test
+    void addMovesProductIntoRanking() {
+        //given
+        ProductSalesTopK topK = new ProductSalesTopK(2);
+        topK.add("001", 3);
+        topK.add("002", 2);
+        topK.add("003", 1);
+
+        //when
+        topK.add("003", 2);
+
+        //then
+        assertThat(topK.top(2))
+            .extracting("productNumber", "quantity")
+            .containsExactly(
+                tuple("001", 3L),
+                tuple("003", 3L)
+            );
+    }
+
+    @DisplayName("순위 안의 상품은 판매 수량이 갱신되고, 요청한 개수만큼만 순위가 높은 순으로 조회된다.")
+    @Test
+    void addUpdatesRankedProduct() {
+        //given
+        ProductSalesTopK topK = new ProductSalesTopK(3);
+        topK.add("001", 1);
+        topK.add("002", 2);
+        topK.add("003", 3);
+
+        //when
+        topK.add("001", 5);
+
+        //then
+        assertThat(topK.top(2))
+            .extracting("productNumber", "quantity")
+            .containsExactly(
+                tuple("001", 6L),
+                tuple("003", 3L)
+            );
+    }
+}
@@ -0,0 +1,101 @@
+package sample.cafekiosk.spring.api.service.order.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.api.service.order.response.OrderSalesWindowResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.INIT;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.PAYMENT_COMPLETED;
+
+class OrderSalesWindowTest {
+
+    private final TestClock clock = new TestClock(Instant.parse("2025-04-15T10:00:00Z"));
+    private final OrderSalesWindow orderSalesWindow = new OrderSalesWindow(clock, 60);
+
+    @DisplayName("최근 N분 동안 주문 상태별로 기록된 주문 수와 금액을 조회할 수 있다.")
+    @Test
+    void getSales() {
+        //given
+        orderSalesWindow.record(INIT, 1, 4000);
+        clock.advance(Duration.ofMinutes(3));
+        orderSalesWindow.record(INIT, 1, 5000);
+        orderSalesWindow.record(PAYMENT_COMPLETED, 2, 9000);
+        clock.advance(Duration.ofSeconds(30));
+
+        //when
+        OrderSalesWindowResponse lastMinute = orderSalesWindow.getSales(1);
+        OrderSalesWindowResponse lastFiveMinutes = orderSalesWindow.getSales(5);
+
+        //then
+        assertThat(lastMinute.sales())
+            .extracting("orderStatus", "orderCount", "totalPrice")
+            .contains(
+                tuple(INIT, 1L, 5000L),
+                tuple(PAYMENT_COMPLETED, 2L, 9000L)
+            );
+        assertThat(lastFiveMinutes.sales())
+            .extracting("orderStatus", "orderCount", "totalPrice")
+            .contains(tuple(INIT, 2L, 9000L));
+    }
+
+    @DisplayName("한 바퀴가 지나 다시 사용되는 버킷은 이전 값을 비우고 기록한다.")
+    @Test
+    void recordAfterRingWrapsAround() {
+        //given
+        orderSalesWindow.record(INIT, 1, 4000);
+        clock.advance(Duration.ofHours(1));
+
+        //when
+        orderSalesWindow.record(INIT, 1, 5000);
+
+        //then
+        assertThat(orderSalesWindow.getSales(60).sales())
+            .extracting("orderStatus", "orderCount", "totalPrice")
+            .contains(tuple(INIT, 1L, 5000L));
+    }
+
+    @DisplayName("최대 기간보다 긴 기간을 조회하면 예외가 발생한다.")
+    @Test
+    void getSalesWithTooLongWindow() {
+        assertThatThrownBy(() -> orderSalesWindow.getSales(61))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("조회 기간은 1분 이상 60분 이하여야 합니다.");
+    }
+
+    private static class TestClock extends Clock {
+
+        private Instant instant;
+
+        private TestClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BlockProductNumberGeneratorTest {
+
+    @Mock
+    private ProductNumberBlockAllocator allocator;
+
+    @DisplayName("예약한 구간을 다 쓰기 전까지는 다시 예약하지 않고, 세 자리를 넘는 번호는 자릿수를 늘려 발급한다.")
+    @Test
+    void createProductNumber() {
+        given(allocator.reserve(3)).willReturn(998L, 1001L);
+        BlockProductNumberGenerator generator = new BlockProductNumberGenerator(allocator, 3, 3);
+
+        List<String> productNumbers = List.of(
+            generator.createProductNumber(),
+            generator.createProductNumber(),
+            generator.createProductNumber(),
+            generator.createProductNumber()
+        );
+
+        assertThat(productNumbers).containsExactly("998", "999", "1000", "1001");
+        verify(allocator, times(2)).reserve(3);
+    }
+
+    @DisplayName("여러 번호를 한 번에 발급할 때 필요한 만큼 한 번에 예약한다.")
+    @Test
+    void createProductNumbers() {
+        given(allocator.reserve(5)).willReturn(1L);
+        BlockProductNumberGenerator generator = new BlockProductNumberGenerator(allocator, 2, 3);
+
+        List<String> productNumbers = generator.createProductNumbers(5);
+
+        assertThat(productNumbers).containsExactly("001", "002", "003", "004", "005");
+        verify(allocator, times(1)).reserve(anyInt());
+    }
+
+    @DisplayName("동시에 발급해도 같은 번호가 발급되지 않는다.")
+    @Test
+    void createProductNumberConcurrently() throws InterruptedException {
+        AtomicLong counter = new AtomicLong(1);
+        given(allocator.reserve(anyInt())).willAnswer(invocation -> counter.getAndAdd(invocation.<Integer>getArgument(0)));
+        BlockProductNumberGenerator generator = new BlockProductNumberGenerator(allocator, 10, 3);
+
+        Set<String> productNumbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> productNumbers.add(generator.createProductNumber()));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(productNumbers).hasSize(1000);
+    }
+}
@@ -0,0 +1,121 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryProductCatalogTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private InMemoryProductCatalog productCatalog;
+
+    @BeforeEach
+    void setUp() {
+        productCatalog = new InMemoryProductCatalog(productRepository);
+        given(productRepository.findAll())
+            .willReturn(List.of(createProduct("001", HANDMADE, 1000), createProduct("002", BOTTLE, 3000)));
+        productCatalog.reload();
+    }
+
+    @DisplayName("적재된 상품은 DB 조회 없이 요청한 순서대로 찾는다.")
+    @Test
+    void getProducts() {
+        List<Product> products = productCatalog.getProducts(List.of("002", "001", "002"));
+
+        assertThat(products)
+            .extracting("productNumber", "price")
+            .containsExactly(
+                tuple("002", 3000),
+                tuple("001", 1000),
+                tuple("002", 3000)
+            );
+        verify(productRepository, never()).findAllByProductNumberIn(anyList());
+    }
+
+    @DisplayName("존재하지 않는 상품 번호가 포함되어 있다면 예외가 발생한다.")
+    @Test
+    void getProductsWithUnknownProductNumber() {
+        given(productRepository.findAllByProductNumberIn(List.of("999"))).willReturn(List.of());
+
+        assertThatThrownBy(() -> productCatalog.getProducts(List.of("001", "999")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 상품 번호가 포함되어 있습니다.");
+    }
+
+    @DisplayName("상품이 변경되면 해당 상품만 한 번의 조회로 다시 읽어 인덱스를 교체한다.")
+    @Test
+    void refresh() {
+        Product product = createProduct("003", BOTTLE, 5000);
+        given(productRepository.findAllByProductNumberIn(List.of("003"))).willReturn(List.of(product));
+
+        productCatalog.refresh(new ProductChangedEvent("003"));
+
+        assertThat(productCatalog.getProducts(List.of("003"))).containsExactly(product);
+        verify(productRepository, times(1)).findAllByProductNumberIn(anyList());
+    }
+
+    @DisplayName("상품 갱신은 DB 조회부터 교체까지 차례로 하므로 먼저 읽은 상품이 나중에 읽은 상품을 덮어쓰지 않는다.")
+    @Test
+    void refreshConcurrently() throws Exception {
+        //given
+        Product stale = createProduct("003", BOTTLE, 5000);
+        Product fresh = createProduct("003", BOTTLE, 6000);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(productRepository.findAllByProductNumberIn(List.of("003")))
+            .willAnswer(invocation -> {
+                reading.countDown();
+                release.await();
+                return List.of(stale);
+            })
+            .willReturn(List.of(fresh));
+
+        //when
+        Thread first = Thread.ofVirtual().start(() -> productCatalog.refresh(new ProductChangedEvent("003")));
+        reading.await();
+        Thread second = Thread.ofVirtual().start(() -> productCatalog.refresh(new ProductChangedEvent("003")));
+
+        //then
+        verify(productRepository, after(100).times(1)).findAllByProductNumberIn(anyList());
+        release.countDown();
+        first.join();
+        second.join();
+        assertThat(productCatalog.getProducts(List.of("003"))).containsExactly(fresh);
+    }
+
+    private static Product createProduct(String productNumber, ProductType type, int price) {
+        return Product.builder()
+            .productNumber(productNumber)
+            .type(type)
+            .sellingStatus(SELLING)
+            .name("메뉴 이름")
+            .price(price)
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package sample.cafekiosk.spring.api.service.product;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import sample.cafekiosk.spring.IntegrationTestSupport;
@@ -13,6 +14,7 @@ import sample.cafekiosk.spring.domain.product.ProductType;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.*;
 import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
@@ -25,6 +27,9 @@ class ProductServiceTest extends IntegrationTestSupport {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * 테스트 코드도 문서다. before method 는 테스트 코드를 해석하는데 혼돈을 줄 수 있기 때문에 지양하는 것이 좋다.
      * <p>
@@ -72,25 +77,89 @@ class ProductServiceTest extends IntegrationTestSupport {
             .contains("001", HANDMADE, SELLING, "유자차", 4500);
     }
 
-    @DisplayName("판매중인 상품들만 조회한다.")
+    @DisplayName("여러 상품을 한 번에 등록한다. 상품 번호는 가장 최근 상품의 상품 번호부터 차례로 발급된다.")
     @Test
-    void getSellingProducts() {
-        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
-        Product product2 = createProduct("002", HANDMADE, HOLD, "카페라떼", 4000);
-        Product product3 = createProduct("003", HANDMADE, STOP_SELLING, "팥 빙수", 7000);
+    void createProducts() {
+        Product product = createProduct("003", HANDMADE, SELLING, "아메리카노", 4000);
+        productRepository.save(product);
+
+        List<ProductResponse> responses = productService.createProducts(List.of(
+            ProductCreateServiceRequest.of(HANDMADE, SELLING, "유자차", 4500),
+            ProductCreateServiceRequest.of(HANDMADE, HOLD, "카페라떼", 4000)
+        ));
+
+        assertThat(responses).hasSize(2)
+            .extracting("productNumber", "sellingStatus", "name")
+            .containsExactly(
+                tuple("004", SELLING, "유자차"),
+                tuple("005", HOLD, "카페라떼")
+            );
+        assertThat(productRepository.findAll()).hasSize(3);
+    }
 
-        productRepository.saveAll(List.of(product1, product2, product3));
+    @DisplayName("판매 상품 목록에는 판매중인 상품들만 담긴다.")
+    @Test
+    void getSellingMenuWithSellingProducts() throws Exception {
+        productService.createProducts(List.of(
+            ProductCreateServiceRequest.of(HANDMADE, SELLING, "아메리카노", 4000),
+            ProductCreateServiceRequest.of(HANDMADE, HOLD, "카페라떼", 4000),
+            ProductCreateServiceRequest.of(HANDMADE, STOP_SELLING, "팥 빙수", 7000)
+        ));
 
-        List<ProductResponse> products = productService.getSellingProducts();
+        SellingMenu menu = productService.getSellingMenu();
 
+        List<ProductResponse> products = objectMapper.readerForListOf(ProductResponse.class)
+            .readValue(objectMapper.readTree(menu.json()).get("data"));
         assertThat(products).hasSize(2)
-            .extracting("productNumber", "type", "sellingStatus", "name", "price")
+            .extracting("type", "sellingStatus", "name", "price")
             .containsExactlyInAnyOrder(
-                tuple("001", HANDMADE, SELLING, "아메리카노", 4000),
-                tuple("002", HANDMADE, HOLD, "카페라떼", 4000)
+                tuple(HANDMADE, SELLING, "아메리카노", 4000),
+                tuple(HANDMADE, HOLD, "카페라떼", 4000)
             );
     }
 
+    @DisplayName("상품의 판매 상태를 변경한다.")
+    @Test
+    void changeSellingStatus() {
+        Product product = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        productRepository.save(product);
+
+        ProductResponse response = productService.changeSellingStatus("001", STOP_SELLING);
+
+        assertThat(response.sellingStatus()).isEqualTo(STOP_SELLING);
+        assertThat(productRepository.findAll()).hasSize(1)
+            .extracting("productNumber", "sellingStatus")
+            .containsExactly(tuple("001", STOP_SELLING));
+    }
+
+    @DisplayName("존재하지 않는 상품의 판매 상태를 변경하려는 경우 예외가 발생한다.")
+    @Test
+    void changeSellingStatusWithUnknownProductNumber() {
+        assertThatThrownBy(() -> productService.changeSellingStatus("999", HOLD))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 상품 번호입니다.");
+    }
+
+    @DisplayName("판매 상품 목록 스냅샷은 상품이 등록되거나 판매 상태가 변경될 때만 새로 만들어진다.")
+    @Test
+    void getSellingMenu() throws Exception {
+        ProductResponse created = productService.createProduct(ProductCreateServiceRequest.of(HANDMADE, SELLING, "아메리카노", 4000));
+
+        SellingMenu first = productService.getSellingMenu();
+        SellingMenu second = productService.getSellingMenu();
+
+        assertThat(second).isSameAs(first);
+        assertThat(objectMapper.readTree(first.json()).at("/data/0/productNumber").asText())
+            .isEqualTo(created.productNumber());
+
+        productService.changeSellingStatus(created.productNumber(), STOP_SELLING);
+        SellingMenu changed = productService.getSellingMenu();
+
+        assertThat(changed.version()).isGreaterThan(first.version());
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+        assertThat(objectMapper.readTree(changed.json()).get("data")).isEmpty();
+    }
+
     /**
      * 파라미터는 테스트에 직접적인 영향을 주는 것만 남겨두자
      * <p>
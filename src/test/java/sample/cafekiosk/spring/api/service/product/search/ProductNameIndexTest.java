@@ -0,0 +1,138 @@
+package sample.cafekiosk.spring.api.service.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.api.service.product.dto.response.ProductResponse;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.STOP_SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductNameIndexTest {
+
+    private ProductNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductNameIndex();
+        index.replaceAll(List.of(
+            createProduct("001", HANDMADE, SELLING, "아이스 아메리카노"),
+            createProduct("002", HANDMADE, SELLING, "아메리카노"),
+            createProduct("003", HANDMADE, STOP_SELLING, "카페라떼"),
+            createProduct("004", BOTTLE, SELLING, "콜드브루 라떼"),
+            createProduct("005", BOTTLE, SELLING, "Cafe Mocha")
+        ));
+    }
+
+    @DisplayName("이름이 검색어로 시작하는 상품을 먼저, 이름 중간에 검색어가 들어 있는 상품을 나중에 찾는다.")
+    @Test
+    void searchPrefixFirst() {
+        //when
+        List<ProductResponse> products = index.search("아메리", null, null, 10);
+
+        //then
+        assertThat(products)
+            .extracting("productNumber")
+            .containsExactly("002", "001");
+    }
+
+    @DisplayName("음절을 입력하는 도중의 검색어로도 상품을 찾는다.")
+    @Test
+    void searchWhileComposing() {
+        //when
+        List<ProductResponse> products = index.search("아멜", null, null, 10);
+
+        //then
+        assertThat(products)
+            .extracting("productNumber")
+            .containsExactly("002", "001");
+    }
+
+    @DisplayName("자음만 입력하면 초성으로 상품을 찾는다.")
+    @Test
+    void searchByChoseong() {
+        //when
+        List<ProductResponse> products = index.search("ㄹㄸ", null, null, 10);
+
+        //then
+        assertThat(products)
+            .extracting("productNumber")
+            .containsExactly("003", "004");
+    }
+
+    @DisplayName("공백과 영문 대소문자를 구분하지 않고 찾는다.")
+    @Test
+    void searchIgnoringWhitespaceAndCase() {
+        //when
+        List<ProductResponse> products = index.search("FE MO", null, null, 10);
+
+        //then
+        assertThat(products)
+            .extracting("productNumber")
+            .containsExactly("005");
+    }
+
+    @DisplayName("상품 타입과 판매 상태로 검색 결과를 거를 수 있다.")
+    @Test
+    void searchWithFilters() {
+        //when
+        List<ProductResponse> products = index.search("라떼", null, SELLING, 10);
+
+        //then
+        assertThat(products)
+            .extracting("productNumber")
+            .containsExactly("004");
+    }
+
+    @DisplayName("요청한 개수만큼만 찾는다.")
+    @Test
+    void searchWithLimit() {
+        //when
+        List<ProductResponse> products = index.search("ㅏ", null, null, 2);
+
+        //then
+        assertThat(products).hasSize(2);
+    }
+
+    @DisplayName("변경된 상품은 바뀐 이름으로만 찾을 수 있다.")
+    @Test
+    void put() {
+        //when
+        index.put(createProduct("002", HANDMADE, SELLING, "바닐라 라떼"));
+
+        //then
+        assertThat(index.search("아메리카노", null, null, 10))
+            .extracting("productNumber")
+            .containsExactly("001");
+        assertThat(index.search("바닐", null, null, 10))
+            .extracting("productNumber")
+            .containsExactly("002");
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @DisplayName("빈 슬롯이 많아져 색인을 다시 만들어도 같은 결과를 찾는다.")
+    @Test
+    void putManyTimes() {
+        //when
+        for (int i = 0; i < 2000; i++) {
+            index.put(createProduct("003", HANDMADE, SELLING, "카페라떼"));
+        }
+
+        //then
+        assertThat(index.search("라떼", null, null, 10))
+            .extracting("productNumber")
+            .containsExactly("004", "003");
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    private ProductResponse createProduct(String productNumber, ProductType type, ProductSellingStatus sellingStatus, String name) {
+        return new ProductResponse(null, productNumber, type, sellingStatus, name, 4000);
+    }
+}
@@ -0,0 +1,145 @@
+package sample.cafekiosk.spring.api.service.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.verify;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.HOLD;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchService productSearchService;
+
+    @BeforeEach
+    void setUp() {
+        productSearchService = new ProductSearchService(productRepository, 50);
+        given(productRepository.findAll())
+            .willReturn(List.of(createProduct("001", SELLING, "아메리카노"), createProduct("002", SELLING, "카페라떼")));
+        productSearchService.reload();
+    }
+
+    @DisplayName("상품이 변경되면 해당 상품만 다시 읽어 색인한다.")
+    @Test
+    void refresh() {
+        //given
+        given(productRepository.findAllByProductNumberIn(List.of("002")))
+            .willReturn(List.of(createProduct("002", HOLD, "카페라떼")));
+
+        //when
+        productSearchService.refresh(new ProductChangedEvent("002"));
+
+        //then
+        assertThat(productSearchService.searchProducts("카페", null, null, 10))
+            .extracting("productNumber", "sellingStatus")
+            .containsExactly(tuple("002", HOLD));
+    }
+
+    @DisplayName("변경된 상품이 더 이상 존재하지 않으면 색인에서 뺀다.")
+    @Test
+    void refreshWithDeletedProduct() {
+        //given
+        given(productRepository.findAllByProductNumberIn(List.of("001"))).willReturn(List.of());
+
+        //when
+        productSearchService.refresh(new ProductChangedEvent("001"));
+
+        //then
+        assertThat(productSearchService.searchProducts("아메", null, null, 10)).isEmpty();
+    }
+
+    @DisplayName("한 번에 등록된 상품들은 한 번의 조회로 함께 색인한다.")
+    @Test
+    void refreshWithManyProducts() {
+        //given
+        given(productRepository.findAllByProductNumberIn(List.of("003", "004")))
+            .willReturn(List.of(createProduct("003", SELLING, "카페모카"), createProduct("004", SELLING, "카페오레")));
+
+        //when
+        productSearchService.refresh(new ProductChangedEvent(List.of("003", "004")));
+
+        //then
+        assertThat(productSearchService.searchProducts("카페", null, null, 10))
+            .extracting("productNumber")
+            .containsExactlyInAnyOrder("002", "003", "004");
+    }
+
+    @DisplayName("상품 갱신은 DB 조회부터 색인 반영까지 차례로 하므로 먼저 읽은 상품이 나중에 읽은 상품을 덮어쓰지 않는다.")
+    @Test
+    void refreshConcurrently() throws Exception {
+        //given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(productRepository.findAllByProductNumberIn(List.of("002")))
+            .willAnswer(invocation -> {
+                reading.countDown();
+                release.await();
+                return List.of(createProduct("002", SELLING, "카페라떼"));
+            })
+            .willReturn(List.of(createProduct("002", HOLD, "카페라떼")));
+
+        //when
+        Thread first = Thread.ofVirtual().start(() -> productSearchService.refresh(new ProductChangedEvent("002")));
+        reading.await();
+        Thread second = Thread.ofVirtual().start(() -> productSearchService.refresh(new ProductChangedEvent("002")));
+
+        //then
+        verify(productRepository, after(100).times(1)).findAllByProductNumberIn(anyList());
+        assertThat(productSearchService.searchProducts("카페", null, null, 10))
+            .extracting("productNumber", "sellingStatus")
+            .containsExactly(tuple("002", SELLING));
+
+        release.countDown();
+        first.join();
+        second.join();
+        assertThat(productSearchService.searchProducts("카페", null, null, 10))
+            .extracting("productNumber", "sellingStatus")
+            .containsExactly(tuple("002", HOLD));
+    }
+
+    @DisplayName("검색어가 비어 있으면 빈 결과를 돌려준다.")
+    @Test
+    void searchProductsWithBlankQuery() {
+        assertThat(productSearchService.searchProducts(" ", null, null, 10)).isEmpty();
+    }
+
+    @DisplayName("검색 결과 수가 허용 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void searchProductsWithInvalidLimit() {
+        assertThatThrownBy(() -> productSearchService.searchProducts("아메", null, null, 51))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("검색 결과 수는 1 이상 50 이하여야 합니다.");
+    }
+
+    private Product createProduct(String productNumber, ProductSellingStatus sellingStatus, String name) {
+        return Product.builder()
+            .productNumber(productNumber)
+            .type(HANDMADE)
+            .sellingStatus(sellingStatus)
+            .name(name)
+            .price(4000)
+            .build();
+    }
+}
@@ -0,0 +1,128 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class ConditionalSqlStockDeductorTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    private ConditionalSqlStockDeductor stockDeductor;
+
+    @BeforeEach
+    void setUp() {
+        stockDeductor = new ConditionalSqlStockDeductor(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("조건부 UPDATE 로 여러 상품의 재고를 한 번에 차감한다.")
+    @Test
+    void deduct() {
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 2)));
+
+        stockDeductor.deduct(Map.of("001", 2, "002", 1));
+
+        assertThat(stockRepository.findAll())
+            .extracting("productNumber", "quantity")
+            .containsExactlyInAnyOrder(
+                tuple("001", 0),
+                tuple("002", 1)
+            );
+    }
+
+    @DisplayName("주문의 상품 순서와 관계없이 상품 번호 순으로 UPDATE 를 보낸다.")
+    @Test
+    void deductInProductNumberOrder() {
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 2), Stock.create("003", 2)));
+        JdbcTemplate spiedJdbcTemplate = spy(jdbcTemplate);
+        ConditionalSqlStockDeductor sortedDeductor = new ConditionalSqlStockDeductor(spiedJdbcTemplate);
+
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        quantities.put("003", 1);
+        quantities.put("001", 1);
+        quantities.put("002", 1);
+
+        sortedDeductor.deduct(quantities);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(spiedJdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue())
+            .extracting(args -> args[1])
+            .containsExactly("001", "002", "003");
+    }
+
+    @DisplayName("재고가 부족한 상품이 하나라도 있으면 예외가 발생하고 트랜잭션 안의 다른 차감도 롤백된다.")
+    @Test
+    void deductWithNoStock() {
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        quantities.put("001", 2);
+        quantities.put("002", 2);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> stockDeductor.deduct(quantities)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Quantity exceeds maximum quantity");
+
+        assertThat(stockRepository.findAll())
+            .extracting("productNumber", "quantity")
+            .containsExactlyInAnyOrder(
+                tuple("001", 2),
+                tuple("002", 1)
+            );
+    }
+
+    @DisplayName("여러 주문의 재고를 한 번에 차감하고 재고가 부족한 주문만 건너뛴다.")
+    @Test
+    void deductEach() {
+        stockRepository.saveAll(List.of(Stock.create("001", 3), Stock.create("002", 1)));
+
+        List<Boolean> results = stockDeductor.deductEach(List.of(
+            Map.of("001", 2, "002", 1),
+            Map.of("002", 1),
+            Map.of("001", 1)
+        ));
+
+        assertThat(results).containsExactly(true, false, true);
+        assertThat(stockRepository.findAll())
+            .extracting("productNumber", "quantity")
+            .containsExactlyInAnyOrder(
+                tuple("001", 0),
+                tuple("002", 0)
+            );
+    }
+}
@@ -0,0 +1,93 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockLedger stockLedger;
+
+    @BeforeEach
+    void setUp() {
+        stockLedger = new StockLedger(stockRepository, transactionManager);
+        given(stockRepository.findAll())
+            .willReturn(List.of(Stock.create("001", 5), Stock.create("002", 1)));
+        stockLedger.recover();
+    }
+
+    @DisplayName("DB 조회 없이 메모리에서 재고를 차감한다.")
+    @Test
+    void deduct() {
+        stockLedger.deduct(Map.of("001", 2));
+
+        assertThat(stockLedger.getQuantity("001")).isEqualTo(3);
+        verify(stockRepository, never()).findAllByProductNumberIn(anyList());
+    }
+
+    @DisplayName("재고가 부족한 상품이 있으면 같은 요청에서 먼저 차감한 재고도 되돌린다.")
+    @Test
+    void deductWithNoStock() {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        quantities.put("001", 2);
+        quantities.put("002", 2);
+
+        assertThatThrownBy(() -> stockLedger.deduct(quantities))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Quantity exceeds maximum quantity");
+
+        assertThat(stockLedger.getQuantity("001")).isEqualTo(5);
+        assertThat(stockLedger.getQuantity("002")).isEqualTo(1);
+    }
+
+    @DisplayName("flush 주기 동안 쌓인 차감분은 상품별로 합쳐서 한 번에 반영한다.")
+    @Test
+    void flush() {
+        stockLedger.deduct(Map.of("001", 1));
+        stockLedger.deduct(Map.of("001", 2));
+
+        stockLedger.flush();
+        stockLedger.flush();
+
+        verify(stockRepository, times(1)).deductQuantity("001", 3);
+        verify(stockRepository, never()).deductQuantity(eq("002"), anyInt());
+    }
+
+    @DisplayName("반영에 실패한 차감분은 다음 flush 때 다시 반영한다.")
+    @Test
+    void flushRetry() {
+        stockLedger.deduct(Map.of("001", 2));
+        given(stockRepository.deductQuantity(anyString(), anyInt()))
+            .willThrow(new IllegalStateException())
+            .willReturn(1);
+
+        stockLedger.flush();
+        stockLedger.flush();
+
+        verify(stockRepository, times(2)).deductQuantity("001", 2);
+    }
+}
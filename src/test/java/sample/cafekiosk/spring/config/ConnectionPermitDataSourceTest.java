@@ -0,0 +1,62 @@
+package sample.cafekiosk.spring.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionPermitDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @DisplayName("허가 수만큼 커넥션을 빌려주고, 커넥션을 닫으면 허가를 돌려받는다.")
+    @Test
+    void getConnection() throws SQLException {
+        given(targetDataSource.getConnection()).willReturn(connection);
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(targetDataSource, 1, 10);
+
+        Connection borrowed = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isZero();
+
+        borrowed.close();
+        borrowed.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @DisplayName("대기 시간 안에 허가를 받지 못하면 예외가 발생한다.")
+    @Test
+    void getConnectionWithTimeout() throws SQLException {
+        given(targetDataSource.getConnection()).willReturn(connection);
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(targetDataSource, 1, 10);
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+            .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @DisplayName("커넥션 풀에서 커넥션을 얻지 못하면 허가를 바로 돌려준다.")
+    @Test
+    void getConnectionWithPoolFailure() throws SQLException {
+        given(targetDataSource.getConnection()).willThrow(new SQLException("pool exhausted"));
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(targetDataSource, 1, 10);
+
+        assertThatThrownBy(dataSource::getConnection)
+            .isInstanceOf(SQLException.class);
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,87 @@
+package sample.cafekiosk.spring.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 메모리 DB 를 primary / replica 로 두고 복제 대역으로 데이터를 옮긴다.
+ */
+class ReplicaLagMonitorTest {
+
+    private static final Instant NOW = Instant.parse("2025-04-15T10:00:00Z");
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicationRoutingDataSource routingDataSource;
+    private H2ReplicationStandIn standIn;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        routingDataSource = new ReplicationRoutingDataSource(primary, Map.of("replica-0", replica));
+        standIn = new H2ReplicationStandIn(primary, List.of(replica));
+
+        new JdbcTemplate(primary).execute("CREATE TABLE product (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+        new JdbcTemplate(primary).update("INSERT INTO product (id, name) VALUES (1, '아메리카노')");
+    }
+
+    @DisplayName("복제 대역은 primary 의 스키마와 데이터를 replica 로 복사한다.")
+    @Test
+    void replicate() {
+        //given
+        standIn.replicate();
+        new JdbcTemplate(primary).update("INSERT INTO product (id, name) VALUES (2, '카페라떼')");
+
+        //when
+        standIn.replicate();
+
+        //then
+        assertThat(new JdbcTemplate(replica).queryForList("SELECT name FROM product ORDER BY id", String.class))
+            .containsExactly("아메리카노", "카페라떼");
+    }
+
+    @DisplayName("replica 에 복제된 heartbeat 가 허용치 안이면 사용하고, 허용치를 넘으면 제외한다.")
+    @Test
+    void check() {
+        //given
+        ReplicaLagMonitor monitor = monitorAt(NOW);
+        monitor.createHeartbeatTable();
+        monitor.check();
+        assertThat(routingDataSource.isHealthy("replica-0")).isFalse();
+
+        standIn.replicate();
+
+        //when
+        monitorAt(NOW.plusMillis(500)).check();
+
+        //then
+        assertThat(routingDataSource.isHealthy("replica-0")).isTrue();
+
+        ReplicaLagMonitor lagging = monitorAt(NOW.plusMillis(5000));
+        lagging.check();
+        assertThat(routingDataSource.isHealthy("replica-0")).isFalse();
+        assertThat(lagging.getLags()).containsEntry("replica-0", 5000L);
+    }
+
+    private ReplicaLagMonitor monitorAt(Instant instant) {
+        return new ReplicaLagMonitor(primary, routingDataSource, 1000, Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
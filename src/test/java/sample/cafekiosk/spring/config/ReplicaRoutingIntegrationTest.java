@@ -0,0 +1,134 @@
+package sample.cafekiosk.spring.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderViewRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.statistics.DailySalesSummaryRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+/**
+ * replica 프로필에서 읽기 전용 서비스 호출이 LazyConnectionDataSourceProxy 를 거쳐 replica 에서 실행되는지 확인한다.
+ * <p>
+ * 복사는 테스트에서 직접 하므로, 복사하지 않은 주문이 보이지 않으면 replica 에서 읽은 것이다.
+ */
+@ActiveProfiles("replica")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replicaRoutingPrimary;DB_CLOSE_DELAY=-1",
+    "cafekiosk.datasource.replica.urls=jdbc:h2:mem:replicaRoutingReplica;DB_CLOSE_DELAY=-1",
+    "cafekiosk.datasource.replica.stand-in.enabled=false",
+    "cafekiosk.datasource.replica.max-lag-ms=3600000",
+    "cafekiosk.datasource.replica.lag-check-interval-ms=3600000"
+})
+class ReplicaRoutingIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private DailySalesSummaryRepository dailySalesSummaryRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ReplicationRoutingDataSource replicationRoutingDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderViewRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        dailySalesSummaryRepository.deleteAllInBatch();
+        replicate();
+    }
+
+    @DisplayName("읽기 전용 주문 조회는 replica 에서 실행되어 아직 복제되지 않은 주문은 보이지 않고, 복제된 뒤에 조회된다.")
+    @Test
+    void getOrderReadsFromReplica() {
+        //given
+        productRepository.save(createProduct("001", 1000));
+        replicate();
+        replicaLagMonitor.check();
+        assertThat(replicationRoutingDataSource.isHealthy("replica-0")).isTrue();
+
+        OrderResponse created = orderService.createOrder(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.of(2025, 4, 15, 10, 0));
+
+        //when //then
+        assertThatThrownBy(() -> orderService.getOrder(created.id()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("존재하지 않는 주문입니다.");
+
+        replicate();
+        assertThat(orderService.getOrder(created.id())).isEqualTo(created);
+    }
+
+    @DisplayName("read-your-writes 가 설정되면 읽기 전용 주문 조회도 primary 에서 실행되어 방금 만든 주문이 조회된다.")
+    @Test
+    void getOrderWithReadYourWrites() {
+        //given
+        productRepository.save(createProduct("001", 1000));
+        replicate();
+        replicaLagMonitor.check();
+
+        OrderResponse created = orderService.createOrder(new OrderCreateServiceRequest(List.of("001")), LocalDateTime.of(2025, 4, 15, 10, 0));
+
+        //when
+        ReadYourWrites.require();
+
+        //then
+        assertThat(orderService.getOrder(created.id())).isEqualTo(created);
+    }
+
+    private void replicate() {
+        new H2ReplicationStandIn(primaryDataSource, replicationRoutingDataSource.getReplicas().values()).replicate();
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+            .productNumber(productNumber)
+            .type(HANDMADE)
+            .sellingStatus(SELLING)
+            .name("메뉴 이름")
+            .price(price)
+            .build();
+    }
+}
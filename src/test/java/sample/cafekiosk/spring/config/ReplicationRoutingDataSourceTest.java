@@ -0,0 +1,118 @@
+package sample.cafekiosk.spring.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    @Mock
+    private Connection replica2Connection;
+
+    private ReplicationRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica1.getConnection()).thenReturn(replica1Connection);
+        lenient().when(replica2.getConnection()).thenReturn(replica2Connection);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica1);
+        replicas.put("replica-1", replica2);
+        dataSource = new ReplicationRoutingDataSource(primary, replicas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 사용할 수 있는 replica 를 돌아가며 사용한다.")
+    @Test
+    void readOnlyTransactionUsesReplicas() throws SQLException {
+        //given
+        dataSource.markHealthy("replica-0", true);
+        dataSource.markHealthy("replica-1", true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when //then
+        assertThat(dataSource.getConnection()).isSameAs(replica1Connection);
+        assertThat(dataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(dataSource.getConnection()).isSameAs(replica1Connection);
+    }
+
+    @DisplayName("읽기 전용이 아닌 트랜잭션은 primary 를 사용한다.")
+    @Test
+    void writeTransactionUsesPrimary() throws SQLException {
+        //given
+        dataSource.markHealthy("replica-0", true);
+
+        //when //then
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @DisplayName("복제 지연으로 제외된 replica 는 건너뛰고, 사용할 수 있는 replica 가 없으면 primary 에서 읽는다.")
+    @Test
+    void readOnlyTransactionSkipsLaggingReplicas() throws SQLException {
+        //given
+        dataSource.markHealthy("replica-0", true);
+        dataSource.markHealthy("replica-1", true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when
+        dataSource.markHealthy("replica-0", false);
+
+        //then
+        assertThat(dataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(dataSource.getConnection()).isSameAs(replica2Connection);
+
+        dataSource.markHealthy("replica-1", false);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @DisplayName("read-your-writes 가 설정된 스레드는 읽기 전용 트랜잭션도 primary 에서 읽는다.")
+    @Test
+    void readYourWrites() throws SQLException {
+        //given
+        dataSource.markHealthy("replica-0", true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when
+        ReadYourWrites.require();
+
+        //then
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+}
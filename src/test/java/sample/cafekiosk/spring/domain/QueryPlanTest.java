@@ -0,0 +1,137 @@
+package sample.cafekiosk.spring.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderSearchCond;
+import sample.cafekiosk.spring.domain.order.OrderCursor;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.order.OrderStatus.PAYMENT_COMPLETED;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.forDisplay;
+
+/**
+ * 조회 쿼리가 인덱스를 타는지 H2 EXPLAIN 으로 확인한다.
+ * <p>
+ * 리포지토리 메서드를 실행하면서 Hibernate 가 만든 SQL 을 모으고, 각 SQL 의 실행 계획에 전체 스캔(tableScan)이 있으면 실패한다.
+ * max() 처럼 인덱스 끝 값을 바로 읽는 경우(direct lookup)는 허용한다.
+ * <p>
+ * 다음 쿼리는 전체를 읽는 것이 목적이므로 검사하지 않는다.
+ * - findAll, OrderQueryRepositoryImpl#findOrderDtos (전체 조회)
+ * - OrderQueryRepositoryImpl#searchBy 의 조건이 모두 없는 경우
+ * - ProductRepository#findMaxNumericProductNumber (상품 번호 카운터를 만들 때 한 번만 실행)
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=sample.cafekiosk.spring.domain.StatementCollector")
+class QueryPlanTest extends IntegrationTestSupport {
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("tableScan \\*/(?!\\s*/\\* direct lookup \\*/)");
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 4, 17, 0, 0);
+    private static final LocalDateTime END = START.plusDays(1);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("상품 조회 쿼리는 전체 스캔을 하지 않는다.")
+    @Test
+    void productQueries() {
+        assertNoTableScan(() -> productRepository.findAllBySellingStatusIn(forDisplay()));
+        assertNoTableScan(() -> productRepository.findAllByProductNumberIn(List.of("001", "002")));
+        assertNoTableScan(() -> productRepository.findByProductNumber("001"));
+        assertNoTableScan(() -> productRepository.findLatestProductNumber());
+    }
+
+    @DisplayName("재고 조회와 차감 쿼리는 전체 스캔을 하지 않는다.")
+    @Test
+    void stockQueries() {
+        assertNoTableScan(() -> stockRepository.findAllByProductNumberIn(List.of("001", "002")));
+        assertNoTableScan(() -> stockRepository.deductQuantity("001", 1));
+    }
+
+    @DisplayName("주문 조회와 변경 쿼리는 전체 스캔을 하지 않는다.")
+    @Test
+    void orderQueries() {
+        assertNoTableScan(() -> orderRepository.findOrdersBy(START, END, PAYMENT_COMPLETED));
+        assertNoTableScan(() -> orderRepository.searchById(1L));
+        assertNoTableScan(() -> orderRepository.searchProductsBy(1L));
+        assertNoTableScan(() -> orderRepository.searchBy(PAYMENT_COMPLETED, START));
+        assertNoTableScan(() -> orderRepository.searchBy(PAYMENT_COMPLETED, null));
+        assertNoTableScan(() -> orderRepository.searchBy(null, START));
+        assertNoTableScan(() -> orderRepository.findOrderDtosAfter(1L, 100));
+        assertNoTableScan(() -> orderRepository.findHighestTotalPriceOrder());
+        assertNoTableScan(() -> orderRepository.calculateTotalPriceBy(PAYMENT_COMPLETED));
+        assertNoTableScan(() -> orderRepository.findOrderIdsToChangeStatus(PAYMENT_COMPLETED, START, END, 1L, 500));
+        assertNoTableScan(() -> orderRepository.updateOrderStatusByIds(PAYMENT_COMPLETED, List.of(1L, 2L)));
+        assertNoTableScan(() -> orderRepository.findOrdersPage(
+            new OrderSearchCond(PAYMENT_COMPLETED, START),
+            PageRequest.of(0, 10, Sort.by("registeredDateTime"))
+        ));
+        assertNoTableScan(() -> orderRepository.findOrdersAfter(
+            new OrderSearchCond(PAYMENT_COMPLETED, null), new OrderCursor(START, 1L), 10
+        ));
+        assertNoTableScan(() -> orderRepository.findOrdersAfter(
+            new OrderSearchCond(null, null), new OrderCursor(START, 1L), 10
+        ));
+    }
+
+    private void assertNoTableScan(Runnable query) {
+        StatementCollector.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        });
+
+        List<String> statements = StatementCollector.drain();
+        assertThat(statements).isNotEmpty();
+        statements.forEach(sql ->
+            assertThat(explain(sql)).as(sql).doesNotContainPattern(TABLE_SCAN)
+        );
+    }
+
+    /**
+     * 실행 계획만 필요하므로 파라미터는 모두 null 로 채운다.
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.domain;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 모아둔다. (hibernate.session_factory.statement_inspector)
+ */
+public class StatementCollector implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    public static List<String> drain() {
+        List<String> drained = new ArrayList<>(statements);
+        statements.clear();
+        return drained;
+    }
+}
@@ -1,6 +1,5 @@
 package sample.cafekiosk.spring.domain.order;
 
-import jakarta.persistence.EntityManager;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,9 +26,11 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static sample.cafekiosk.spring.domain.order.OrderStatus.*;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.STOP_SELLING;
 import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
 
 @ActiveProfiles("test")
@@ -36,9 +38,6 @@ import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
 @SpringBootTest
 public class OrderQueryRepositoryTest {
 
-    @Autowired
-    private EntityManager em;
-
     @Autowired
     private ProductRepository productRepository;
 
@@ -184,6 +183,99 @@ public class OrderQueryRepositoryTest {
             );
     }
 
+    @DisplayName("주문을 id 순으로 정해진 개수씩 나눠 DTO 로 조회하고, 같은 chunk 의 같은 상품은 하나의 응답 객체를 공유한다.")
+    @Test
+    void findOrderDtosAfter() {
+        //given
+        Order order1 = createOrder(List.of(americano, cafeLatte), PAYMENT_COMPLETED, ORDER_DATE_1);
+        Order order2 = createOrder(List.of(americano), PAYMENT_COMPLETED, ORDER_DATE_2);
+        Order order3 = createOrder(List.of(cappuccino), PAYMENT_COMPLETED, ORDER_DATE_2);
+        orderRepository.saveAll(List.of(order1, order2, order3));
+
+        //when
+        List<OrderResponse> first = orderRepository.findOrderDtosAfter(null, 2);
+        List<OrderResponse> second = orderRepository.findOrderDtosAfter(first.get(1).id(), 2);
+
+        //then
+        assertThat(first).extracting("id", "totalPrice")
+            .containsExactly(
+                tuple(order1.getId(), 12_000),
+                tuple(order2.getId(), 5_000)
+            );
+        assertThat(first.get(0).products()).extracting("productNumber")
+            .containsExactly("001", "002");
+        assertThat(first.get(1).products().get(0)).isSameAs(first.get(0).products().get(0));
+
+        assertThat(second).extracting("id")
+            .containsExactly(order3.getId());
+    }
+
+    @DisplayName("주문 뒤에 상품의 판매 상태가 바뀌어도 모든 주문 조회 경로가 같은 주문 상품을 응답한다.")
+    @Test
+    void findOrdersFromSameSourceAfterProductChanged() {
+        //given
+        Order order = createOrder(List.of(americano, cafeLatte), PAYMENT_COMPLETED, ORDER_DATE_1);
+        orderRepository.save(order);
+        americano.changeSellingStatus(STOP_SELLING);
+
+        OrderSearchCond condition = new OrderSearchCond(null, null);
+
+        //when
+        List<OrderResponse> responses = List.of(
+            orderRepository.findOrderDtos().get(0),
+            orderRepository.findOrderDtosAfter(null, 10).get(0),
+            orderRepository.findOrdersPage(condition, PageRequest.of(0, 10)).getContent().get(0),
+            orderRepository.findOrdersSlice(condition, PageRequest.of(0, 10)).getContent().get(0),
+            orderRepository.findOrdersAfter(condition, null, 10).getContent().get(0),
+            orderRepository.findOrderResponsesByIds(List.of(order.getId())).get(0)
+        );
+
+        //then
+        assertThat(responses).allSatisfy(response -> assertThat(response).isEqualTo(responses.get(0)));
+        assertThat(responses.get(0).products())
+            .extracting("productNumber", "sellingStatus", "name", "price")
+            .containsExactly(
+                tuple("001", null, "아메리카노", 5000),
+                tuple("002", null, "카페라떼", 7000)
+            );
+    }
+
+    @DisplayName("모든 주문을 chunk 단위로 나눠 읽는 Stream 으로 조회할 수 있다.")
+    @Test
+    void streamOrderDtos() {
+        //given
+        List<Order> orders = List.of(
+            createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_1),
+            createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_1),
+            createOrder(products, CANCELED, ORDER_DATE_2),
+            createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_2),
+            createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_2)
+        );
+        orderRepository.saveAll(orders);
+
+        //when
+        List<OrderResponse> responses;
+        try (Stream<OrderResponse> stream = orderRepository.streamOrderDtos(2)) {
+            responses = stream.toList();
+        }
+
+        //then
+        assertThat(responses).extracting("id")
+            .containsExactlyElementsOf(orders.stream().map(Order::getId).toList());
+        assertThat(responses).allSatisfy(response -> assertThat(response.products()).hasSize(3));
+    }
+
+    @DisplayName("chunk 크기가 1 보다 작으면 예외가 발생한다.")
+    @Test
+    void streamOrderDtosWithInvalidChunkSize() {
+        assertThatThrownBy(() -> orderRepository.streamOrderDtos(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("chunk 크기는 1 이상이어야 합니다.");
+        assertThatThrownBy(() -> orderRepository.findOrderDtosAfter(null, -1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("chunk 크기는 1 이상이어야 합니다.");
+    }
+
     // fetchJoin() 적용해야할까?
     @DisplayName("주문 금액이 가장 큰 주문을 조회할 수 있다.")
     @Test
@@ -224,35 +316,6 @@ public class OrderQueryRepositoryTest {
         assertThat(totalPrice).isEqualTo(28_000);
     }
 
-    @DisplayName("특정 등록날짜 이내의 주문 상태를 한번에 변경할 수 있다.")
-    @Test
-    void updateOrderStatusBy() {
-        //given
-        List<Product> products1 = List.of(americano, cafeLatte);
-        List<Product> products2 = List.of(cafeLatte, cappuccino);
-
-        Order order1 = createOrder(products1, PAYMENT_COMPLETED, ORDER_DATE_1);
-        Order order2 = createOrder(products2, PAYMENT_COMPLETED, ORDER_DATE_2);
-        Order order3 = createOrder(products2, CANCELED, ORDER_DATE_1);
-        orderRepository.saveAll(List.of(order1, order2, order3));
-
-        //when
-        orderRepository.updateOrderStatusBetween(COMPLETED, ORDER_DATE_1, ORDER_DATE_2);
-
-        em.flush();
-        em.clear();
-
-        List<Order> orders = orderRepository.searchBy(COMPLETED, null);
-
-        //then
-        assertThat(orders).hasSize(2)
-            .extracting("orderStatus", "registeredDateTime")
-            .containsExactlyInAnyOrder(
-                tuple(COMPLETED, ORDER_DATE_1),
-                tuple(COMPLETED, ORDER_DATE_1)
-            );
-    }
-
     // 페이징 처리
     @DisplayName("주문을 특정 갯수만큼만 조회할 수 있다.")
     @Test
@@ -287,6 +350,62 @@ public class OrderQueryRepositoryTest {
         assertThat(orderPage.getSize()).isEqualTo(2);
     }
 
+    @DisplayName("cursor 다음 주문을 최근 주문부터 (등록 시각, id) 순으로 조회할 수 있다.")
+    @Test
+    void findOrdersAfter() {
+        //given
+        Order order1 = createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_1);
+        Order order2 = createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_2);
+        Order order3 = createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_1);
+        Order order4 = createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_2);
+        Order order5 = createOrder(products, CANCELED, ORDER_DATE_2);
+        orderRepository.saveAll(List.of(order1, order2, order3, order4, order5));
+
+        OrderSearchCond condition = new OrderSearchCond(PAYMENT_COMPLETED, null);
+
+        //when
+        Slice<OrderResponse> first = orderRepository.findOrdersAfter(condition, null, 3);
+        OrderResponse last = first.getContent().get(2);
+        Slice<OrderResponse> second = orderRepository.findOrdersAfter(
+            condition, new OrderCursor(last.registeredDateTime(), last.id()), 3
+        );
+
+        //then
+        assertThat(first.getContent()).extracting("id")
+            .containsExactly(order4.getId(), order2.getId(), order3.getId());
+        assertThat(first.hasNext()).isTrue();
+
+        assertThat(second.getContent()).extracting("id")
+            .containsExactly(order1.getId());
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @DisplayName("전체 개수 없이 다음 페이지 여부만 포함한 주문 목록을 조회할 수 있다.")
+    @Test
+    void findOrdersSlice() {
+        //given
+        Order order1 = createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_1);
+        Order order2 = createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_2);
+        Order order3 = createOrder(products, PAYMENT_COMPLETED, ORDER_DATE_1);
+        orderRepository.saveAll(List.of(order1, order2, order3));
+
+        OrderSearchCond condition = new OrderSearchCond(null, null);
+
+        //when
+        Slice<OrderResponse> first = orderRepository.findOrdersSlice(condition, PageRequest.of(0, 2, Sort.by("registeredDateTime")));
+        Slice<OrderResponse> second = orderRepository.findOrdersSlice(condition, PageRequest.of(1, 2, Sort.by("registeredDateTime")));
+
+        //then
+        assertThat(first.getContent()).extracting("id")
+            .containsExactly(order1.getId(), order3.getId());
+        assertThat(first.hasNext()).isTrue();
+
+        assertThat(second.getContent()).extracting("id")
+            .containsExactly(order2.getId());
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent().get(0).products()).hasSize(3);
+    }
+
     private static Product createProduct(String name, String productNumber, int price) {
         return Product.builder()
             .name(name)
@@ -0,0 +1,27 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusTransitionTest {
+
+    @DisplayName("실패 메시지가 컬럼 길이보다 길면 잘라서 기록한다.")
+    @Test
+    void failWithLongMessage() {
+        OrderStatusTransition transition = OrderStatusTransition.builder()
+            .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+            .startDateTime(LocalDateTime.of(2025, 4, 15, 0, 0))
+            .endDateTime(LocalDateTime.of(2025, 4, 16, 0, 0))
+            .chunkSize(500)
+            .build();
+
+        transition.fail("x".repeat(1000));
+
+        assertThat(transition.getStatus()).isEqualTo(OrderStatusTransitionStatus.FAILED);
+        assertThat(transition.getFailureMessage()).hasSize(255);
+    }
+}